@@ -0,0 +1,65 @@
+package com.kozubek.commonapplication.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one: the first caller runs the loader, callers arriving while it
+ * is in flight wait for and share its result or exception. Nothing is cached - once the call completes, the next
+ * caller for the key runs the loader again.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    public V execute(final K key, final Supplier<V> loader) {
+        final CompletableFuture<V> call = new CompletableFuture<>();
+        final CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            collapsed.increment();
+            return await(running);
+        }
+
+        executed.increment();
+        try {
+            final V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (final RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    // liczba wywołań loadera
+    public long executed() {
+        return executed.sum();
+    }
+
+    // liczba wywołań, które dołączyły do trwającego już wywołania zamiast uruchamiać własne
+    public long collapsed() {
+        return collapsed.sum();
+    }
+
+    private static <V> V await(final CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.kozubek.commonapplication.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight Unit Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 50;
+
+    @Test
+    @DisplayName("Should run the loader once for concurrent callers of the same key")
+    void shouldCollapseConcurrentCallers() throws Exception {
+        // given
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        final List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("product", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "projection";
+                })));
+            }
+            waitUntil(() -> singleFlight.collapsed() == CALLERS - 1);
+            release.countDown();
+        }
+
+        // then
+        for (final Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("projection");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.executed()).isEqualTo(1);
+        assertThat(singleFlight.collapsed()).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("Should share the loader exception with every waiting caller")
+    void shouldShareException() throws Exception {
+        // given
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final IllegalStateException failure = new IllegalStateException("not found");
+
+        // when
+        final Future<String> leader;
+        final Future<String> follower;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            leader = executor.submit(() -> singleFlight.execute("product", () -> {
+                await(release);
+                throw failure;
+            }));
+            waitUntil(() -> singleFlight.executed() == 1);
+            follower = executor.submit(() -> singleFlight.execute("product", () -> "unexpected"));
+            waitUntil(() -> singleFlight.collapsed() == 1);
+            release.countDown();
+        }
+
+        // then
+        assertThatThrownBy(leader::get).hasCause(failure);
+        assertThatThrownBy(follower::get).hasCause(failure);
+    }
+
+    @Test
+    @DisplayName("Should run the loader again once the previous call completed")
+    void shouldNotCacheCompletedCalls() {
+        // given
+        final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        final AtomicInteger loads = new AtomicInteger();
+
+        // when
+        final int first = singleFlight.execute("product", loads::incrementAndGet);
+        final int second = singleFlight.execute("product", loads::incrementAndGet);
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(singleFlight.collapsed()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not collapse calls for different keys")
+    void shouldKeepKeysApart() throws Exception {
+        // given
+        final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        final Future<String> first;
+        final Future<String> second;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            first = executor.submit(() -> singleFlight.execute("a", () -> {
+                await(release);
+                return "a";
+            }));
+            second = executor.submit(() -> singleFlight.execute("b", () -> {
+                await(release);
+                return "b";
+            }));
+            waitUntil(() -> singleFlight.executed() == 2);
+            release.countDown();
+        }
+
+        // then
+        assertThat(first.get()).isEqualTo("a");
+        assertThat(second.get()).isEqualTo("b");
+        assertThat(singleFlight.collapsed()).isZero();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Test latch was not released");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Condition not met in time");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.kozubek.ddd.annotation.mapping;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks an interface whose abstract methods are implemented at compile time by {@code <Name>Impl}, calling
+ * target constructors directly. Default methods are left as written and may be used by generated ones.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface Mapper {
+
+    /**
+     * Annotates the generated implementation with Spring's {@code @Component}.
+     */
+    boolean component() default false;
+}
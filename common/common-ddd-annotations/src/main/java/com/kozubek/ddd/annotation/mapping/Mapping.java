@@ -0,0 +1,20 @@
+package com.kozubek.ddd.annotation.mapping;
+
+import java.lang.annotation.*;
+
+/**
+ * Overrides how one constructor parameter of the target is filled: from a differently named source property,
+ * or not at all ({@code ignore}, giving {@code null} / zero).
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+@Repeatable(Mappings.class)
+public @interface Mapping {
+
+    String target();
+
+    String source() default "";
+
+    boolean ignore() default false;
+}
@@ -0,0 +1,11 @@
+package com.kozubek.ddd.annotation.mapping;
+
+import java.lang.annotation.*;
+
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface Mappings {
+
+    Mapping[] value();
+}
@@ -0,0 +1,65 @@
+package com.kozubek.ddd.processor;
+
+import com.kozubek.ddd.annotation.mapping.Mapper;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * Generates {@code <Name>Impl} for every {@link Mapper} interface. Generated methods call target constructors
+ * directly, so there is no reflection at runtime and no builder instance per mapped object.
+ */
+@SupportedAnnotationTypes("com.kozubek.ddd.annotation.mapping.Mapper")
+public class MapperProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(Mapper.class)) {
+            if (element.getKind() != ElementKind.INTERFACE || ((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL) {
+                error("@Mapper can only be placed on a top level interface", element);
+                continue;
+            }
+            generate((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void generate(final TypeElement mapper) {
+        final MapperWriter writer = new MapperWriter(processingEnv, mapper);
+        final String source;
+        try {
+            source = writer.write();
+        } catch (final MappingException e) {
+            error(e.getMessage(), e.element());
+            return;
+        }
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(writer.implementationName(), mapper);
+            try (Writer out = file.openWriter()) {
+                out.write(source);
+            }
+        } catch (final IOException e) {
+            error("Could not write " + writer.implementationName() + ": " + e.getMessage(), mapper);
+        }
+    }
+
+    private void error(final String message, final Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
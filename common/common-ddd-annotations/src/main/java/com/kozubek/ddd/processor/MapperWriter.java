@@ -0,0 +1,234 @@
+package com.kozubek.ddd.processor;
+
+import com.kozubek.ddd.annotation.mapping.Mapper;
+import com.kozubek.ddd.annotation.mapping.Mapping;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes the source of one {@link Mapper} implementation.
+ */
+final class MapperWriter {
+
+    private static final String INDENT = "    ";
+
+    private record Source(String expression, TypeMirror type) {
+    }
+
+    private final Types types;
+    private final Elements elements;
+    private final TypeIntrospector introspector;
+    private final TypeElement mapper;
+    private final String packageName;
+    private final List<ExecutableElement> methods;
+
+    MapperWriter(final ProcessingEnvironment processingEnv, final TypeElement mapper) {
+        this.types = processingEnv.getTypeUtils();
+        this.elements = processingEnv.getElementUtils();
+        this.introspector = new TypeIntrospector(types, elements);
+        this.mapper = mapper;
+        this.packageName = elements.getPackageOf(mapper).getQualifiedName().toString();
+        this.methods = ElementFilter.methodsIn(elements.getAllMembers(mapper)).stream()
+                .filter(method -> method.getEnclosingElement().getKind() == ElementKind.INTERFACE)
+                .filter(method -> !method.getModifiers().contains(Modifier.STATIC))
+                .toList();
+    }
+
+    String implementationName() {
+        final String simpleName = mapper.getSimpleName() + "Impl";
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    String write() {
+        final StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("@javax.annotation.processing.Generated(\"").append(MapperProcessor.class.getName()).append("\")\n");
+        if (mapper.getAnnotation(Mapper.class).component()) {
+            out.append("@org.springframework.stereotype.Component\n");
+        }
+        out.append("public class ").append(mapper.getSimpleName()).append("Impl implements ").append(mapper.getQualifiedName()).append(" {\n");
+        for (final ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                out.append('\n').append(method(method));
+            }
+        }
+        return out.append("}\n").toString();
+    }
+
+    private String method(final ExecutableElement method) {
+        if (!method.getTypeParameters().isEmpty()) {
+            throw new MappingException("Generic mapping methods are not supported", method);
+        }
+        if (method.getReturnType().getKind() != TypeKind.DECLARED || method.getParameters().isEmpty()) {
+            throw new MappingException("A mapping method needs parameters and an object return type", method);
+        }
+        final String parameters = method.getParameters().stream()
+                .map(parameter -> "final " + parameter.asType() + " " + parameter.getSimpleName())
+                .collect(Collectors.joining(", "));
+        final String body = isCollection(method.getReturnType()) ? collectionBody(method) : constructorBody(method);
+        return INDENT + "@Override\n"
+                + INDENT + "public " + method.getReturnType() + " " + method.getSimpleName() + "(" + parameters + ") {\n"
+                + body
+                + INDENT + "}\n";
+    }
+
+    private String constructorBody(final ExecutableElement method) {
+        final DeclaredType target = (DeclaredType) method.getReturnType();
+        final List<TypeIntrospector.Parameter> parameters = introspector.constructor(target, packageName, method);
+        final Map<String, Mapping> mappings = new LinkedHashMap<>();
+        for (final Mapping mapping : method.getAnnotationsByType(Mapping.class)) {
+            if (parameters.stream().noneMatch(parameter -> parameter.name().equals(mapping.target()))) {
+                throw new MappingException("Unknown target property '" + mapping.target() + "' of " + target, method);
+            }
+            mappings.put(mapping.target(), mapping);
+        }
+
+        final List<String> arguments = new ArrayList<>();
+        for (final TypeIntrospector.Parameter parameter : parameters) {
+            final Mapping mapping = mappings.get(parameter.name());
+            if (mapping != null && mapping.ignore()) {
+                arguments.add(defaultValue(parameter.type()));
+                continue;
+            }
+            final String sourceName = mapping != null && !mapping.source().isEmpty() ? mapping.source() : parameter.name();
+            final Source source = source(method, sourceName);
+            if (source == null) {
+                throw new MappingException("No source for target property '" + parameter.name() + "' of " + target
+                        + ", add @Mapping(target = \"" + parameter.name() + "\", source = ...) or ignore it", method);
+            }
+            arguments.add(convert(source.expression(), source.type(), parameter.type(), method, parameter.name()));
+        }
+
+        final String indent = INDENT.repeat(4);
+        return INDENT.repeat(2) + "return new " + target + "(" + arguments.stream()
+                .map(argument -> "\n" + indent + argument)
+                .collect(Collectors.joining(",")) + ");\n";
+    }
+
+    private String collectionBody(final ExecutableElement method) {
+        final DeclaredType target = (DeclaredType) method.getReturnType();
+        final VariableElement source = method.getParameters().getFirst();
+        final TypeMirror iterable = types.erasure(elements.getTypeElement(Iterable.class.getCanonicalName()).asType());
+        if (method.getParameters().size() != 1 || !types.isAssignable(source.asType(), iterable)
+                || ((DeclaredType) source.asType()).getTypeArguments().size() != 1 || target.getTypeArguments().size() != 1) {
+            throw new MappingException("A collection mapping method takes a single parameterized Iterable", method);
+        }
+        final TypeMirror sourceElement = upperBound(((DeclaredType) source.asType()).getTypeArguments().getFirst());
+        final TypeMirror targetElement = upperBound(target.getTypeArguments().getFirst());
+        final String sourceName = source.getSimpleName().toString();
+        final String item = sourceName.equals("item") ? "element" : "item";
+        final String result = sourceName.equals("result") ? "mapped" : "result";
+
+        final boolean sized = types.isAssignable(source.asType(), types.erasure(elements.getTypeElement("java.util.Collection").asType()));
+        final String collection = isErasureOf(target, "java.util.Set")
+                ? (sized ? "java.util.LinkedHashSet.newLinkedHashSet(" + sourceName + ".size())" : "new java.util.LinkedHashSet<>()")
+                : (sized ? "new java.util.ArrayList<>(" + sourceName + ".size())" : "new java.util.ArrayList<>()");
+        final String conversion = convert(item, sourceElement, targetElement, method, "element of " + sourceName);
+
+        final String indent = INDENT.repeat(2);
+        return indent + "final " + target + " " + result + " = " + collection + ";\n"
+                + indent + "for (final " + sourceElement + " " + item + " : " + sourceName + ") {\n"
+                + indent + INDENT + result + ".add(" + conversion + ");\n"
+                + indent + "}\n"
+                + indent + "return " + result + ";\n";
+    }
+
+    // najpierw parametr o tej nazwie, potem właściwość jednego z parametrów-obiektów;
+    // jedyny parametr-obiekt jest zawsze źródłem właściwości, nawet gdy nazywa się jak jedna z nich (page -> page())
+    private Source source(final ExecutableElement method, final String name) {
+        final boolean singleBean = method.getParameters().size() == 1 && introspector.isBean(method.getParameters().getFirst().asType());
+        for (final VariableElement parameter : method.getParameters()) {
+            if (!singleBean && parameter.getSimpleName().contentEquals(name)) {
+                return new Source(name, parameter.asType());
+            }
+        }
+        final List<Source> found = new ArrayList<>();
+        for (final VariableElement parameter : method.getParameters()) {
+            if (introspector.isBean(parameter.asType())) {
+                final TypeIntrospector.Property property = introspector.properties((DeclaredType) parameter.asType(), packageName).get(name);
+                if (property != null) {
+                    found.add(new Source(parameter.getSimpleName() + "." + property.accessor(), property.type()));
+                }
+            }
+        }
+        if (found.size() > 1) {
+            throw new MappingException("Property '" + name + "' is readable from more than one parameter, use @Mapping(source = ...)", method);
+        }
+        return found.isEmpty() ? null : found.getFirst();
+    }
+
+    private String convert(final String expression, final TypeMirror source, final TypeMirror target, final ExecutableElement method, final String property) {
+        if (types.isAssignable(source, target)) {
+            return expression;
+        }
+        final List<ExecutableElement> candidates = methods.stream()
+                .filter(candidate -> candidate.getParameters().size() == 1 && candidate.getTypeParameters().isEmpty())
+                .filter(candidate -> types.isAssignable(source, candidate.getParameters().getFirst().asType()))
+                .filter(candidate -> types.isAssignable(candidate.getReturnType(), target))
+                .toList();
+        if (candidates.size() > 1) {
+            throw new MappingException("More than one method maps " + source + " to " + target + ": "
+                    + candidates.stream().map(candidate -> candidate.getSimpleName().toString()).collect(Collectors.joining(", ")), method);
+        }
+        if (candidates.size() == 1) {
+            return candidates.getFirst().getSimpleName() + "(" + expression + ")";
+        }
+        // obiekty wartości z jednym polem (UserId, Money) są opakowywane i rozpakowywane wprost
+        final TypeIntrospector.Property wrapped = introspector.valueComponent(target);
+        if (wrapped != null && types.isAssignable(source, wrapped.type())) {
+            return "new " + target + "(" + expression + ")";
+        }
+        final TypeIntrospector.Property unwrapped = introspector.valueComponent(source);
+        if (unwrapped != null && types.isAssignable(unwrapped.type(), target)) {
+            return expression + "." + unwrapped.accessor();
+        }
+        throw new MappingException("Cannot map " + source + " to " + target + " for '" + property + "'", method);
+    }
+
+    private boolean isCollection(final TypeMirror type) {
+        return isErasureOf(type, "java.util.List") || isErasureOf(type, "java.util.Set") || isErasureOf(type, "java.util.Collection");
+    }
+
+    private boolean isErasureOf(final TypeMirror type, final String name) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(name);
+    }
+
+    private static TypeMirror upperBound(final TypeMirror type) {
+        if (type instanceof WildcardType wildcard && wildcard.getExtendsBound() != null) {
+            return wildcard.getExtendsBound();
+        }
+        return type;
+    }
+
+    private static String defaultValue(final TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "false";
+            case CHAR -> "'\\0'";
+            case BYTE, SHORT, INT -> "0";
+            case LONG -> "0L";
+            case FLOAT -> "0F";
+            case DOUBLE -> "0D";
+            default -> "null";
+        };
+    }
+}
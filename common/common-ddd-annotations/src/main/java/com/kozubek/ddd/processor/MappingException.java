@@ -0,0 +1,20 @@
+package com.kozubek.ddd.processor;
+
+import javax.lang.model.element.Element;
+
+/**
+ * A mapping that cannot be generated, reported as a compile error on {@link #element()}.
+ */
+class MappingException extends RuntimeException {
+
+    private final transient Element element;
+
+    MappingException(final String message, final Element element) {
+        super(message);
+        this.element = element;
+    }
+
+    Element element() {
+        return element;
+    }
+}
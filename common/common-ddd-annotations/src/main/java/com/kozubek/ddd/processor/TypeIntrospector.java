@@ -0,0 +1,200 @@
+package com.kozubek.ddd.processor;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the readable properties and the widest constructor of a type. Lombok may not have run yet in the round this
+ * processor sees a source type, so {@code @Getter}/{@code @AllArgsConstructor} on sources are resolved from fields.
+ */
+final class TypeIntrospector {
+
+    record Property(String name, String accessor, TypeMirror type) {
+    }
+
+    record Parameter(String name, TypeMirror type) {
+    }
+
+    private static final Pattern SYNTHETIC_NAME = Pattern.compile("arg\\d+");
+    private static final List<String> LOMBOK_GETTERS = List.of("lombok.Getter", "lombok.Data", "lombok.Value");
+    private static final List<String> LOMBOK_ALL_ARGS = List.of("lombok.AllArgsConstructor", "lombok.Value");
+
+    private final Types types;
+    private final Elements elements;
+
+    TypeIntrospector(final Types types, final Elements elements) {
+        this.types = types;
+        this.elements = elements;
+    }
+
+    /**
+     * Types whose properties take part in name based mapping; JDK types such as {@code UUID} are passed whole.
+     */
+    boolean isBean(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        final String name = element.getQualifiedName().toString();
+        return element.getKind() != ElementKind.ENUM && !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+    Map<String, Property> properties(final DeclaredType type, final String fromPackage) {
+        final TypeElement element = (TypeElement) type.asElement();
+        final Map<String, Property> properties = new LinkedHashMap<>();
+        if (element.getKind() == ElementKind.RECORD) {
+            for (final RecordComponentElement component : element.getRecordComponents()) {
+                final String name = component.getSimpleName().toString();
+                properties.put(name, new Property(name, name + "()", types.asMemberOf(type, component)));
+            }
+            return properties;
+        }
+        for (final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(element))) {
+            if (method.getModifiers().contains(Modifier.STATIC) || !method.getParameters().isEmpty() || !accessible(method, fromPackage)) {
+                continue;
+            }
+            final TypeMirror returnType = ((ExecutableType) types.asMemberOf(type, method)).getReturnType();
+            final String name = propertyName(method.getSimpleName().toString(), returnType);
+            if (name != null && !name.equals("class")) {
+                properties.putIfAbsent(name, new Property(name, method.getSimpleName() + "()", returnType));
+            }
+        }
+        final boolean classLevelGetters = hasAnnotation(element, LOMBOK_GETTERS);
+        for (final VariableElement field : instanceFields(element)) {
+            final String name = field.getSimpleName().toString();
+            if (!properties.containsKey(name) && (classLevelGetters || hasAnnotation(field, List.of("lombok.Getter")))) {
+                final TypeMirror fieldType = types.asMemberOf(type, field);
+                final String prefix = fieldType.getKind() == TypeKind.BOOLEAN ? "is" : "get";
+                properties.put(name, new Property(name, prefix + capitalize(name) + "()", fieldType));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Canonical constructor for records, otherwise the accessible constructor with the most parameters.
+     */
+    List<Parameter> constructor(final DeclaredType type, final String fromPackage, final Element reportOn) {
+        final TypeElement element = (TypeElement) type.asElement();
+        if (element.getKind() == ElementKind.RECORD) {
+            return element.getRecordComponents().stream()
+                    .map(component -> new Parameter(component.getSimpleName().toString(), types.asMemberOf(type, component)))
+                    .toList();
+        }
+        if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new MappingException(type + " cannot be instantiated", reportOn);
+        }
+        final List<ExecutableElement> constructors = ElementFilter.constructorsIn(element.getEnclosedElements()).stream()
+                .filter(constructor -> accessible(constructor, fromPackage))
+                .sorted(Comparator.comparingInt((ExecutableElement constructor) -> constructor.getParameters().size()).reversed())
+                .toList();
+        final List<VariableElement> fields = instanceFields(element);
+        if (constructors.isEmpty() || constructors.getFirst().getParameters().isEmpty()) {
+            // konstruktor z @AllArgsConstructor pojawi się dopiero po przebiegu Lomboka - kolejność jak pól
+            if (hasAnnotation(element, LOMBOK_ALL_ARGS) && !fields.isEmpty()) {
+                return fields.stream()
+                        .map(field -> new Parameter(field.getSimpleName().toString(), types.asMemberOf(type, field)))
+                        .toList();
+            }
+            throw new MappingException(type + " has no accessible constructor with parameters", reportOn);
+        }
+        final ExecutableElement widest = constructors.getFirst();
+        if (constructors.size() > 1 && constructors.get(1).getParameters().size() == widest.getParameters().size()) {
+            throw new MappingException(type + " has more than one constructor with " + widest.getParameters().size() + " parameters", reportOn);
+        }
+        final List<? extends TypeMirror> parameterTypes = ((ExecutableType) types.asMemberOf(type, widest)).getParameterTypes();
+        final List<String> names = new ArrayList<>(widest.getParameters().stream().map(parameter -> parameter.getSimpleName().toString()).toList());
+        if (names.stream().allMatch(name -> SYNTHETIC_NAME.matcher(name).matches())) {
+            // klasa skompilowana bez -parameters: nazwy z pól, o ile jest ich tyle samo co parametrów
+            if (fields.size() != names.size()) {
+                throw new MappingException(type + " was compiled without parameter names", reportOn);
+            }
+            for (int i = 0; i < names.size(); i++) {
+                names.set(i, fields.get(i).getSimpleName().toString());
+            }
+        }
+        final List<Parameter> parameters = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            parameters.add(new Parameter(names.get(i), parameterTypes.get(i)));
+        }
+        return parameters;
+    }
+
+    /**
+     * The only component of a single value record such as {@code UserId(UUID id)}, or {@code null}.
+     */
+    Property valueComponent(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).asElement().getKind() != ElementKind.RECORD) {
+            return null;
+        }
+        final List<? extends RecordComponentElement> components = ((TypeElement) ((DeclaredType) type).asElement()).getRecordComponents();
+        if (components.size() != 1) {
+            return null;
+        }
+        final String name = components.getFirst().getSimpleName().toString();
+        return new Property(name, name + "()", types.asMemberOf((DeclaredType) type, components.getFirst()));
+    }
+
+    private List<VariableElement> instanceFields(final TypeElement element) {
+        return ElementFilter.fieldsIn(element.getEnclosedElements()).stream()
+                .filter(field -> !field.getModifiers().contains(Modifier.STATIC))
+                .toList();
+    }
+
+    private static boolean accessible(final Element member, final String fromPackage) {
+        final var modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        Element enclosing = member.getEnclosingElement();
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return ((PackageElement) enclosing).getQualifiedName().contentEquals(fromPackage);
+    }
+
+    private static boolean hasAnnotation(final Element element, final List<String> annotationNames) {
+        return element.getAnnotationMirrors().stream()
+                .map(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())
+                .anyMatch(annotationNames::contains);
+    }
+
+    private static String propertyName(final String methodName, final TypeMirror returnType) {
+        if (returnType.getKind() == TypeKind.VOID) {
+            return null;
+        }
+        if (methodName.length() > 3 && methodName.startsWith("get") && Character.isUpperCase(methodName.charAt(3))) {
+            return decapitalize(methodName.substring(3));
+        }
+        if (methodName.length() > 2 && methodName.startsWith("is") && Character.isUpperCase(methodName.charAt(2))
+                && returnType.getKind() == TypeKind.BOOLEAN) {
+            return decapitalize(methodName.substring(2));
+        }
+        return null;
+    }
+
+    private static String capitalize(final String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String decapitalize(final String name) {
+        final char[] chars = name.toCharArray();
+        chars[0] = Character.toLowerCase(chars[0]);
+        return new String(chars);
+    }
+}
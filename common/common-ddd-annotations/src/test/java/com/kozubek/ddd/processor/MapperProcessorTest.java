@@ -0,0 +1,301 @@
+package com.kozubek.ddd.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MapperProcessor Unit Tests")
+class MapperProcessorTest {
+
+    private static final String VALUE_OBJECTS = """
+            package sample;
+
+            record OwnerId(java.util.UUID id) {
+            }
+            """;
+
+    private static final String SOURCE = """
+            package sample;
+
+            public class Source {
+                private final java.util.UUID ownerId;
+                private final String code;
+                private final java.util.List<String> tags;
+
+                public Source(final java.util.UUID ownerId, final String code, final java.util.List<String> tags) {
+                    this.ownerId = ownerId;
+                    this.code = code;
+                    this.tags = tags;
+                }
+
+                public java.util.UUID getOwnerId() {
+                    return ownerId;
+                }
+
+                public String getCode() {
+                    return code;
+                }
+
+                public java.util.List<String> getTags() {
+                    return tags;
+                }
+            }
+            """;
+
+    private static final String TARGET = """
+            package sample;
+
+            public record Target(OwnerId ownerId, String name, java.util.Set<Tag> tags, long version) {
+            }
+            """;
+
+    private static final String TAG = """
+            package sample;
+
+            public record Tag(String value) {
+            }
+            """;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should generate an implementation that calls the target constructor")
+    void shouldGenerateImplementationCallingTargetConstructor() throws Exception {
+        // given
+        final String mapper = """
+                package sample;
+
+                import com.kozubek.ddd.annotation.mapping.Mapper;
+                import com.kozubek.ddd.annotation.mapping.Mapping;
+
+                @Mapper
+                public interface SampleMapper {
+                    @Mapping(target = "name", source = "code")
+                    @Mapping(target = "version", ignore = true)
+                    Target sourceToTarget(Source source);
+
+                    java.util.Set<Tag> tagsToTags(java.util.List<String> tags);
+                }
+                """;
+
+        // when
+        final Compilation compilation = compile(Map.of(
+                "sample/OwnerId.java", VALUE_OBJECTS, "sample/Source.java", SOURCE, "sample/Target.java", TARGET,
+                "sample/Tag.java", TAG, "sample/SampleMapper.java", mapper));
+
+        // then
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.generated("sample/SampleMapperImpl.java"))
+                .contains("return new sample.Target(")
+                .contains("new sample.OwnerId(source.getOwnerId())")
+                .contains("tagsToTags(source.getTags())")
+                .doesNotContain("builder", "reflect");
+
+        final UUID ownerId = UUID.randomUUID();
+        try (URLClassLoader classLoader = compilation.classLoader()) {
+            final Class<?> sourceType = classLoader.loadClass("sample.Source");
+            final Object source = sourceType.getConstructor(UUID.class, String.class, List.class)
+                    .newInstance(ownerId, "CODE-1", List.of("a", "b"));
+            final Object impl = classLoader.loadClass("sample.SampleMapperImpl").getConstructor().newInstance();
+            final Object target = impl.getClass().getMethod("sourceToTarget", sourceType).invoke(impl, source);
+
+            assertThat(target.toString())
+                    .contains("ownerId=OwnerId[id=" + ownerId + "]")
+                    .contains("name=CODE-1")
+                    .contains("Tag[value=a]", "Tag[value=b]")
+                    .contains("version=0");
+        }
+    }
+
+    @Test
+    @DisplayName("Should annotate the implementation as a Spring component when requested")
+    void shouldAnnotateImplementationAsComponent() throws IOException {
+        // given
+        final String component = """
+                package org.springframework.stereotype;
+
+                public @interface Component {
+                }
+                """;
+        final String mapper = """
+                package sample;
+
+                @com.kozubek.ddd.annotation.mapping.Mapper(component = true)
+                public interface TagMapper {
+                    Tag valueToTag(String value);
+                }
+                """;
+
+        // when
+        final Compilation compilation = compile(Map.of(
+                "org/springframework/stereotype/Component.java", component, "sample/Tag.java", TAG, "sample/TagMapper.java", mapper));
+
+        // then
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.generated("sample/TagMapperImpl.java"))
+                .contains("@org.springframework.stereotype.Component")
+                .contains("return new sample.Tag(\n                value);");
+    }
+
+    @Test
+    @DisplayName("Should read Lombok getters and all-args constructor from fields before Lombok has run")
+    void shouldReadLombokMembersFromFields() throws IOException {
+        // given
+        final String getter = """
+                package lombok;
+
+                public @interface Getter {
+                }
+                """;
+        final String allArgsConstructor = """
+                package lombok;
+
+                public @interface AllArgsConstructor {
+                }
+                """;
+        final String entity = """
+                package sample;
+
+                @lombok.AllArgsConstructor
+                @lombok.Getter
+                public class Entity {
+                    private static final int LIMIT = 10;
+                    private java.util.UUID id;
+                    private String name;
+                    private boolean active;
+                }
+                """;
+        final String model = """
+                package sample;
+
+                public record Model(OwnerId id, String name, boolean active) {
+                }
+                """;
+        final String mapper = """
+                package sample;
+
+                @com.kozubek.ddd.annotation.mapping.Mapper
+                public interface EntityMapper {
+                    Model entityToModel(Entity entity);
+
+                    Entity modelToEntity(Model model);
+                }
+                """;
+
+        // when
+        final Compilation compilation = compile(Map.of(
+                "lombok/Getter.java", getter, "lombok/AllArgsConstructor.java", allArgsConstructor, "sample/OwnerId.java", VALUE_OBJECTS,
+                "sample/Entity.java", entity, "sample/Model.java", model, "sample/EntityMapper.java", mapper), "-proc:only");
+
+        // then
+        assertThat(compilation.errors()).isEmpty();
+        assertThat(compilation.generated("sample/EntityMapperImpl.java"))
+                .contains("new sample.OwnerId(entity.getId())", "entity.getName()", "entity.isActive()")
+                .contains("return new sample.Entity(\n                model.id().id(),\n                model.name(),\n                model.active());");
+    }
+
+    @Test
+    @DisplayName("Should fail compilation when a target property has no source")
+    void shouldFailWhenTargetPropertyHasNoSource() throws IOException {
+        // given
+        final String mapper = """
+                package sample;
+
+                @com.kozubek.ddd.annotation.mapping.Mapper
+                public interface SampleMapper {
+                    Target sourceToTarget(Source source);
+                }
+                """;
+
+        // when
+        final Compilation compilation = compile(Map.of(
+                "sample/OwnerId.java", VALUE_OBJECTS, "sample/Source.java", SOURCE, "sample/Target.java", TARGET,
+                "sample/Tag.java", TAG, "sample/SampleMapper.java", mapper));
+
+        // then
+        assertThat(compilation.errors())
+                .anyMatch(message -> message.contains("No source for target property 'name' of sample.Target"));
+    }
+
+    @Test
+    @DisplayName("Should reject @Mapping on a property the target does not have")
+    void shouldRejectUnknownTargetProperty() throws IOException {
+        // given
+        final String mapper = """
+                package sample;
+
+                import com.kozubek.ddd.annotation.mapping.Mapping;
+
+                @com.kozubek.ddd.annotation.mapping.Mapper
+                public interface TagMapper {
+                    @Mapping(target = "label", ignore = true)
+                    Tag valueToTag(String value);
+                }
+                """;
+
+        // when
+        final Compilation compilation = compile(Map.of("sample/Tag.java", TAG, "sample/TagMapper.java", mapper));
+
+        // then
+        assertThat(compilation.errors()).containsExactly("Unknown target property 'label' of sample.Tag");
+    }
+
+    private Compilation compile(final Map<String, String> sources, final String... options) throws IOException {
+        final Path sourceDirectory = Files.createDirectories(directory.resolve("src"));
+        final Path classes = Files.createDirectories(directory.resolve("classes"));
+        final Path generated = Files.createDirectories(directory.resolve("generated"));
+        final List<Path> files = new ArrayList<>();
+        for (final Map.Entry<String, String> source : sources.entrySet()) {
+            final Path file = sourceDirectory.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            files.add(Files.writeString(file, source.getValue()));
+        }
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final List<String> arguments = new ArrayList<>(List.of(
+                    "-classpath", System.getProperty("java.class.path"), "-d", classes.toString(), "-s", generated.toString()));
+            arguments.addAll(List.of(options));
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                    null, fileManager, diagnostics, arguments, null, fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new MapperProcessor()));
+            task.call();
+        }
+        final List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .toList();
+        return new Compilation(errors, classes, generated);
+    }
+
+    private record Compilation(List<String> errors, Path classes, Path generated) {
+
+        String generated(final String file) throws IOException {
+            return Files.readString(generated.resolve(file));
+        }
+
+        URLClassLoader classLoader() throws IOException {
+            return new URLClassLoader(new URL[]{classes.toUri().toURL()}, MapperProcessorTest.class.getClassLoader());
+        }
+    }
+}
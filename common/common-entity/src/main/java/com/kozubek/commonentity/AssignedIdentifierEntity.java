@@ -0,0 +1,30 @@
+package com.kozubek.commonentity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Base for entities with an assigned UUID, so Spring Data persists new rows instead of merging them (no SELECT before INSERT).
+ */
+@MappedSuperclass
+public abstract class AssignedIdentifierEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
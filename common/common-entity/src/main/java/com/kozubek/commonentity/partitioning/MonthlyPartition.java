@@ -0,0 +1,38 @@
+package com.kozubek.commonentity.partitioning;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One month of a range-partitioned table, named {@code <table>_y<yyyy>m<mm>} and covering {@code [first day, first day of next month)}.
+ */
+record MonthlyPartition(String table, YearMonth month) {
+
+    private static final Pattern SUFFIX = Pattern.compile("_y(\\d{4})m(\\d{2})$");
+
+    static Optional<MonthlyPartition> parse(final String table, final String partitionName) {
+        if (!partitionName.startsWith(table + "_")) {
+            return Optional.empty();
+        }
+        final Matcher matcher = SUFFIX.matcher(partitionName);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Optional.of(new MonthlyPartition(table, YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))));
+    }
+
+    String name() {
+        return "%s_y%04dm%02d".formatted(table, month.getYear(), month.getMonthValue());
+    }
+
+    LocalDate from() {
+        return month.atDay(1);
+    }
+
+    LocalDate to() {
+        return month.plusMonths(1).atDay(1);
+    }
+}
@@ -0,0 +1,18 @@
+package com.kozubek.commonentity.partitioning;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(prefix = "partition-archival", name = "enabled", havingValue = "true")
+public class PartitionArchivalConfig {
+
+    @Bean
+    public PartitionArchiver partitionArchiver(final JdbcTemplate jdbcTemplate, final PartitionArchivalProperties properties) {
+        return new PartitionArchiver(jdbcTemplate, properties, Clock.systemUTC());
+    }
+}
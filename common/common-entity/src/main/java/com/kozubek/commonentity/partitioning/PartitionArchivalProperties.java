@@ -0,0 +1,30 @@
+package com.kozubek.commonentity.partitioning;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "partition-archival")
+@Configuration
+@Data
+public class PartitionArchivalProperties {
+
+    private boolean enabled = false;
+    private Duration interval = Duration.ofHours(1);
+    private String archiveSchema = "archive";
+    // DETACH ... CONCURRENTLY nie blokuje zapisów, ale nie działa przy istniejącej partycji DEFAULT
+    private boolean detachConcurrently = true;
+    private List<Table> tables = new ArrayList<>();
+
+    @Data
+    public static class Table {
+        // "schemat.tabela" tabeli partycjonowanej PARTITION BY RANGE po kolumnie z datą/czasem
+        private String name;
+        private int retentionMonths = 12;
+        private int premakeMonths = 3;
+    }
+}
@@ -0,0 +1,156 @@
+package com.kozubek.commonentity.partitioning;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps monthly range partitions of the configured tables rolling: creates the next {@code premake-months}
+ * partitions ahead of time and moves partitions older than {@code retention-months} to the archive schema,
+ * detaching them from the parent so that its indexes and vacuum work stay bounded.
+ */
+@Slf4j
+public class PartitionArchiver implements SmartLifecycle {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String PARTITIONS = """
+            SELECT pn.nspname AS partition_schema, pc.relname AS partition_name, i.inhdetachpending AS detach_pending
+            FROM pg_inherits i
+                JOIN pg_class pc ON pc.oid = i.inhrelid
+                JOIN pg_namespace pn ON pn.oid = pc.relnamespace
+                JOIN pg_class parent ON parent.oid = i.inhparent
+                JOIN pg_namespace n ON n.oid = parent.relnamespace
+            WHERE n.nspname = ? AND parent.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionArchivalProperties properties;
+    private final Clock clock;
+
+    private ScheduledExecutorService scheduler;
+
+    public PartitionArchiver(final JdbcTemplate jdbcTemplate, final PartitionArchivalProperties properties, final Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        identifier(properties.getArchiveSchema());
+        properties.getTables().forEach(table -> QualifiedTable.of(table.getName()));
+    }
+
+    @Override
+    public synchronized void start() {
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + properties.getArchiveSchema());
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("partition-archiver").daemon().factory());
+        final long intervalMs = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::maintainAll, 0, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Partition archival started for {} table(s), archive schema {}", properties.getTables().size(), properties.getArchiveSchema());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    void maintainAll() {
+        for (final PartitionArchivalProperties.Table table : properties.getTables()) {
+            try {
+                maintain(table);
+            } catch (final Exception e) {
+                // jedna tabela z błędem nie zatrzymuje pozostałych, kolejna runda spróbuje ponownie
+                log.warn("Partition maintenance of {} skipped a round: {}", table.getName(), e.getMessage());
+            }
+        }
+    }
+
+    void maintain(final PartitionArchivalProperties.Table config) {
+        final QualifiedTable table = QualifiedTable.of(config.getName());
+        final YearMonth current = YearMonth.now(clock);
+
+        for (int ahead = 0; ahead <= config.getPremakeMonths(); ahead++) {
+            create(table, new MonthlyPartition(table.name(), current.plusMonths(ahead)));
+        }
+
+        final YearMonth oldestKept = current.minusMonths(config.getRetentionMonths());
+        for (final AttachedPartition partition : attachedPartitions(table)) {
+            final Optional<MonthlyPartition> monthly = MonthlyPartition.parse(table.name(), partition.name());
+            if (monthly.isPresent() && monthly.get().month().isBefore(oldestKept)) {
+                archive(table, partition);
+            }
+        }
+    }
+
+    private void create(final QualifiedTable table, final MonthlyPartition partition) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s.%s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(table.schema(), partition.name(), table, partition.from(), partition.to()));
+    }
+
+    // najpierw zmiana schematu (szybka zmiana katalogu), potem odłączenie. Przerwane między tymi krokami zostawia partycję
+    // podpiętą w schemacie archiwum - kolejna runda ją odłącza. Przerwane DETACH CONCURRENTLY zostawia ją w stanie
+    // inhdetachpending, którego zwykłe DETACH nie przyjmuje - kolejna runda kończy je przez FINALIZE.
+    private void archive(final QualifiedTable table, final AttachedPartition partition) {
+        final String archiveSchema = properties.getArchiveSchema();
+        if (!archiveSchema.equals(partition.schema())) {
+            jdbcTemplate.execute("ALTER TABLE %s.%s SET SCHEMA %s".formatted(partition.schema(), partition.name(), archiveSchema));
+        }
+        jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s.%s%s"
+                .formatted(table, archiveSchema, partition.name(), detachMode(partition)));
+        log.info("Archived partition {} of {} to schema {}", partition.name(), table, archiveSchema);
+    }
+
+    private String detachMode(final AttachedPartition partition) {
+        if (partition.detachPending()) {
+            return " FINALIZE";
+        }
+        return properties.isDetachConcurrently() ? " CONCURRENTLY" : "";
+    }
+
+    private List<AttachedPartition> attachedPartitions(final QualifiedTable table) {
+        return jdbcTemplate.query(PARTITIONS,
+                (rs, rowNum) -> new AttachedPartition(rs.getString("partition_schema"), rs.getString("partition_name"),
+                        rs.getBoolean("detach_pending")),
+                table.schema(), table.name());
+    }
+
+    private static String identifier(final String value) {
+        if (value == null || !IDENTIFIER.matcher(value).matches()) {
+            throw new IllegalArgumentException("Not a plain lower-case SQL identifier: " + value);
+        }
+        return value;
+    }
+
+    private record AttachedPartition(String schema, String name, boolean detachPending) {
+    }
+
+    private record QualifiedTable(String schema, String name) {
+
+        static QualifiedTable of(final String qualifiedName) {
+            final String[] parts = qualifiedName == null ? new String[0] : qualifiedName.split("\\.");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Partitioned table must be given as schema.table: " + qualifiedName);
+            }
+            return new QualifiedTable(identifier(parts[0]), identifier(parts[1]));
+        }
+
+        @Override
+        public String toString() {
+            return schema + "." + name;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.kozubek.commonentity.partitioning;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PartitionArchiver Integration Tests")
+class PartitionArchiverTest {
+
+    private static final Clock NOW = Clock.fixed(Instant.parse("2026-10-15T12:00:00Z"), ZoneOffset.UTC);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private PartitionArchivalProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS sales CASCADE");
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS sales_archive CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA sales");
+        jdbcTemplate.execute("CREATE SCHEMA sales_archive");
+        jdbcTemplate.execute("""
+                CREATE TABLE sales.orders (
+                    id         UUID        NOT NULL,
+                    created_at TIMESTAMPTZ NOT NULL,
+                    PRIMARY KEY (id, created_at)
+                ) PARTITION BY RANGE (created_at)""");
+
+        final PartitionArchivalProperties.Table orders = new PartitionArchivalProperties.Table();
+        orders.setName("sales.orders");
+        orders.setRetentionMonths(6);
+        orders.setPremakeMonths(2);
+        properties = new PartitionArchivalProperties();
+        properties.setArchiveSchema("sales_archive");
+        properties.setDetachConcurrently(false);
+        properties.setTables(List.of(orders));
+    }
+
+    @Test
+    @DisplayName("Should create the current and upcoming monthly partitions")
+    void shouldPremakeMonthlyPartitions() {
+        // given
+        final PartitionArchiver archiver = new PartitionArchiver(jdbcTemplate, properties, NOW);
+
+        // when
+        archiver.maintainAll();
+        archiver.maintainAll();
+
+        // then
+        assertThat(partitionsOf("sales", "orders"))
+                .containsExactly("orders_y2026m10", "orders_y2026m11", "orders_y2026m12");
+        jdbcTemplate.update("INSERT INTO sales.orders VALUES (gen_random_uuid(), '2026-12-31T23:59:59Z')");
+    }
+
+    @Test
+    @DisplayName("Should move partitions past retention to the archive schema and detach them")
+    void shouldArchiveColdPartitions() {
+        // given
+        jdbcTemplate.execute("CREATE TABLE sales.orders_y2026m03 PARTITION OF sales.orders FOR VALUES FROM ('2026-03-01') TO ('2026-04-01')");
+        jdbcTemplate.execute("CREATE TABLE sales.orders_y2026m04 PARTITION OF sales.orders FOR VALUES FROM ('2026-04-01') TO ('2026-05-01')");
+        jdbcTemplate.update("INSERT INTO sales.orders VALUES (gen_random_uuid(), '2026-03-10T00:00:00Z')");
+        final PartitionArchiver archiver = new PartitionArchiver(jdbcTemplate, properties, NOW);
+
+        // when
+        archiver.maintainAll();
+
+        // then
+        assertThat(partitionsOf("sales", "orders")).doesNotContain("orders_y2026m03").contains("orders_y2026m04");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM sales_archive.orders_y2026m03", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM sales.orders", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should finish archiving a partition already moved to the archive schema but still attached")
+    void shouldResumeInterruptedArchival() {
+        // given
+        jdbcTemplate.execute("CREATE TABLE sales.orders_y2026m01 PARTITION OF sales.orders FOR VALUES FROM ('2026-01-01') TO ('2026-02-01')");
+        jdbcTemplate.execute("ALTER TABLE sales.orders_y2026m01 SET SCHEMA sales_archive");
+        final PartitionArchiver archiver = new PartitionArchiver(jdbcTemplate, properties, NOW);
+
+        // when
+        archiver.maintainAll();
+
+        // then
+        assertThat(partitionsOf("sales", "orders")).doesNotContain("orders_y2026m01");
+    }
+
+    @Test
+    @DisplayName("Should finalize a concurrent detach that was cancelled while pending")
+    void shouldFinalizePendingDetach() throws SQLException {
+        // given - DETACH CONCURRENTLY przerwany, gdy czekał na starszą transakcję czytającą tabelę
+        jdbcTemplate.execute("CREATE TABLE sales.orders_y2026m02 PARTITION OF sales.orders FOR VALUES FROM ('2026-02-01') TO ('2026-03-01')");
+        try (Connection reader = POSTGRES.createConnection(""); Connection detacher = POSTGRES.createConnection("")) {
+            reader.setAutoCommit(false);
+            try (Statement statement = reader.createStatement()) {
+                statement.execute("SELECT count(*) FROM sales.orders");
+            }
+            try (Statement statement = detacher.createStatement()) {
+                statement.execute("SET statement_timeout = '1s'");
+                assertThatThrownBy(() -> statement.execute("ALTER TABLE sales.orders DETACH PARTITION sales.orders_y2026m02 CONCURRENTLY"))
+                        .isInstanceOf(SQLException.class);
+            }
+            reader.rollback();
+        }
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT i.inhdetachpending FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE c.relname = 'orders_y2026m02'""", Boolean.class)).isTrue();
+        final PartitionArchiver archiver = new PartitionArchiver(jdbcTemplate, properties, NOW);
+
+        // when
+        archiver.maintainAll();
+
+        // then
+        assertThat(partitionsOf("sales", "orders")).doesNotContain("orders_y2026m02");
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('sales_archive.orders_y2026m02') IS NOT NULL", Boolean.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject table names that are not plain identifiers")
+    void shouldRejectUnsafeTableNames() {
+        // given
+        properties.getTables().getFirst().setName("sales.orders; DROP TABLE x");
+
+        // when / then
+        assertThatThrownBy(() -> new PartitionArchiver(jdbcTemplate, properties, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> partitionsOf(final String schema, final String table) {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                    JOIN pg_class c ON c.oid = i.inhrelid
+                    JOIN pg_class p ON p.oid = i.inhparent
+                    JOIN pg_namespace n ON n.oid = p.relnamespace
+                WHERE n.nspname = ? AND p.relname = ?
+                ORDER BY c.relname""", String.class, schema, table);
+    }
+}
@@ -4,7 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.server.EnableEurekaServer;
 
-@SpringBootApplication(scanBasePackages = "com.kozubek")
+@SpringBootApplication
 @EnableEurekaServer
 public class DiscoveryStarterApplication {
 
@@ -48,25 +48,19 @@ public class SecurityConfig {
         jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(jwt -> {
             final List<String> authorities = new ArrayList<>();
 
-            log.debug("Raw JWT token claims: {}", jwt.getClaims());
-
             final Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
-            log.debug("Realm access data: {}", realmAccess);
             if (realmAccess != null) {
                 @SuppressWarnings("unchecked") final List<String> roles = (List<String>) realmAccess.get("roles");
-                log.debug("Roles from realm_access: {}", roles);
                 if (roles != null) {
                     authorities.addAll(roles);
                 }
             }
 
             final Map<String, Object> resourceAccess = jwt.getClaimAsMap("resource_access");
-            log.debug("Resource access data: {}", resourceAccess);
             if (resourceAccess != null) {
                 @SuppressWarnings("unchecked") final Map<String, Object> clientAccess = (Map<String, Object>) resourceAccess.get("microservice-saga-app");
                 if (clientAccess != null) {
                     @SuppressWarnings("unchecked") final List<String> resourceRoles = (List<String>) clientAccess.get("roles");
-                    log.debug("Roles from resource_access: {}", resourceRoles);
                     if (resourceRoles != null) {
                         authorities.addAll(resourceRoles);
                     }
@@ -74,12 +68,11 @@ public class SecurityConfig {
             }
 
             @SuppressWarnings("unchecked") final List<String> groups = (List<String>) jwt.getClaims().get("groups");
-            log.debug("Groups from token: {}", groups);
             if (groups != null) {
                 authorities.addAll(groups);
             }
 
-            log.debug("Final authorities list: {}", authorities);
+            log.debug("Authorities for subject {}: {}", jwt.getSubject(), authorities);
             return authorities.stream()
                     .distinct()
                     .map(SimpleGrantedAuthority::new)
@@ -0,0 +1,86 @@
+#!/usr/bin/env bash
+# Uruchamia serwisy na lokalnych zamiennikach infrastruktury i puszcza przez gateway mieszankę ruchu z Gatlinga.
+#
+# Użycie: infrastructure/benchmarks/gateway-load-test.sh [etykieta] [dodatkowe -Pgatling.* dla gatlingRun]
+#   np. infrastructure/benchmarks/gateway-load-test.sh baseline -Pgatling.usersPerSec=50 -Pgatling.duration=PT5M
+# Wymaga: zbudowanych jarów (./gradlew bootJar) i Dockera (Postgres z Testcontainers).
+# Raporty: infrastructure/load-tests/build/reports/gatling (HTML) oraz reports/gatling-hdr/<etykieta>-*.hgrm.
+
+set -euo pipefail
+
+LABEL="${1:-$(git rev-parse --short HEAD 2>/dev/null || echo local)}"
+shift || true
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+ENV_FILE="$ROOT/infrastructure/load-tests/build/load-test-env.properties"
+LOGS="$ROOT/infrastructure/load-tests/build/logs"
+PIDS=()
+
+# moduł|nazwa w pliku środowiska
+SERVICES=(
+  "discovery-service/discovery-starter|discovery-service"
+  "gateway-api-service/gateway-api-starter|gateway-api-service"
+  "user-service/user-starter|user-service"
+  "product-service/product-starter|product-service"
+  "order-service/order-starter|order-service"
+)
+
+cleanup() {
+  for pid in "${PIDS[@]}"; do
+    kill "$pid" 2>/dev/null || true
+  done
+  wait 2>/dev/null || true
+}
+trap cleanup EXIT
+
+wait_for() {
+  local url="$1" name="$2"
+  for _ in $(seq 1 1200); do
+    if curl -s -o /dev/null "$url"; then
+      return 0
+    fi
+    sleep 0.1
+  done
+  echo "$name did not start, see $LOGS" >&2
+  return 1
+}
+
+mkdir -p "$LOGS"
+rm -f "$ENV_FILE"
+
+"$ROOT/gradlew" -q -p "$ROOT" :infrastructure:load-tests:loadTestEnvironment >"$LOGS/environment.log" 2>&1 &
+PIDS+=($!)
+for _ in $(seq 1 1800); do
+  [[ -f "$ENV_FILE" ]] && break
+  sleep 0.1
+done
+[[ -f "$ENV_FILE" ]] || { echo "load test environment did not start, see $LOGS/environment.log" >&2; exit 1; }
+
+for service in "${SERVICES[@]}"; do
+  IFS='|' read -r module name <<<"$service"
+  jar="$(ls "$ROOT/$module"/build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)"
+  overrides="$(grep "^$name=" "$ENV_FILE" | cut -d= -f2- || true)"
+  # shellcheck disable=SC2086
+  "$JAVA" -jar "$jar" $overrides >"$LOGS/$name.log" 2>&1 &
+  PIDS+=($!)
+  if [[ "$name" == "discovery-service" ]]; then
+    wait_for "http://localhost:8761/" "$name"
+  fi
+done
+
+wait_for "http://localhost:8080/actuator/health" "gateway-api-service"
+# serwisy rejestrują się w Eureka asynchronicznie - gateway musi je zobaczyć, zanim ruszy ruch
+for app in USER-SERVICE PRODUCT-SERVICE ORDER-SERVICE; do
+  for _ in $(seq 1 1200); do
+    curl -s http://localhost:8761/eureka/apps | grep -q "<name>$app</name>" && break
+    sleep 0.1
+  done
+done
+for _ in $(seq 1 600); do
+  status="$(curl -s -o /dev/null -w '%{http_code}' -X POST http://localhost:8080/api/user/auth/login \
+    -H 'Content-Type: application/json' -d '{"username":"warmup","password":"warmup"}' || true)"
+  [[ "$status" == "200" ]] && break
+  sleep 0.1
+done
+
+"$ROOT/gradlew" -p "$ROOT" :infrastructure:load-tests:gatlingRun -Pgatling.label="$LABEL" "$@"
@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Porównuje statyczną konfigurację batchowania producenta (batch-size * batch-size-boost-factor, linger 5 ms)
+# z profilami latency-first i throughput-first używanymi przez adaptive-batching, przy niskim i wysokim ruchu.
+#
+# Użycie: infrastructure/benchmarks/kafka-batching-benchmark.sh [liczba_rekordów] [rozmiar_rekordu]
+# Wymaga: działającego kontenera saga-kafka z infrastructure/docker.
+
+set -euo pipefail
+
+RECORDS="${1:-200000}"
+RECORD_SIZE="${2:-512}"
+TOPIC="batching-benchmark"
+KAFKA_BIN=/opt/kafka/bin
+BOOTSTRAP=localhost:9092
+
+kafka() {
+  docker exec saga-kafka "$@"
+}
+
+kafka "$KAFKA_BIN/kafka-topics.sh" --bootstrap-server "$BOOTSTRAP" --create --if-not-exists \
+  --topic "$TOPIC" --partitions 6 --replication-factor 1 >/dev/null
+
+run() {
+  local label="$1" throughput="$2" linger="$3" batch="$4"
+  echo "=== $label (target: $throughput rec/s, linger.ms=$linger, batch.size=$batch)"
+  kafka "$KAFKA_BIN/kafka-producer-perf-test.sh" --topic "$TOPIC" \
+    --num-records "$RECORDS" --record-size "$RECORD_SIZE" --throughput "$throughput" \
+    --producer-props bootstrap.servers="$BOOTSTRAP" acks=all enable.idempotence=true compression.type=snappy \
+      linger.ms="$linger" batch.size="$batch" \
+    | tail -n 1
+}
+
+for throughput in 500 -1; do
+  run "static" "$throughput" 5 1638400
+  run "latency-first" "$throughput" 0 16384
+  run "throughput-first" "$throughput" 20 262144
+done
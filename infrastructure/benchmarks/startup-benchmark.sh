@@ -0,0 +1,101 @@
+#!/usr/bin/env bash
+# Mierzy czas od uruchomienia JVM do pierwszej poprawnej odpowiedzi HTTP dla każdego serwisu.
+#
+# Użycie: infrastructure/benchmarks/startup-benchmark.sh [default|lazy|aot|aot-cache] [liczba_powtórzeń]
+#   default   - zwykły boot jar
+#   lazy      - profil fast-startup (leniwa inicjalizacja, odroczone repozytoria JPA)
+#   aot       - jar zbudowany z -Paot, uruchomiony z -Dspring.aot.enabled=true
+#   aot-cache - jar wyekstrahowany przez trainAotCache (-Paot), uruchomiony z -XX:AOTCache
+#
+# Wymaga zbudowanych jarów (./gradlew bootJar [-Paot] lub trainAotCache -Paot) oraz działającej infrastruktury z infrastructure/docker.
+
+set -euo pipefail
+
+MODE="${1:-default}"
+RUNS="${2:-3}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+TIMEOUT_SECONDS=120
+
+# moduł|port|ścieżka pierwszego żądania
+SERVICES=(
+  "discovery-service/discovery-starter|8761|/"
+  "gateway-api-service/gateway-api-starter|8080|/eureka/web"
+  "user-service/user-starter|18081|/api/user/auth/hello"
+  "product-service/product-starter|18082|/api/product/hello"
+  "order-service/order-starter|18083|/api/order"
+  "inventory-service/inventory-starter|18084|/api/inventory"
+  "payment-service/payment-starter|18085|/api/payment"
+)
+
+now_ms() {
+  date +%s%3N
+}
+
+launch_command() {
+  local module="$1" port="$2"
+  local libs="$ROOT/$module/build/libs"
+  local cache="$ROOT/$module/build/aot-cache"
+  local jar
+
+  case "$MODE" in
+    default|lazy|aot) jar="$(ls "$libs"/*.jar | grep -v -- '-plain.jar' | head -n 1)" ;;
+    aot-cache) jar="$(ls "$cache"/*.jar | head -n 1)" ;;
+    *) echo "Unknown mode: $MODE" >&2; exit 1 ;;
+  esac
+
+  local command=("$JAVA")
+  case "$MODE" in
+    aot) command+=("-Dspring.aot.enabled=true") ;;
+    aot-cache) command+=("-XX:AOTCache=$cache/$(basename "$module").aot" "-Dspring.aot.enabled=true") ;;
+  esac
+  command+=("-jar" "$jar" "--server.port=$port")
+  if [[ "$MODE" == "lazy" ]]; then
+    command+=("--spring.profiles.active=fast-startup")
+  fi
+
+  echo "${command[@]}"
+}
+
+measure() {
+  local module="$1" port="$2" path="$3"
+  local log start elapsed pid
+
+  log="$(mktemp)"
+  start="$(now_ms)"
+  # shellcheck disable=SC2046
+  $(launch_command "$module" "$port") >"$log" 2>&1 &
+  pid=$!
+
+  elapsed=-1
+  while (( $(now_ms) - start < TIMEOUT_SECONDS * 1000 )); do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      break
+    fi
+    # Każda odpowiedź HTTP (również 401 z gatewaya) oznacza, że serwis obsługuje żądania
+    if [[ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$port$path" || true)" != "000" ]]; then
+      elapsed=$(( $(now_ms) - start ))
+      break
+    fi
+    sleep 0.05
+  done
+
+  kill "$pid" 2>/dev/null || true
+  wait "$pid" 2>/dev/null || true
+  if (( elapsed < 0 )); then
+    echo "  ! $module did not answer, log: $log" >&2
+  else
+    rm -f "$log"
+  fi
+  echo "$elapsed"
+}
+
+printf '%-40s %-10s %s\n' "service" "mode" "time-to-first-request [ms]"
+for service in "${SERVICES[@]}"; do
+  IFS='|' read -r module port path <<<"$service"
+  results=()
+  for (( run = 1; run <= RUNS; run++ )); do
+    results+=("$(measure "$module" "$port" "$path")")
+  done
+  printf '%-40s %-10s %s\n' "$(basename "$module")" "$MODE" "${results[*]}"
+done
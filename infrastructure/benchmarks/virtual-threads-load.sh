@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# Porównuje przepustowość i opóźnienia product-service na wątkach platformowych i wirtualnych.
+#
+# Użycie: infrastructure/benchmarks/virtual-threads-load.sh [współbieżność] [czas_trwania]
+# Wymaga: zbudowanego jar (./gradlew :product-service:product-starter:bootJar), narzędzia wrk
+# oraz działającej infrastruktury z infrastructure/docker.
+
+set -euo pipefail
+
+CONNECTIONS="${1:-400}"
+DURATION="${2:-30s}"
+ROOT="$(cd "$(dirname "$0")/../.." && pwd)"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+PORT=18090
+JAR="$(ls "$ROOT"/product-service/product-starter/build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)"
+
+command -v wrk >/dev/null || { echo "wrk is required" >&2; exit 1; }
+
+wait_for_service() {
+  for _ in $(seq 1 600); do
+    if curl -s -o /dev/null "http://localhost:$PORT/api/product/hello"; then
+      return 0
+    fi
+    sleep 0.1
+  done
+  echo "product-service did not start" >&2
+  return 1
+}
+
+create_product() {
+  curl -s -X POST "http://localhost:$PORT/api/product" \
+    -H 'Content-Type: application/json' \
+    -d "{\"userId\":\"0db66d3d-5b0a-41c9-9c06-b47c7f9a998b\",\"code\":\"VT-$RANDOM\",\"name\":\"Load test\",\"price\":1.00,\"quantity\":15}" \
+    | sed -E 's/.*"productId":"([^"]+)".*/\1/'
+}
+
+run_mode() {
+  local label="$1" profiles="$2" pid product_id
+
+  "$JAVA" -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" >"/tmp/product-service-$label.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+
+  wait_for_service
+  product_id="$(create_product)"
+
+  echo "=== $label (profiles: $profiles, connections: $CONNECTIONS, duration: $DURATION)"
+  wrk -t4 -c"$CONNECTIONS" -d"$DURATION" --latency "http://localhost:$PORT/api/product/$product_id" \
+    | grep -E 'Requests/sec|Latency|50%|90%|99%|Non-2xx|Socket errors'
+}
+
+run_mode "platform-threads" "prod"
+run_mode "virtual-threads" "prod,virtual-threads"
@@ -0,0 +1,4 @@
+#!/bin/sh
+# pozwala replice (saga-db-replica) pobrać kopię bazową i strumień WAL; uruchamiane tylko przy pustym wolumenie
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
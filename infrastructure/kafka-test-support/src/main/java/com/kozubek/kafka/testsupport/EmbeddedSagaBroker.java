@@ -0,0 +1,28 @@
+package com.kozubek.kafka.testsupport;
+
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.util.List;
+
+public class EmbeddedSagaBroker implements AutoCloseable {
+
+    private final EmbeddedKafkaKraftBroker broker;
+
+    public EmbeddedSagaBroker(final int partitions, final List<String> topics) {
+        this.broker = new EmbeddedKafkaKraftBroker(1, partitions, topics.toArray(String[]::new));
+        // jeden broker: transakcje i idempotentny producent muszą działać z replikacją 1
+        broker.brokerProperty("transaction.state.log.replication.factor", "1");
+        broker.brokerProperty("transaction.state.log.min.isr", "1");
+        broker.brokerProperty("offsets.topic.replication.factor", "1");
+        broker.afterPropertiesSet();
+    }
+
+    public String bootstrapServers() {
+        return broker.getBrokersAsString();
+    }
+
+    @Override
+    public void close() {
+        broker.destroy();
+    }
+}
@@ -0,0 +1,42 @@
+package com.kozubek.kafka.testsupport;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs saga topic load against an embedded KRaft broker (or {@code load.bootstrap-servers}) and prints latency percentiles.
+ * Settings are read from system properties, see the {@code kafkaLoadTest} task in infrastructure/build.gradle.
+ */
+public final class KafkaLoadTest {
+
+    private KafkaLoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int rate = Integer.getInteger("load.rate", 1000);
+        final Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+        final Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+        final int partitions = Integer.getInteger("load.partitions", 6);
+        final List<String> topics = Arrays.asList(System.getProperty("load.topics", "product-created-events,saga-events").split(","));
+        final List<ProducerMode> modes = Arrays.stream(System.getProperty("load.modes", "static,adaptive").split(","))
+                .map(mode -> ProducerMode.valueOf(mode.trim().toUpperCase().replace('-', '_')))
+                .toList();
+        final Path reportDirectory = Path.of(System.getProperty("load.report-dir", "build/reports/kafka-load"));
+        final String externalBootstrap = System.getProperty("load.bootstrap-servers");
+
+        final List<LoadScenario> scenarios = topics.stream()
+                .map(topic -> LoadScenario.productCreated(topic.trim(), rate))
+                .toList();
+
+        try (EmbeddedSagaBroker broker = externalBootstrap == null ? new EmbeddedSagaBroker(partitions, topics) : null) {
+            final String bootstrapServers = broker != null ? broker.bootstrapServers() : externalBootstrap;
+            for (final ProducerMode mode : modes) {
+                final LoadReport report = new SagaLoadGenerator(bootstrapServers, mode).run(scenarios, duration, warmup);
+                report.print(System.out);
+                report.writeDistributions(reportDirectory);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.kozubek.kafka.testsupport;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public record LoadReport(String label, Duration measured, List<TopicReport> topics) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public void print(final PrintStream out) {
+        out.printf("=== %s (%ds measured)%n", label, measured.toSeconds());
+        out.printf("%-28s %10s %10s %10s %9s %9s %9s %9s %9s%n",
+                "topic", "sent", "received", "rec/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (final TopicReport topic : topics) {
+            final Histogram latency = topic.latency();
+            out.printf("%-28s %10d %10d %10.0f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    topic.topic(), topic.sent(), topic.received(), topic.received() / (double) Math.max(1, measured.toSeconds()),
+                    millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                    latency.getMaxValue() / NANOS_PER_MILLI);
+        }
+    }
+
+    // pełny rozkład HDR (w ms) do porównania między buildami, np. w HdrHistogram plotterze
+    public void writeDistributions(final Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (final TopicReport topic : topics) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(label + "-" + topic.topic() + ".hgrm")))) {
+                topic.latency().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(final Histogram histogram, final double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public record TopicReport(String topic, long sent, long received, Histogram latency) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.kozubek.kafka.testsupport;
+
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+
+import java.util.function.LongFunction;
+
+public record LoadScenario(String topic, int ratePerSecond, LongFunction<MessageKafkaDto<?>> messageFactory) {
+
+    public static LoadScenario productCreated(final String topic, final int ratePerSecond) {
+        return new LoadScenario(topic, ratePerSecond, SagaMessages::productCreated);
+    }
+}
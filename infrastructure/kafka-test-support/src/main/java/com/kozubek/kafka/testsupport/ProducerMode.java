@@ -0,0 +1,49 @@
+package com.kozubek.kafka.testsupport;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import com.kozubek.kafka.config.producer.batching.BatchingProfile;
+
+import java.time.Duration;
+
+public enum ProducerMode {
+    STATIC,
+    LATENCY_FIRST,
+    THROUGHPUT_FIRST,
+    ADAPTIVE;
+
+    // te same wartości co kafka-config w application.yml product-service
+    public KafkaConfigProperties properties(final String bootstrapServers) {
+        final KafkaConfigProperties properties = new KafkaConfigProperties();
+        properties.setBootstrapServers(bootstrapServers);
+        properties.setNumOfPartitions(6);
+        properties.setReplicationFactor(1);
+
+        final KafkaConfigProperties.Producer producer = new KafkaConfigProperties.Producer();
+        producer.setBatchSize(16384);
+        producer.setBatchSizeBoostFactor(100);
+        producer.setLingerMs(5);
+        producer.setRequestTimeoutMs(60000);
+        producer.setRetryCount(5);
+        producer.getHotPartitionDetection().setEnabled(false);
+        properties.setProducer(producer);
+
+        final KafkaConfigProperties.AdaptiveBatching adaptive = producer.getAdaptiveBatching();
+        switch (this) {
+            case STATIC -> {
+            }
+            case LATENCY_FIRST -> applyProfile(producer, adaptive.getProfiles().get(BatchingProfile.LATENCY_FIRST));
+            case THROUGHPUT_FIRST -> applyProfile(producer, adaptive.getProfiles().get(BatchingProfile.THROUGHPUT_FIRST));
+            case ADAPTIVE -> {
+                adaptive.setEnabled(true);
+                adaptive.setInterval(Duration.ofSeconds(2));
+            }
+        }
+        return properties;
+    }
+
+    private static void applyProfile(final KafkaConfigProperties.Producer producer, final KafkaConfigProperties.BatchingSettings settings) {
+        producer.setLingerMs(settings.getLingerMs());
+        producer.setBatchSize(settings.getBatchSize());
+        producer.setBatchSizeBoostFactor(1);
+    }
+}
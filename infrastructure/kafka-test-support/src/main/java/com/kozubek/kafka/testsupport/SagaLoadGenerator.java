@@ -0,0 +1,169 @@
+package com.kozubek.kafka.testsupport;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import com.kozubek.kafka.config.producer.KafkaProducerConfig;
+import com.kozubek.kafka.config.producer.batching.AdaptiveBatchingTuner;
+import com.kozubek.kafka.config.producer.batching.ProducerSwitchGate;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Recorder;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: every scenario sends at a fixed rate and latency is measured from the intended send time,
+ * so a stalled producer shows up in the percentiles instead of silently lowering the rate (no coordinated omission).
+ */
+@Slf4j
+public class SagaLoadGenerator {
+
+    static final String INTENDED_SEND_HEADER = "load-intended-send-nanos";
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(15);
+
+    private final String bootstrapServers;
+    private final ProducerMode producerMode;
+
+    public SagaLoadGenerator(final String bootstrapServers, final ProducerMode producerMode) {
+        this.bootstrapServers = bootstrapServers;
+        this.producerMode = producerMode;
+    }
+
+    public LoadReport run(final List<LoadScenario> scenarios, final Duration duration, final Duration warmup) throws InterruptedException {
+        final KafkaConfigProperties properties = producerMode.properties(bootstrapServers);
+        final DefaultKafkaProducerFactory<String, MessageKafkaDto<?>> producerFactory =
+                new DefaultKafkaProducerFactory<>(new KafkaProducerConfig<>(properties).producerConfigs());
+        final KafkaTemplate<String, MessageKafkaDto<?>> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        final ProducerSwitchGate switchGate = new ProducerSwitchGate();
+        final AdaptiveBatchingTuner tuner = properties.getProducer().getAdaptiveBatching().isEnabled()
+                ? new AdaptiveBatchingTuner(properties.getProducer().getAdaptiveBatching(), producerFactory, kafkaTemplate, switchGate)
+                : null;
+
+        final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> sent = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> received = new ConcurrentHashMap<>();
+        scenarios.forEach(scenario -> {
+            recorders.put(scenario.topic(), new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            sent.put(scenario.topic(), new LongAdder());
+            received.put(scenario.topic(), new LongAdder());
+        });
+
+        final AtomicBoolean consuming = new AtomicBoolean(true);
+        final CountDownLatch consumerReady = new CountDownLatch(1);
+        final AtomicLong measureStart = new AtomicLong(Long.MAX_VALUE);
+        final Thread consumer = Thread.ofPlatform().name("load-consumer").start(
+                () -> consume(scenarios, measureStart, recorders, received, consuming, consumerReady));
+        consumerReady.await();
+
+        final long start = System.nanoTime();
+        final long measureFrom = start + warmup.toNanos();
+        final long end = measureFrom + duration.toNanos();
+        measureStart.set(measureFrom);
+        if (tuner != null) {
+            tuner.start();
+        }
+
+        final List<Thread> producers = new ArrayList<>();
+        for (final LoadScenario scenario : scenarios) {
+            producers.add(Thread.ofPlatform().name("load-producer-" + scenario.topic()).start(
+                    () -> produce(kafkaTemplate, switchGate, scenario, start, measureFrom, end, sent.get(scenario.topic()))));
+        }
+        for (final Thread producer : producers) {
+            producer.join();
+        }
+        kafkaTemplate.flush();
+
+        final long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (System.nanoTime() < drainDeadline && scenarios.stream()
+                .anyMatch(scenario -> received.get(scenario.topic()).sum() < sent.get(scenario.topic()).sum())) {
+            Thread.sleep(50);
+        }
+        consuming.set(false);
+        consumer.join();
+        if (tuner != null) {
+            tuner.stop();
+        }
+        producerFactory.destroy();
+
+        final List<LoadReport.TopicReport> topics = scenarios.stream()
+                .map(scenario -> new LoadReport.TopicReport(scenario.topic(), sent.get(scenario.topic()).sum(),
+                        received.get(scenario.topic()).sum(), recorders.get(scenario.topic()).getIntervalHistogram()))
+                .toList();
+        return new LoadReport(producerMode.name().toLowerCase(), duration, topics);
+    }
+
+    private static void produce(final KafkaTemplate<String, MessageKafkaDto<?>> kafkaTemplate, final ProducerSwitchGate switchGate,
+                                final LoadScenario scenario, final long start, final long measureFrom, final long end, final LongAdder sent) {
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond();
+        long sequence = 0;
+        for (long intended = start; intended < end; intended = start + ++sequence * intervalNanos) {
+            LockSupport.parkNanos(intended - System.nanoTime());
+            final MessageKafkaDto<?> message = scenario.messageFactory().apply(sequence);
+            final ProducerRecord<String, MessageKafkaDto<?>> record = new ProducerRecord<>(scenario.topic(), message.getDataId(), message);
+            record.headers().add(INTENDED_SEND_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(intended).array());
+            switchGate.send(() -> kafkaTemplate.send(record));
+            if (intended >= measureFrom) {
+                sent.increment();
+            }
+        }
+    }
+
+    private void consume(final List<LoadScenario> scenarios, final AtomicLong measureStart, final Map<String, Recorder> recorders,
+                         final Map<String, LongAdder> received, final AtomicBoolean consuming, final CountDownLatch ready) {
+        final Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "load-test-" + UUID.randomUUID());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 10);
+
+        try (KafkaConsumer<String, byte[]> consumer = new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer())) {
+            final List<TopicPartition> partitions = scenarios.stream()
+                    .flatMap(scenario -> consumer.partitionsFor(scenario.topic()).stream()
+                            .map(info -> new TopicPartition(info.topic(), info.partition())))
+                    .toList();
+            consumer.assign(partitions);
+            consumer.seekToEnd(partitions);
+            partitions.forEach(consumer::position);
+            ready.countDown();
+
+            while (consuming.get()) {
+                for (final ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(20))) {
+                    final Header header = record.headers().lastHeader(INTENDED_SEND_HEADER);
+                    final long intended = ByteBuffer.wrap(header.value()).getLong();
+                    if (intended >= measureStart.get()) {
+                        recorders.get(record.topic()).recordValue(Math.min(System.nanoTime() - intended, HIGHEST_TRACKABLE_NANOS));
+                        received.get(record.topic()).increment();
+                    }
+                }
+            }
+        } catch (final Exception e) {
+            log.error("Load test consumer failed", e);
+        } finally {
+            ready.countDown();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kozubek.kafka.testsupport;
+
+import com.kozubek.kafka.model.ProductMessageDto;
+import com.kozubek.kafka.model.events.ProductCreatedEventDtoKafka;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public final class SagaMessages {
+
+    private static final String USER_ID = "0db66d3d-5b0a-41c9-9c06-b47c7f9a998b";
+
+    private SagaMessages() {
+    }
+
+    public static ProductCreatedEventDtoKafka productCreated(final long sequence) {
+        final String productId = UUID.randomUUID().toString();
+        final ProductMessageDto product = ProductMessageDto.builder()
+                .productId(productId)
+                .userId(USER_ID)
+                .code("LOAD-" + sequence)
+                .name("Load test product " + sequence)
+                .price(BigDecimal.valueOf(19.99))
+                .quantity((int) (sequence % 100))
+                .status("AVAILABLE")
+                .build();
+        return new ProductCreatedEventDtoKafka(product, productId, Instant.now(), UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,46 @@
+package com.kozubek.kafka.testsupport;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SagaLoadGenerator Integration Tests")
+class SagaLoadGeneratorTest {
+
+    private static final String TOPIC = "product-created-events";
+
+    private static EmbeddedSagaBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedSagaBroker(3, List.of(TOPIC));
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.close();
+    }
+
+    @Test
+    @DisplayName("Should receive every measured record and report end-to-end latency")
+    void shouldReceiveEveryMeasuredRecordAndReportLatency() throws InterruptedException {
+        // given
+        final SagaLoadGenerator generator = new SagaLoadGenerator(broker.bootstrapServers(), ProducerMode.LATENCY_FIRST);
+
+        // when
+        final LoadReport report = generator.run(List.of(LoadScenario.productCreated(TOPIC, 200)), Duration.ofSeconds(2), Duration.ofSeconds(1));
+
+        // then
+        final LoadReport.TopicReport topic = report.topics().getFirst();
+        assertThat(topic.sent()).isGreaterThanOrEqualTo(390);
+        assertThat(topic.received()).isEqualTo(topic.sent());
+        assertThat(topic.latency().getTotalCount()).isEqualTo(topic.received());
+        assertThat(topic.latency().getValueAtPercentile(50)).isPositive();
+    }
+}
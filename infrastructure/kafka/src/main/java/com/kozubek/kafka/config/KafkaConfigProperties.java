@@ -1,9 +1,17 @@
 package com.kozubek.kafka.config;
 
+import com.kozubek.kafka.config.producer.batching.BatchingProfile;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @ConfigurationProperties(prefix = "kafka-config")
 @Configuration
 @Data
@@ -13,6 +21,27 @@ public class KafkaConfigProperties {
     private Integer numOfPartitions;
     private Integer replicationFactor;
     private Producer producer;
+    private Consumer consumer = new Consumer();
+    private TopicProvisioning topicProvisioning = new TopicProvisioning();
+    private Map<String, Topic> topics = new LinkedHashMap<>();
+
+    @Data
+    public static class TopicProvisioning {
+        private boolean enabled = true;
+        private boolean modifyExisting = true;
+        private boolean failOnError = false;
+        private Duration operationTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Topic {
+        private Integer partitions;
+        private Integer replicationFactor;
+        private Integer minInsyncReplicas;
+        private Duration retention;
+        private String compressionType;
+        private Map<String, String> configs = new LinkedHashMap<>();
+    }
 
     @Data
     public static class Producer {
@@ -25,5 +54,86 @@ public class KafkaConfigProperties {
         private Integer lingerMs;
         private Integer requestTimeoutMs;
         private Integer retryCount;
+        private Boolean enableIdempotence = true;
+        private Integer maxInFlightRequestsPerConnection = 5;
+        private Integer deliveryTimeoutMs = 120000;
+        private String transactionIdPrefix;
+        private KeyStrategy keyStrategy = KeyStrategy.AGGREGATE_ID;
+        private Partitioner partitioner = Partitioner.KEY_HASH;
+        private String partitionerClass;
+        private HotPartitionDetection hotPartitionDetection = new HotPartitionDetection();
+        private AdaptiveBatching adaptiveBatching = new AdaptiveBatching();
+    }
+
+    @Data
+    public static class AdaptiveBatching {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofSeconds(30);
+        private BatchingProfile initialProfile = BatchingProfile.LATENCY_FIRST;
+        private Double throughputRecordRate = 1000.0;
+        private Double hysteresis = 0.2;
+        private Double minBatchFillRatio = 0.1;
+        private Double maxRequestLatencyMs = 50.0;
+        private Map<BatchingProfile, BatchingSettings> profiles = new EnumMap<>(Map.of(
+                BatchingProfile.LATENCY_FIRST, new BatchingSettings(0, 16384),
+                BatchingProfile.THROUGHPUT_FIRST, new BatchingSettings(20, 262144)));
+        private Map<String, BatchingProfile> topicProfiles = new LinkedHashMap<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchingSettings {
+        private Integer lingerMs;
+        private Integer batchSize;
+    }
+
+    @Data
+    public static class Consumer {
+        private String groupId;
+        private String autoOffsetReset = "earliest";
+        private Integer maxPollRecords = 500;
+        private Integer concurrency = 3;
+        private Retry retry = new Retry();
+        private DltReplay dltReplay = new DltReplay();
+    }
+
+    @Data
+    public static class Retry {
+        private boolean enabled = true;
+        private Integer attempts = 4;
+        private Duration initialDelay = Duration.ofSeconds(1);
+        private Double multiplier = 4.0;
+        private Duration maxDelay = Duration.ofMinutes(1);
+        private String retryTopicSuffix = "-retry";
+        private String dltSuffix = "-dlt";
+    }
+
+    @Data
+    public static class DltReplay {
+        private Integer ratePerSecond = 50;
+        private Integer maxRecords = 1000;
+        private Duration pollTimeout = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class HotPartitionDetection {
+        private boolean enabled = true;
+        private Duration window = Duration.ofMinutes(1);
+        private Double skewThreshold = 2.0;
+        private Integer maxTrackedKeys = 10_000;
+    }
+
+    public enum KeyStrategy {
+        AGGREGATE_ID,
+        SAGA_ID,
+        NONE
+    }
+
+    public enum Partitioner {
+        KEY_HASH,
+        STICKY,
+        ROUND_ROBIN,
+        CUSTOM
     }
 }
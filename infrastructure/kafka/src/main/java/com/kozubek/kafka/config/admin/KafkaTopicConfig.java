@@ -0,0 +1,60 @@
+package com.kozubek.kafka.config.admin;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class KafkaTopicConfig {
+
+    private final KafkaConfigProperties kafkaConfigProperties;
+
+    @Bean
+    public KafkaAdmin kafkaAdmin() {
+        final KafkaConfigProperties.TopicProvisioning provisioning = kafkaConfigProperties.getTopicProvisioning();
+        final KafkaAdmin kafkaAdmin = new KafkaAdmin(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigProperties.getBootstrapServers()));
+        kafkaAdmin.setAutoCreate(provisioning.isEnabled());
+        // KafkaAdmin zwiększa liczbę partycji istniejących tematów, ustawienia (retencja itd.) zmienia tylko przy modify-existing
+        kafkaAdmin.setModifyTopicConfigs(provisioning.isModifyExisting());
+        kafkaAdmin.setFatalIfBrokerNotAvailable(provisioning.isFailOnError());
+        kafkaAdmin.setOperationTimeout((int) provisioning.getOperationTimeout().toSeconds());
+        return kafkaAdmin;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "kafka-config.topic-provisioning", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public KafkaAdmin.NewTopics sagaTopics() {
+        return new KafkaAdmin.NewTopics(kafkaConfigProperties.getTopics().entrySet().stream()
+                .map(topic -> newTopic(topic.getKey(), topic.getValue()))
+                .toArray(NewTopic[]::new));
+    }
+
+    private NewTopic newTopic(final String name, final KafkaConfigProperties.Topic topic) {
+        final int partitions = topic.getPartitions() != null ? topic.getPartitions() : kafkaConfigProperties.getNumOfPartitions();
+        final int replicas = topic.getReplicationFactor() != null ? topic.getReplicationFactor() : kafkaConfigProperties.getReplicationFactor();
+        final int minInsyncReplicas = topic.getMinInsyncReplicas() != null ? topic.getMinInsyncReplicas() : Math.max(1, replicas - 1);
+
+        final TopicBuilder builder = TopicBuilder.name(name)
+                .partitions(partitions)
+                .replicas(replicas)
+                .config(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, String.valueOf(minInsyncReplicas));
+        if (topic.getRetention() != null) {
+            builder.config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(topic.getRetention().toMillis()));
+        }
+        if (topic.getCompressionType() != null) {
+            builder.config(TopicConfig.COMPRESSION_TYPE_CONFIG, topic.getCompressionType());
+        }
+        builder.configs(topic.getConfigs());
+        return builder.build();
+    }
+}
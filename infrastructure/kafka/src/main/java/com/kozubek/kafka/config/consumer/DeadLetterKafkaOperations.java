@@ -0,0 +1,43 @@
+package com.kozubek.kafka.config.consumer;
+
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import com.kozubek.kafka.config.serialization.MessageKafkaDtoJsonSerializer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Non-transactional template for retry and dead-letter topics. Records that failed deserialization are
+ * forwarded as raw bytes, everything else is written with the regular message serializer.
+ * Kept out of the context as a KafkaTemplate so that {@code KafkaPublisher} still sees a single template.
+ */
+public class DeadLetterKafkaOperations {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @SuppressWarnings("rawtypes")
+    public DeadLetterKafkaOperations(final ProducerFactory<String, MessageKafkaDto<?>> producerFactory) {
+        final Map<String, Object> configs = new HashMap<>(producerFactory.getConfigurationProperties());
+        configs.remove(ProducerConfig.TRANSACTIONAL_ID_CONFIG);
+
+        final Map<Class<?>, Serializer<?>> serializers = new LinkedHashMap<>();
+        serializers.put(byte[].class, new ByteArraySerializer());
+        serializers.put(MessageKafkaDto.class, new MessageKafkaDtoJsonSerializer());
+
+        this.kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configs, new StringSerializer(),
+                new DelegatingByTypeSerializer(serializers, true)));
+    }
+
+    public KafkaTemplate<String, Object> template() {
+        return kafkaTemplate;
+    }
+}
@@ -0,0 +1,27 @@
+package com.kozubek.kafka.config.consumer;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "dltreplay")
+@RequiredArgsConstructor
+public class DeadLetterReplayEndpoint {
+
+    private final DeadLetterReplayer deadLetterReplayer;
+    private final KafkaConfigProperties kafkaConfigProperties;
+
+    @WriteOperation
+    public DeadLetterReplayer.ReplayResult replay(@Selector final String dltTopic, @Nullable final String targetTopic,
+                                                  @Nullable final Integer ratePerSecond, @Nullable final Integer maxRecords) {
+        final KafkaConfigProperties.DltReplay defaults = kafkaConfigProperties.getConsumer().getDltReplay();
+        return deadLetterReplayer.replay(dltTopic, targetTopic,
+                ratePerSecond != null ? ratePerSecond : defaults.getRatePerSecond(),
+                maxRecords != null ? maxRecords : defaults.getMaxRecords());
+    }
+}
@@ -0,0 +1,125 @@
+package com.kozubek.kafka.config.consumer;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterReplayer {
+
+    public static final String REPLAYED_AT_HEADER = "dlt-replayed-at";
+
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final String RETRY_HEADER_PREFIX = "retry_topic-";
+
+    private final KafkaConfigProperties kafkaConfigProperties;
+    private final DeadLetterKafkaOperations deadLetterKafkaOperations;
+
+    public ReplayResult replay(final String dltTopic, final String targetTopic, final int ratePerSecond, final int maxRecords) {
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        final Map<String, Integer> replayedPerTopic = new HashMap<>();
+        int replayed = 0;
+        long nextSendAt = System.nanoTime();
+
+        try (Consumer<String, byte[]> consumer = replayConsumer(dltTopic)) {
+            final List<TopicPartition> partitions = consumer.partitionsFor(dltTopic).stream()
+                    .map(partition -> new TopicPartition(dltTopic, partition.partition()))
+                    .toList();
+            // assign zamiast subscribe: bez dołączania do grupy pierwszy poll nie czeka na rebalans,
+            // a koniec odtwarzania wyznaczają offsety końcowe z chwili startu, nie pierwszy pusty poll
+            consumer.assign(partitions);
+            final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            while (replayed < maxRecords && !reachedEnd(consumer, endOffsets)) {
+                final ConsumerRecords<String, byte[]> records = consumer.poll(kafkaConfigProperties.getConsumer().getDltReplay().getPollTimeout());
+                for (final ConsumerRecord<String, byte[]> record : records) {
+                    if (replayed >= maxRecords) {
+                        break;
+                    }
+                    final TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() >= endOffsets.get(partition)) {
+                        // rekordy dopisane do DLT w trakcie odtwarzania zostają na kolejne uruchomienie
+                        continue;
+                    }
+                    LockSupport.parkNanos(nextSendAt - System.nanoTime());
+                    nextSendAt = Math.max(nextSendAt, System.nanoTime()) + intervalNanos;
+
+                    final String destination = targetTopic != null ? targetTopic : originalTopic(record);
+                    deadLetterKafkaOperations.template()
+                            .send(new ProducerRecord<>(destination, null, record.key(), record.value(), replayHeaders(record.headers())))
+                            .join();
+                    consumer.commitSync(Map.of(partition, new OffsetAndMetadata(record.offset() + 1)));
+                    replayedPerTopic.merge(destination, 1, Integer::sum);
+                    replayed++;
+                }
+            }
+        }
+        log.info("Replayed {} records from {} to {}", replayed, dltTopic, replayedPerTopic);
+        return new ReplayResult(dltTopic, replayed, replayedPerTopic);
+    }
+
+    private static boolean reachedEnd(final Consumer<String, byte[]> consumer, final Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream().allMatch(end -> consumer.position(end.getKey()) >= end.getValue());
+    }
+
+    private Consumer<String, byte[]> replayConsumer(final String dltTopic) {
+        final Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigProperties.getBootstrapServers());
+        // grupa służy tylko do zapisu offsetów: powtórne uruchomienie kontynuuje od ostatnio odtworzonego rekordu
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, dltTopic + "-replayer");
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new ByteArrayDeserializer()).createConsumer();
+    }
+
+    private String originalTopic(final ConsumerRecord<String, byte[]> record) {
+        final Header original = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        if (original != null) {
+            return new String(original.value(), StandardCharsets.UTF_8);
+        }
+        final String dltSuffix = kafkaConfigProperties.getConsumer().getRetry().getDltSuffix();
+        if (!record.topic().endsWith(dltSuffix)) {
+            throw new IllegalArgumentException("Cannot resolve original topic of " + record.topic() + ", pass the target topic explicitly");
+        }
+        return record.topic().substring(0, record.topic().length() - dltSuffix.length());
+    }
+
+    private static Headers replayHeaders(final Headers dltHeaders) {
+        final RecordHeaders headers = new RecordHeaders();
+        for (final Header header : dltHeaders) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX) && !header.key().startsWith(RETRY_HEADER_PREFIX)) {
+                headers.add(header);
+            }
+        }
+        headers.add(REPLAYED_AT_HEADER, Instant.now().toString().getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    public record ReplayResult(String dltTopic, int replayed, Map<String, Integer> replayedPerTopic) {
+    }
+}
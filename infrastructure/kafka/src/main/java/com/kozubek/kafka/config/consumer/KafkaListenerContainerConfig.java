@@ -0,0 +1,85 @@
+package com.kozubek.kafka.config.consumer;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import com.kozubek.kafka.config.observation.SagaKafkaListenerObservationConvention;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import com.kozubek.kafka.config.serialization.MessageKafkaDtoJsonDeserializer;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class KafkaListenerContainerConfig {
+
+    private final KafkaConfigProperties kafkaConfigProperties;
+
+    @Value("${spring.application.name:saga-app}")
+    private String applicationName;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public ConsumerFactory<String, MessageKafkaDto<?>> consumerFactory() {
+        final KafkaConfigProperties.Consumer consumer = kafkaConfigProperties.getConsumer();
+        final Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigProperties.getBootstrapServers());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, consumer.getGroupId() != null ? consumer.getGroupId() : applicationName);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, consumer.getAutoOffsetReset());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, consumer.getMaxPollRecords());
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        // błąd deserializacji nie blokuje partycji - rekord trafia do error handlera i dalej do DLT
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, MessageKafkaDtoJsonDeserializer.class);
+        if (kafkaConfigProperties.getProducer().getTransactionIdPrefix() != null) {
+            props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        }
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, MessageKafkaDto<?>> kafkaListenerContainerFactory(
+            final ConsumerFactory<String, MessageKafkaDto<?>> consumerFactory,
+            final ProducerFactory<String, MessageKafkaDto<?>> producerFactory) {
+        final ConcurrentKafkaListenerContainerFactory<String, MessageKafkaDto<?>> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(kafkaConfigProperties.getConsumer().getConcurrency());
+
+        final ContainerProperties containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.BATCH);
+        containerProperties.setObservationEnabled(true);
+        containerProperties.setObservationConvention(new SagaKafkaListenerObservationConvention());
+        if (virtualThreads) {
+            final SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            containerProperties.setListenerTaskExecutor(listenerExecutor);
+        }
+        if (producerFactory.transactionCapable()) {
+            // consume-transform-produce: offsety konsumenta i wysłane rekordy zatwierdzane w jednej transakcji Kafki.
+            // KafkaTransactionManager nie jest beanem - inaczej Spring Boot nie utworzy JpaTransactionManager
+            containerProperties.setKafkaAwareTransactionManager(new KafkaTransactionManager<>(producerFactory));
+        }
+        return factory;
+    }
+
+    @Bean
+    public DeadLetterKafkaOperations deadLetterKafkaOperations(final ProducerFactory<String, MessageKafkaDto<?>> producerFactory) {
+        return new DeadLetterKafkaOperations(producerFactory);
+    }
+}
@@ -0,0 +1,44 @@
+package com.kozubek.kafka.config.consumer;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaRetryTopic;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.support.converter.ConversionException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.messaging.converter.MessageConversionException;
+
+import java.util.List;
+
+@Configuration
+@EnableKafkaRetryTopic
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka-config.consumer.retry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaRetryTopicConfig {
+
+    private final KafkaConfigProperties kafkaConfigProperties;
+
+    @Bean
+    public RetryTopicConfiguration sagaRetryTopicConfiguration(final DeadLetterKafkaOperations deadLetterKafkaOperations) {
+        final KafkaConfigProperties.Retry retry = kafkaConfigProperties.getConsumer().getRetry();
+        // nieblokujące ponowienia: rekord przechodzi przez tematy -retry-0..n z rosnącym opóźnieniem, na końcu trafia do -dlt
+        // z oryginalnymi nagłówkami oraz kafka_dlt-exception-* (klasa, komunikat, stacktrace)
+        return RetryTopicConfigurationBuilder.newInstance()
+                .exponentialBackoff(retry.getInitialDelay().toMillis(), retry.getMultiplier(), retry.getMaxDelay().toMillis())
+                .maxAttempts(retry.getAttempts())
+                .retryTopicSuffix(retry.getRetryTopicSuffix())
+                .dltSuffix(retry.getDltSuffix())
+                .suffixTopicsWithIndexValues()
+                .autoCreateTopicsWith(kafkaConfigProperties.getNumOfPartitions(), kafkaConfigProperties.getReplicationFactor().shortValue())
+                .notRetryOn(List.of(DeserializationException.class, MessageConversionException.class, ConversionException.class,
+                        ClassCastException.class, IllegalArgumentException.class))
+                .dltProcessingFailureStrategy(DltStrategy.ALWAYS_RETRY_ON_ERROR)
+                .listenerFactory("kafkaListenerContainerFactory")
+                .create(deadLetterKafkaOperations.template());
+    }
+}
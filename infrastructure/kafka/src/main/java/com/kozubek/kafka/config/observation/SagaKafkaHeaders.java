@@ -0,0 +1,27 @@
+package com.kozubek.kafka.config.observation;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+public final class SagaKafkaHeaders {
+
+    public static final String SAGA_ID = "saga-id";
+    public static final String SAGA_ID_TAG = "saga.id";
+
+    private SagaKafkaHeaders() {
+    }
+
+    public static void putSagaId(final Headers headers, final String sagaId) {
+        if (sagaId != null) {
+            headers.remove(SAGA_ID);
+            headers.add(SAGA_ID, sagaId.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    public static String sagaId(final Headers headers) {
+        final Header header = headers.lastHeader(SAGA_ID);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
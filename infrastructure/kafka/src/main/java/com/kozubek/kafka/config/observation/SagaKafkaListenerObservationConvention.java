@@ -0,0 +1,15 @@
+package com.kozubek.kafka.config.observation;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.kafka.support.micrometer.KafkaListenerObservation;
+import org.springframework.kafka.support.micrometer.KafkaRecordReceiverContext;
+
+public class SagaKafkaListenerObservationConvention extends KafkaListenerObservation.DefaultKafkaListenerObservationConvention {
+
+    @Override
+    public KeyValues getHighCardinalityKeyValues(final KafkaRecordReceiverContext context) {
+        final String sagaId = SagaKafkaHeaders.sagaId(context.getRecord().headers());
+        final KeyValues keyValues = super.getHighCardinalityKeyValues(context);
+        return sagaId == null ? keyValues : keyValues.and(SagaKafkaHeaders.SAGA_ID_TAG, sagaId);
+    }
+}
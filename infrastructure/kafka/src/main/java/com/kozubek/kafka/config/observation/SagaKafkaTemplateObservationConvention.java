@@ -0,0 +1,15 @@
+package com.kozubek.kafka.config.observation;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.kafka.support.micrometer.KafkaRecordSenderContext;
+import org.springframework.kafka.support.micrometer.KafkaTemplateObservation;
+
+public class SagaKafkaTemplateObservationConvention extends KafkaTemplateObservation.DefaultKafkaTemplateObservationConvention {
+
+    @Override
+    public KeyValues getHighCardinalityKeyValues(final KafkaRecordSenderContext context) {
+        final String sagaId = SagaKafkaHeaders.sagaId(context.getRecord().headers());
+        final KeyValues keyValues = super.getHighCardinalityKeyValues(context);
+        return sagaId == null ? keyValues : keyValues.and(SagaKafkaHeaders.SAGA_ID_TAG, sagaId);
+    }
+}
@@ -1,20 +1,34 @@
 package com.kozubek.kafka.config.producer;
 
 import com.kozubek.kafka.config.KafkaConfigProperties;
+import com.kozubek.kafka.config.observation.SagaKafkaTemplateObservationConvention;
+import com.kozubek.kafka.config.producer.batching.AdaptiveBatchingTuner;
+import com.kozubek.kafka.config.producer.batching.ProducerSwitchGate;
+import com.kozubek.kafka.config.producer.partitioning.HotPartitionDetector;
+import com.kozubek.kafka.config.producer.partitioning.MessageKeyStrategies;
+import com.kozubek.kafka.config.producer.partitioning.MessageKeyStrategy;
 import com.kozubek.kafka.config.serialization.MessageKafkaDto;
 import com.kozubek.kafka.config.serialization.MessageKafkaDtoJsonSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.RoundRobinPartitioner;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
 
 @Component
 @RequiredArgsConstructor
@@ -35,17 +49,88 @@ public class KafkaProducerConfig<T extends Serializable> {
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, MessageKafkaDtoJsonSerializer.class);
         props.put(ProducerConfig.ACKS_CONFIG, "all");
         props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy");
+        putDeliveryGuarantees(props, kafkaConfigProperties.getProducer());
+        putPartitioner(props, kafkaConfigProperties.getProducer());
         return props;
     }
 
     @Bean
-    public ProducerFactory<String, MessageKafkaDto<?>> producerFactory(final Map<String, Object> producerConfigs) {
-        return new DefaultKafkaProducerFactory<>(producerConfigs);
+    public MessageKeyStrategy messageKeyStrategy() {
+        return MessageKeyStrategies.of(kafkaConfigProperties.getProducer().getKeyStrategy());
+    }
+
+    @Bean
+    public ProducerFactory<String, MessageKafkaDto<?>> producerFactory(final Map<String, Object> producerConfigs,
+                                                                       final ObjectProvider<MeterRegistry> meterRegistry) {
+        final DefaultKafkaProducerFactory<String, MessageKafkaDto<?>> producerFactory = new DefaultKafkaProducerFactory<>(producerConfigs);
+        if (kafkaConfigProperties.getProducer().getTransactionIdPrefix() != null) {
+            producerFactory.setTransactionIdPrefix(kafkaConfigProperties.getProducer().getTransactionIdPrefix());
+        }
+        meterRegistry.ifAvailable(registry -> producerFactory.addListener(new MicrometerProducerListener<>(registry)));
+        return producerFactory;
     }
 
     @Bean
     public KafkaTemplate<String, MessageKafkaDto<?>> kafkaTemplate(final ProducerFactory<String, MessageKafkaDto<?>> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+        final KafkaTemplate<String, MessageKafkaDto<?>> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        kafkaTemplate.setObservationEnabled(true);
+        kafkaTemplate.setObservationConvention(new SagaKafkaTemplateObservationConvention());
+
+        final KafkaConfigProperties.HotPartitionDetection detection = kafkaConfigProperties.getProducer().getHotPartitionDetection();
+        if (detection.isEnabled()) {
+            kafkaTemplate.setProducerListener(new HotPartitionDetector(detection.getWindow(), detection.getSkewThreshold(),
+                    detection.getMaxTrackedKeys(), topic -> partitionCount(producerFactory, topic),
+                    Executors.newSingleThreadExecutor(Thread.ofVirtual().name("hot-partition-detector").factory()), Clock.systemUTC()));
+        }
+        return kafkaTemplate;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "kafka-config.producer.adaptive-batching", name = "enabled", havingValue = "true")
+    public ProducerSwitchGate producerSwitchGate() {
+        return new ProducerSwitchGate();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "kafka-config.producer.adaptive-batching", name = "enabled", havingValue = "true")
+    public AdaptiveBatchingTuner adaptiveBatchingTuner(final ProducerFactory<String, MessageKafkaDto<?>> producerFactory,
+                                                       final KafkaTemplate<String, MessageKafkaDto<?>> kafkaTemplate,
+                                                       final ProducerSwitchGate producerSwitchGate) {
+        return new AdaptiveBatchingTuner(kafkaConfigProperties.getProducer().getAdaptiveBatching(), producerFactory, kafkaTemplate,
+                producerSwitchGate);
+    }
+
+    // współdzielony producent nietransakcyjny - partitionsFor na producencie transakcyjnym wymaga otwartej transakcji
+    private static int partitionCount(final ProducerFactory<String, MessageKafkaDto<?>> producerFactory, final String topic) {
+        try (Producer<String, MessageKafkaDto<?>> producer = producerFactory.createNonTransactionalProducer()) {
+            return producer.partitionsFor(topic).size();
+        }
+    }
+
+    private static void putDeliveryGuarantees(final Map<String, Object> props, final KafkaConfigProperties.Producer producer) {
+        final boolean idempotent = Boolean.TRUE.equals(producer.getEnableIdempotence());
+        if (producer.getTransactionIdPrefix() != null && !idempotent) {
+            throw new IllegalStateException("Transactional Kafka producer requires kafka-config.producer.enable-idempotence=true");
+        }
+        if (idempotent && producer.getMaxInFlightRequestsPerConnection() > 5) {
+            throw new IllegalStateException("Idempotent Kafka producer keeps ordering only with max-in-flight-requests-per-connection <= 5");
+        }
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, idempotent);
+        props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, producer.getMaxInFlightRequestsPerConnection());
+        // delivery.timeout.ms ogranicza łączny czas ponowień, musi być >= linger.ms + request.timeout.ms
+        props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG,
+                Math.max(producer.getDeliveryTimeoutMs(), producer.getLingerMs() + producer.getRequestTimeoutMs()));
+    }
+
+    private static void putPartitioner(final Map<String, Object> props, final KafkaConfigProperties.Producer producer) {
+        switch (producer.getPartitioner()) {
+            case KEY_HASH -> {
+                // domyślny partitioner Kafki: murmur2 z klucza, sticky dla rekordów bez klucza
+            }
+            case STICKY -> props.put(ProducerConfig.PARTITIONER_IGNORE_KEYS_CONFIG, true);
+            case ROUND_ROBIN -> props.put(ProducerConfig.PARTITIONER_CLASS_CONFIG, RoundRobinPartitioner.class);
+            case CUSTOM -> props.put(ProducerConfig.PARTITIONER_CLASS_CONFIG, producer.getPartitionerClass());
+        }
     }
 
 }
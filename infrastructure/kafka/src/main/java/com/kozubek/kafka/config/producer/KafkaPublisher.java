@@ -1,9 +1,18 @@
 package com.kozubek.kafka.config.producer;
 
+import com.kozubek.kafka.config.observation.SagaKafkaHeaders;
+import com.kozubek.kafka.config.producer.batching.ProducerSwitchGate;
 import com.kozubek.kafka.config.producer.exception.KafkaProducerException;
+import com.kozubek.kafka.config.producer.partitioning.MessageKeyStrategy;
 import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -12,15 +21,50 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class KafkaPublisher<V extends MessageKafkaDto<?>> {
 
+    private static final Logger PAYLOAD_LOG = LoggerFactory.getLogger("com.kozubek.kafka.payload");
+
     private final KafkaTemplate<String, V> kafkaTemplate;
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    private final MessageKeyStrategy messageKeyStrategy;
+    private final ObjectProvider<ProducerSwitchGate> producerSwitchGate;
+
+    public void send(final String topicName, final V message) {
+        send(topicName, messageKeyStrategy.keyOf(message), message);
+    }
 
     public void send(final String topicName, final String key, final V message) {
-        log.info("Sending message: {} to topic: {}", message, topicName);
+        log.atInfo()
+                .addKeyValue("messageId", message.getMessageId())
+                .addKeyValue("sagaId", message.getSagaId())
+                .addKeyValue("topic", topicName)
+                .log("Sending message {} (saga {}) to topic: {}", message.getMessageId(), message.getSagaId(), topicName);
+        if (PAYLOAD_LOG.isDebugEnabled()) {
+            PAYLOAD_LOG.debug("Message {} payload: {}", message.getMessageId(), message);
+        }
         try {
-            kafkaTemplate.send(topicName, key, message);
+            final ProducerRecord<String, V> record = new ProducerRecord<>(topicName, key, message);
+            SagaKafkaHeaders.putSagaId(record.headers(), message.getSagaId());
+            tagCurrentObservation(message.getSagaId());
+            final ProducerSwitchGate switchGate = producerSwitchGate.getIfAvailable();
+            if (switchGate != null) {
+                // adaptacyjny batching podmienia producenta tylko między wysyłkami
+                switchGate.send(() -> kafkaTemplate.send(record));
+            } else if (kafkaTemplate.isTransactional() && !kafkaTemplate.inTransaction()) {
+                // poza transakcją (JPA lub kontenera listenera) każda wysyłka dostaje własną transakcję Kafki
+                kafkaTemplate.executeInTransaction(operations -> operations.send(record));
+            } else {
+                kafkaTemplate.send(record);
+            }
         } catch (final Exception e) {
-            log.error("Error sending message: {} to topic: {}", message, topicName, e);
+            log.error("Error sending message {} (saga {}) to topic: {}", message.getMessageId(), message.getSagaId(), topicName, e);
             throw new KafkaProducerException(e.getMessage());
         }
     }
+
+    private void tagCurrentObservation(final String sagaId) {
+        final Observation observation = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP).getCurrentObservation();
+        if (observation != null && sagaId != null) {
+            observation.highCardinalityKeyValue(SagaKafkaHeaders.SAGA_ID_TAG, sagaId);
+        }
+    }
 }
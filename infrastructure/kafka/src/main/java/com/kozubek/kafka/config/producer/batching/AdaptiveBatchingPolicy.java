@@ -0,0 +1,32 @@
+package com.kozubek.kafka.config.producer.batching;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Picks the batching profile of the shared producer. A topic pinned to latency-first with traffic wins,
+ * otherwise the total record rate decides with a hysteresis band so the producer does not flap between profiles.
+ */
+@RequiredArgsConstructor
+public class AdaptiveBatchingPolicy {
+
+    private final KafkaConfigProperties.AdaptiveBatching properties;
+
+    public BatchingProfile choose(final BatchingProfile current, final ProducerLoadSample sample) {
+        final boolean latencyTopicActive = sample.topicRecordRates().entrySet().stream()
+                .anyMatch(topic -> topic.getValue() > 0
+                        && properties.getTopicProfiles().get(topic.getKey()) == BatchingProfile.LATENCY_FIRST);
+        if (latencyTopicActive) {
+            return BatchingProfile.LATENCY_FIRST;
+        }
+
+        final double recordRate = sample.totalRecordRate();
+        if (current == BatchingProfile.THROUGHPUT_FIRST) {
+            final boolean trafficDropped = recordRate < properties.getThroughputRecordRate() * (1 - properties.getHysteresis());
+            final boolean batchesNotFilling = sample.batchFillRatio() < properties.getMinBatchFillRatio()
+                    && sample.requestLatencyAvgMs() > properties.getMaxRequestLatencyMs();
+            return trafficDropped || batchesNotFilling ? BatchingProfile.LATENCY_FIRST : BatchingProfile.THROUGHPUT_FIRST;
+        }
+        return recordRate >= properties.getThroughputRecordRate() ? BatchingProfile.THROUGHPUT_FIRST : BatchingProfile.LATENCY_FIRST;
+    }
+}
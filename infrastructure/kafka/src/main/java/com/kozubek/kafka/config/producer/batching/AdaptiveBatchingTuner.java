@@ -0,0 +1,126 @@
+package com.kozubek.kafka.config.producer.batching;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class AdaptiveBatchingTuner implements SmartLifecycle {
+
+    private static final String PRODUCER_METRICS = "producer-metrics";
+    private static final String PRODUCER_TOPIC_METRICS = "producer-topic-metrics";
+
+    private final KafkaConfigProperties.AdaptiveBatching properties;
+    private final ProducerFactory<String, MessageKafkaDto<?>> producerFactory;
+    private final KafkaTemplate<String, MessageKafkaDto<?>> kafkaTemplate;
+    private final ProducerSwitchGate switchGate;
+    private final AdaptiveBatchingPolicy policy;
+
+    private volatile BatchingProfile currentProfile;
+    private ScheduledExecutorService scheduler;
+
+    public AdaptiveBatchingTuner(final KafkaConfigProperties.AdaptiveBatching properties,
+                                 final ProducerFactory<String, MessageKafkaDto<?>> producerFactory,
+                                 final KafkaTemplate<String, MessageKafkaDto<?>> kafkaTemplate,
+                                 final ProducerSwitchGate switchGate) {
+        if (kafkaTemplate.isTransactional()) {
+            // metryki i flush producenta transakcyjnego są dostępne tylko wewnątrz transakcji
+            throw new IllegalStateException("Adaptive Kafka batching does not support a transactional producer, "
+                    + "unset kafka-config.producer.transaction-id-prefix or kafka-config.producer.adaptive-batching.enabled");
+        }
+        this.properties = properties;
+        this.producerFactory = producerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.switchGate = switchGate;
+        this.policy = new AdaptiveBatchingPolicy(properties);
+        this.currentProfile = properties.getInitialProfile();
+    }
+
+    @Override
+    public synchronized void start() {
+        apply(currentProfile);
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("kafka-batching-tuner").daemon().factory());
+        final long intervalMs = properties.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::tune, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Adaptive Kafka batching started with profile {}", currentProfile);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    public BatchingProfile getCurrentProfile() {
+        return currentProfile;
+    }
+
+    void tune() {
+        try {
+            final ProducerLoadSample sample = sample(kafkaTemplate.metrics());
+            final BatchingProfile chosen = policy.choose(currentProfile, sample);
+            if (chosen != currentProfile) {
+                log.info("Switching Kafka batching profile {} -> {} (record rate {}/s, batch fill {}, request latency {} ms)",
+                        currentProfile, chosen, Math.round(sample.totalRecordRate()),
+                        String.format("%.2f", sample.batchFillRatio()), Math.round(sample.requestLatencyAvgMs()));
+                apply(chosen);
+            }
+        } catch (final Exception e) {
+            log.warn("Adaptive Kafka batching skipped a tuning round: {}", e.getMessage());
+        }
+    }
+
+    private void apply(final BatchingProfile profile) {
+        final KafkaConfigProperties.BatchingSettings settings = properties.getProfiles().get(profile);
+        switchGate.switchProducer(() -> {
+            // wysyłki czekają na bramce: stary producent dosyła cały bufor, zanim kolejna wysyłka utworzy nowego
+            kafkaTemplate.flush();
+            producerFactory.updateConfigs(Map.of(
+                    ProducerConfig.LINGER_MS_CONFIG, settings.getLingerMs(),
+                    ProducerConfig.BATCH_SIZE_CONFIG, settings.getBatchSize()));
+            producerFactory.reset();
+        });
+        currentProfile = profile;
+    }
+
+    private ProducerLoadSample sample(final Map<MetricName, ? extends Metric> metrics) {
+        final Map<String, Double> topicRates = new HashMap<>();
+        double batchSizeAvg = 0;
+        double requestLatencyAvg = 0;
+        for (final Map.Entry<MetricName, ? extends Metric> entry : metrics.entrySet()) {
+            final MetricName name = entry.getKey();
+            if (PRODUCER_TOPIC_METRICS.equals(name.group()) && "record-send-rate".equals(name.name())) {
+                topicRates.merge(name.tags().get("topic"), value(entry.getValue()), Double::sum);
+            } else if (PRODUCER_METRICS.equals(name.group()) && "batch-size-avg".equals(name.name())) {
+                batchSizeAvg = value(entry.getValue());
+            } else if (PRODUCER_METRICS.equals(name.group()) && "request-latency-avg".equals(name.name())) {
+                requestLatencyAvg = value(entry.getValue());
+            }
+        }
+        final int batchSize = properties.getProfiles().get(currentProfile).getBatchSize();
+        return new ProducerLoadSample(topicRates, batchSize > 0 ? batchSizeAvg / batchSize : 0, requestLatencyAvg);
+    }
+
+    private static double value(final Metric metric) {
+        return metric.metricValue() instanceof Number number && Double.isFinite(number.doubleValue()) ? number.doubleValue() : 0;
+    }
+}
@@ -0,0 +1,6 @@
+package com.kozubek.kafka.config.producer.batching;
+
+public enum BatchingProfile {
+    LATENCY_FIRST,
+    THROUGHPUT_FIRST
+}
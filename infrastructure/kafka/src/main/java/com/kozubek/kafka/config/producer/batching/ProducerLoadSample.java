@@ -0,0 +1,10 @@
+package com.kozubek.kafka.config.producer.batching;
+
+import java.util.Map;
+
+public record ProducerLoadSample(Map<String, Double> topicRecordRates, double batchFillRatio, double requestLatencyAvgMs) {
+
+    public double totalRecordRate() {
+        return topicRecordRates.values().stream().mapToDouble(Double::doubleValue).sum();
+    }
+}
@@ -0,0 +1,31 @@
+package com.kozubek.kafka.config.producer.batching;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps sends and producer switches apart: sends share the gate, a switch holds it alone until the old producer
+ * has flushed its buffer and been closed, so no send races the close and records of one key never overlap
+ * between the old and the new producer.
+ */
+public class ProducerSwitchGate {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void send(final Runnable send) {
+        lock.readLock().lock();
+        try {
+            send.run();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void switchProducer(final Runnable switchProducer) {
+        lock.writeLock().lock();
+        try {
+            switchProducer.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.kozubek.kafka.config.producer.partitioning;
+
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.support.ProducerListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * Counts acknowledged records per partition in fixed windows and logs a warning when one partition
+ * receives more than {@code skewThreshold} times the average load of the topic, together with its busiest keys.
+ * The average is taken over all partitions of the topic, including the ones that received nothing.
+ * Closed windows are evaluated on {@code reporter}, never on the producer I/O thread that acknowledges the records,
+ * because the partition count of a topic may need a blocking metadata lookup; the count is cached per topic.
+ */
+@Slf4j
+public class HotPartitionDetector implements ProducerListener<String, MessageKafkaDto<?>> {
+
+    private static final int TOP_KEYS = 3;
+
+    private final Duration window;
+    private final double skewThreshold;
+    private final int maxTrackedKeys;
+    private final ToIntFunction<String> partitionCount;
+    private final Executor reporter;
+    private final Clock clock;
+
+    private final Map<String, TopicWindow> topics = new ConcurrentHashMap<>();
+    private final Map<String, Integer> partitionCounts = new ConcurrentHashMap<>();
+
+    public HotPartitionDetector(final Duration window, final double skewThreshold, final int maxTrackedKeys,
+                                final ToIntFunction<String> partitionCount, final Executor reporter, final Clock clock) {
+        this.window = window;
+        this.skewThreshold = skewThreshold;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.partitionCount = partitionCount;
+        this.reporter = reporter;
+        this.clock = clock;
+    }
+
+    @Override
+    public void onSuccess(final ProducerRecord<String, MessageKafkaDto<?>> producerRecord, final RecordMetadata recordMetadata) {
+        final TopicWindow topicWindow = topics.computeIfAbsent(recordMetadata.topic(), topic -> new TopicWindow(clock.millis()));
+        topicWindow.record(recordMetadata.partition(), producerRecord.key(), maxTrackedKeys);
+
+        final long now = clock.millis();
+        final long windowStart = topicWindow.windowStart.get();
+        if (now - windowStart >= window.toMillis() && topicWindow.windowStart.compareAndSet(windowStart, now)) {
+            topics.put(recordMetadata.topic(), new TopicWindow(now));
+            reporter.execute(() -> report(recordMetadata.topic(), topicWindow).ifPresent(skew -> log.warn(
+                    "Hot partition on topic {}: partition {} received {} of {} records ({}x average), top keys: {}",
+                    skew.topic(), skew.partition(), skew.records(), skew.totalRecords(),
+                    String.format("%.1f", skew.ratio()), skew.topKeys())));
+        }
+    }
+
+    Optional<PartitionSkew> report(final String topic, final TopicWindow topicWindow) {
+        final Map<Integer, LongAdder> partitions = topicWindow.partitionCounts;
+        final long total = partitions.values().stream().mapToLong(LongAdder::sum).sum();
+        if (total == 0) {
+            return Optional.empty();
+        }
+        // partycje bez ruchu w oknie też liczą się do średniej - cały ruch na jednej partycji to najgorszy przypadek
+        final double average = (double) total / Math.max(partitions.size(), partitionCountOf(topic));
+        return partitions.entrySet().stream()
+                .max(Comparator.comparingLong(entry -> entry.getValue().sum()))
+                .filter(hottest -> hottest.getValue().sum() > average * skewThreshold)
+                .map(hottest -> new PartitionSkew(topic, hottest.getKey(), hottest.getValue().sum(), total,
+                        hottest.getValue().sum() / average, topicWindow.topKeys(hottest.getKey())));
+    }
+
+    // liczba partycji tematu zmienia się rzadko - jedno zapytanie o metadane na temat, nieudane ponawiane w kolejnym oknie
+    private int partitionCountOf(final String topic) {
+        final Integer cached = partitionCounts.get(topic);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            final int count = partitionCount.applyAsInt(topic);
+            partitionCounts.put(topic, count);
+            return count;
+        } catch (final RuntimeException e) {
+            log.debug("Could not read partition count of topic {}, using partitions seen in the window", topic, e);
+            return 0;
+        }
+    }
+
+    record PartitionSkew(String topic, int partition, long records, long totalRecords, double ratio, List<String> topKeys) {
+    }
+
+    static final class TopicWindow {
+        private final AtomicLong windowStart;
+        private final Map<Integer, LongAdder> partitionCounts = new ConcurrentHashMap<>();
+        private final Map<Integer, Map<String, LongAdder>> keyCounts = new ConcurrentHashMap<>();
+        private final AtomicLong trackedKeys = new AtomicLong();
+
+        TopicWindow(final long windowStart) {
+            this.windowStart = new AtomicLong(windowStart);
+        }
+
+        void record(final int partition, final String key, final int maxTrackedKeys) {
+            partitionCounts.computeIfAbsent(partition, p -> new LongAdder()).increment();
+            if (key == null) {
+                return;
+            }
+            final Map<String, LongAdder> keys = keyCounts.computeIfAbsent(partition, p -> new ConcurrentHashMap<>());
+            final LongAdder counter = keys.get(key);
+            if (counter != null) {
+                counter.increment();
+            } else if (trackedKeys.incrementAndGet() <= maxTrackedKeys) {
+                keys.computeIfAbsent(key, k -> new LongAdder()).increment();
+            }
+        }
+
+        List<String> topKeys(final int partition) {
+            return keyCounts.getOrDefault(partition, Map.of()).entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                    .limit(TOP_KEYS)
+                    .map(entry -> entry.getKey() + "=" + entry.getValue().sum())
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.kozubek.kafka.config.producer.partitioning;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+
+public final class MessageKeyStrategies {
+
+    // wszystkie zdarzenia jednego agregatu trafiają na tę samą partycję - zachowana kolejność per agregat
+    public static final MessageKeyStrategy AGGREGATE_ID = message -> message.getDataId();
+
+    // kolejność per saga, zdarzenia jednego agregatu mogą trafić na różne partycje
+    public static final MessageKeyStrategy SAGA_ID = message -> message.getSagaId();
+
+    // brak klucza - partycję wybiera partitioner (sticky), bez gwarancji kolejności
+    public static final MessageKeyStrategy NONE = message -> null;
+
+    private MessageKeyStrategies() {
+    }
+
+    public static MessageKeyStrategy of(final KafkaConfigProperties.KeyStrategy keyStrategy) {
+        return switch (keyStrategy) {
+            case AGGREGATE_ID -> AGGREGATE_ID;
+            case SAGA_ID -> SAGA_ID;
+            case NONE -> NONE;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.kozubek.kafka.config.producer.partitioning;
+
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+
+@FunctionalInterface
+public interface MessageKeyStrategy {
+
+    String keyOf(MessageKafkaDto<?> message);
+}
@@ -0,0 +1,42 @@
+package com.kozubek.kafka.config.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+
+public class MessageKafkaDtoJsonDeserializer implements Deserializer<MessageKafkaDto<?>> {
+
+    private static final String TRUSTED_PACKAGE = "com.kozubek.kafka.model.";
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Override
+    public MessageKafkaDto<?> deserialize(final String topic, final byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        try {
+            final JsonNode json = objectMapper.readTree(data);
+            return objectMapper.treeToValue(json, messageType(json));
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new SerializationException("Error deserializing message from topic " + topic, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends MessageKafkaDto<?>> messageType(final JsonNode json) throws ClassNotFoundException {
+        final String type = json.path("type").asText(null);
+        if (type == null || !type.startsWith(TRUSTED_PACKAGE)) {
+            throw new SerializationException("Untrusted or missing message type: " + type);
+        }
+        final Class<?> messageClass = Class.forName(type);
+        if (!MessageKafkaDto.class.isAssignableFrom(messageClass)) {
+            throw new SerializationException("Message type " + type + " is not a MessageKafkaDto");
+        }
+        return (Class<? extends MessageKafkaDto<?>>) messageClass;
+    }
+}
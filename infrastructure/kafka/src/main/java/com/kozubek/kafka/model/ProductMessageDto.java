@@ -7,5 +7,5 @@ import java.math.BigDecimal;
 
 @Builder
 public record ProductMessageDto(String productId, String userId, String code, String name, BigDecimal price,
-                                int quantity, String status) implements Serializable {
+                                int quantity, String status, Long version) implements Serializable {
 }
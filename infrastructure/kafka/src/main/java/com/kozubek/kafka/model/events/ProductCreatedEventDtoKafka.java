@@ -7,6 +7,10 @@ import java.time.Instant;
 
 public class ProductCreatedEventDtoKafka extends MessageKafkaDto<ProductMessageDto> {
 
+    public ProductCreatedEventDtoKafka() {
+        super();
+    }
+
     public ProductCreatedEventDtoKafka(final ProductMessageDto productMessageDto, final String itemId, final Instant createdAt, final String sagaId) {
         super(itemId, createdAt, productMessageDto, sagaId);
     }
@@ -0,0 +1,145 @@
+package com.kozubek.kafka.config.consumer;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeadLetterReplayer Integration Tests")
+class DeadLetterReplayerTest {
+
+    private static final int PARTITIONS = 3;
+    private static final String SAGA_HEADER = "saga-id";
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    private DeadLetterReplayer replayer;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, "orders", "orders-dlt", "payments", "payments-dlt");
+        broker.brokerProperty("offsets.topic.replication.factor", "1");
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        final KafkaConfigProperties properties = new KafkaConfigProperties();
+        properties.setBootstrapServers(broker.getBrokersAsString());
+        properties.getConsumer().getDltReplay().setPollTimeout(Duration.ofMillis(500));
+        final DefaultKafkaProducerFactory<String, MessageKafkaDto<?>> producerFactory =
+                new DefaultKafkaProducerFactory<>(Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()));
+        replayer = new DeadLetterReplayer(properties, new DeadLetterKafkaOperations(producerFactory));
+    }
+
+    @Test
+    @DisplayName("Should replay every dead letter to its original topic on the first run of a new replayer group")
+    void shouldReplayEveryDeadLetterToOriginalTopic() throws Exception {
+        // given
+        writeDeadLetters("orders", "orders-dlt", 6);
+
+        // when
+        final DeadLetterReplayer.ReplayResult result = replayer.replay("orders-dlt", null, 1000, 100);
+
+        // then
+        assertThat(result.replayed()).isEqualTo(6);
+        assertThat(result.replayedPerTopic()).containsExactly(Map.entry("orders", 6));
+        final List<ConsumerRecord<String, byte[]>> replayed = readAll("orders", 6);
+        assertThat(replayed).hasSize(6).allSatisfy(record -> {
+            assertThat(headerKeys(record)).noneMatch(key -> key.startsWith("kafka_dlt-"));
+            assertThat(record.headers().lastHeader(DeadLetterReplayer.REPLAYED_AT_HEADER)).isNotNull();
+            assertThat(new String(record.headers().lastHeader(SAGA_HEADER).value(), StandardCharsets.UTF_8)).startsWith("saga-");
+        });
+    }
+
+    @Test
+    @DisplayName("Should stop at max records and continue from the committed offset on the next run")
+    void shouldContinueFromCommittedOffset() throws Exception {
+        // given
+        writeDeadLetters("payments", "payments-dlt", 5);
+
+        // when
+        final DeadLetterReplayer.ReplayResult first = replayer.replay("payments-dlt", null, 1000, 2);
+        final DeadLetterReplayer.ReplayResult second = replayer.replay("payments-dlt", null, 1000, 100);
+        final DeadLetterReplayer.ReplayResult third = replayer.replay("payments-dlt", null, 1000, 100);
+
+        // then
+        assertThat(first.replayed()).isEqualTo(2);
+        assertThat(second.replayed()).isEqualTo(3);
+        assertThat(third.replayed()).isZero();
+        assertThat(readAll("payments", 5)).hasSize(5);
+    }
+
+    private static void writeDeadLetters(final String originalTopic, final String dltTopic, final int count)
+            throws ExecutionException, InterruptedException {
+        try (Producer<String, byte[]> producer = new KafkaProducer<>(Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()),
+                new StringSerializer(), new ByteArraySerializer())) {
+            for (int i = 0; i < count; i++) {
+                final RecordHeaders headers = new RecordHeaders();
+                headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, originalTopic.getBytes(StandardCharsets.UTF_8));
+                headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, "boom".getBytes(StandardCharsets.UTF_8));
+                headers.add(SAGA_HEADER, ("saga-" + i).getBytes(StandardCharsets.UTF_8));
+                producer.send(new ProducerRecord<>(dltTopic, i % PARTITIONS, "key-" + i, ("{\"n\":" + i + "}").getBytes(StandardCharsets.UTF_8),
+                        headers)).get();
+            }
+        }
+    }
+
+    private static List<ConsumerRecord<String, byte[]>> readAll(final String topic, final int expected) {
+        try (Consumer<String, byte[]> consumer = new KafkaConsumer<>(Map.of(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()),
+                new StringDeserializer(), new ByteArrayDeserializer())) {
+            final List<TopicPartition> partitions = new ArrayList<>();
+            for (int partition = 0; partition < PARTITIONS; partition++) {
+                partitions.add(new TopicPartition(topic, partition));
+            }
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            final List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+            final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (records.size() < expected && System.nanoTime() < deadline) {
+                consumer.poll(Duration.ofMillis(200)).forEach(records::add);
+            }
+            return records;
+        }
+    }
+
+    private static List<String> headerKeys(final ConsumerRecord<String, byte[]> record) {
+        return StreamSupport.stream(record.headers().spliterator(), false).map(Header::key).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.kozubek.kafka.config.consumer;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.support.serializer.DeserializationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KafkaRetryTopicConfig Unit Tests")
+class KafkaRetryTopicConfigTest {
+
+    private KafkaConfigProperties properties;
+    private DeadLetterKafkaOperations deadLetterKafkaOperations;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KafkaConfigProperties();
+        properties.setBootstrapServers("localhost:9092");
+        properties.setNumOfPartitions(6);
+        properties.setReplicationFactor(1);
+        final KafkaConfigProperties.Retry retry = properties.getConsumer().getRetry();
+        retry.setAttempts(4);
+        retry.setInitialDelay(Duration.ofSeconds(1));
+        retry.setMultiplier(4.0);
+        retry.setMaxDelay(Duration.ofSeconds(10));
+        deadLetterKafkaOperations = new DeadLetterKafkaOperations(new DefaultKafkaProducerFactory<String, MessageKafkaDto<?>>(
+                Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092")));
+    }
+
+    @Test
+    @DisplayName("Should route through indexed retry topics with capped exponential backoff and end in the DLT")
+    void shouldRouteThroughIndexedRetryTopicsToDlt() {
+        // when
+        final List<DestinationTopic.Properties> destinations = configuration().getDestinationTopicProperties();
+
+        // then
+        assertThat(destinations).extracting(DestinationTopic.Properties::suffix)
+                .containsExactly("", "-retry-0", "-retry-1", "-retry-2", "-dlt");
+        assertThat(destinations).extracting(DestinationTopic.Properties::delay)
+                .containsExactly(0L, 1000L, 4000L, 10000L, 0L);
+        final DestinationTopic.Properties dlt = destinations.getLast();
+        assertThat(dlt.isDltTopic()).isTrue();
+        assertThat(dlt.dltStrategy()).isEqualTo(DltStrategy.ALWAYS_RETRY_ON_ERROR);
+    }
+
+    @Test
+    @DisplayName("Should create retry and dead-letter topics with the configured partitions and replication")
+    void shouldAutoCreateTopicsWithConfiguredLayout() {
+        // when
+        final RetryTopicConfiguration.TopicCreation topicCreation = configuration().forKafkaTopicAutoCreation();
+
+        // then
+        assertThat(topicCreation.shouldCreateTopics()).isTrue();
+        assertThat(topicCreation.getNumPartitions()).isEqualTo(6);
+        assertThat(topicCreation.getReplicationFactor()).isEqualTo((short) 1);
+    }
+
+    @Test
+    @DisplayName("Should send poison records straight to the DLT and retry transient failures")
+    void shouldNotRetryPoisonRecords() {
+        // given
+        final DestinationTopic mainTopic = new DestinationTopic("orders", configuration().getDestinationTopicProperties().getFirst());
+
+        // when / then
+        assertThat(mainTopic.shouldRetryOn(1, new IllegalArgumentException("bad payload"))).isFalse();
+        assertThat(mainTopic.shouldRetryOn(1, new DeserializationException("bad bytes", new byte[0], false, null))).isFalse();
+        assertThat(mainTopic.shouldRetryOn(1, new IllegalStateException("database unavailable"))).isTrue();
+    }
+
+    private RetryTopicConfiguration configuration() {
+        return new KafkaRetryTopicConfig(properties).sagaRetryTopicConfiguration(deadLetterKafkaOperations);
+    }
+}
@@ -0,0 +1,120 @@
+package com.kozubek.kafka.config.producer.batching;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveBatchingPolicy Unit Tests")
+class AdaptiveBatchingPolicyTest {
+
+    private KafkaConfigProperties.AdaptiveBatching properties;
+    private AdaptiveBatchingPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KafkaConfigProperties.AdaptiveBatching();
+        properties.setThroughputRecordRate(1000.0);
+        properties.setHysteresis(0.2);
+        properties.setMinBatchFillRatio(0.1);
+        properties.setMaxRequestLatencyMs(50.0);
+        policy = new AdaptiveBatchingPolicy(properties);
+    }
+
+    @Test
+    @DisplayName("Should stay latency-first below throughput record rate")
+    void shouldStayLatencyFirstBelowThroughputRate() {
+        // given
+        final ProducerLoadSample sample = new ProducerLoadSample(Map.of("product-created-events", 999.0), 0.5, 5.0);
+
+        // when
+        final BatchingProfile profile = policy.choose(BatchingProfile.LATENCY_FIRST, sample);
+
+        // then
+        assertThat(profile).isEqualTo(BatchingProfile.LATENCY_FIRST);
+    }
+
+    @Test
+    @DisplayName("Should switch to throughput-first when summed topic rates reach the threshold")
+    void shouldSwitchToThroughputFirstWhenRateReachesThreshold() {
+        // given
+        final ProducerLoadSample sample = new ProducerLoadSample(Map.of("product-created-events", 600.0, "orders", 400.0), 0.5, 5.0);
+
+        // when
+        final BatchingProfile profile = policy.choose(BatchingProfile.LATENCY_FIRST, sample);
+
+        // then
+        assertThat(profile).isEqualTo(BatchingProfile.THROUGHPUT_FIRST);
+    }
+
+    @Test
+    @DisplayName("Should keep throughput-first inside the hysteresis band")
+    void shouldKeepThroughputFirstInsideHysteresisBand() {
+        // given
+        final ProducerLoadSample sample = new ProducerLoadSample(Map.of("product-created-events", 850.0), 0.5, 5.0);
+
+        // when
+        final BatchingProfile profile = policy.choose(BatchingProfile.THROUGHPUT_FIRST, sample);
+
+        // then
+        assertThat(profile).isEqualTo(BatchingProfile.THROUGHPUT_FIRST);
+    }
+
+    @Test
+    @DisplayName("Should fall back to latency-first when traffic drops below the hysteresis band")
+    void shouldFallBackToLatencyFirstWhenTrafficDrops() {
+        // given
+        final ProducerLoadSample sample = new ProducerLoadSample(Map.of("product-created-events", 700.0), 0.5, 5.0);
+
+        // when
+        final BatchingProfile profile = policy.choose(BatchingProfile.THROUGHPUT_FIRST, sample);
+
+        // then
+        assertThat(profile).isEqualTo(BatchingProfile.LATENCY_FIRST);
+    }
+
+    @Test
+    @DisplayName("Should fall back to latency-first when batches stay empty and requests are slow")
+    void shouldFallBackToLatencyFirstWhenBatchesDoNotFill() {
+        // given
+        final ProducerLoadSample sample = new ProducerLoadSample(Map.of("product-created-events", 5000.0), 0.05, 80.0);
+
+        // when
+        final BatchingProfile profile = policy.choose(BatchingProfile.THROUGHPUT_FIRST, sample);
+
+        // then
+        assertThat(profile).isEqualTo(BatchingProfile.LATENCY_FIRST);
+    }
+
+    @Test
+    @DisplayName("Should force latency-first while a pinned topic has traffic")
+    void shouldForceLatencyFirstForPinnedTopic() {
+        // given
+        properties.getTopicProfiles().put("saga-commands", BatchingProfile.LATENCY_FIRST);
+        final ProducerLoadSample sample = new ProducerLoadSample(Map.of("product-created-events", 5000.0, "saga-commands", 1.0), 0.9, 5.0);
+
+        // when
+        final BatchingProfile profile = policy.choose(BatchingProfile.THROUGHPUT_FIRST, sample);
+
+        // then
+        assertThat(profile).isEqualTo(BatchingProfile.LATENCY_FIRST);
+    }
+
+    @Test
+    @DisplayName("Should ignore pinned topic without traffic")
+    void shouldIgnorePinnedTopicWithoutTraffic() {
+        // given
+        properties.getTopicProfiles().put("saga-commands", BatchingProfile.LATENCY_FIRST);
+        final ProducerLoadSample sample = new ProducerLoadSample(Map.of("product-created-events", 5000.0, "saga-commands", 0.0), 0.9, 5.0);
+
+        // when
+        final BatchingProfile profile = policy.choose(BatchingProfile.LATENCY_FIRST, sample);
+
+        // then
+        assertThat(profile).isEqualTo(BatchingProfile.THROUGHPUT_FIRST);
+    }
+}
@@ -0,0 +1,143 @@
+package com.kozubek.kafka.config.producer.batching;
+
+import com.kozubek.kafka.config.KafkaConfigProperties;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdaptiveBatchingTuner Unit Tests")
+class AdaptiveBatchingTunerTest {
+
+    private static final String TOPIC = "product-created-events";
+
+    @Mock
+    private ProducerFactory<String, MessageKafkaDto<?>> producerFactory;
+
+    @Mock
+    private KafkaTemplate<String, MessageKafkaDto<?>> kafkaTemplate;
+
+    private KafkaConfigProperties.AdaptiveBatching properties;
+    private ProducerSwitchGate switchGate;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KafkaConfigProperties.AdaptiveBatching();
+        properties.setEnabled(true);
+        switchGate = new ProducerSwitchGate();
+    }
+
+    @Test
+    @DisplayName("Should refuse a transactional template")
+    void shouldRefuseTransactionalTemplate() {
+        // given
+        when(kafkaTemplate.isTransactional()).thenReturn(true);
+
+        // when / then
+        assertThatThrownBy(() -> new AdaptiveBatchingTuner(properties, producerFactory, kafkaTemplate, switchGate))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("transactional");
+    }
+
+    @Test
+    @DisplayName("Should flush the old producer before resetting the factory with new settings")
+    void shouldFlushBeforeReset() {
+        // given
+        final AdaptiveBatchingTuner tuner = new AdaptiveBatchingTuner(properties, producerFactory, kafkaTemplate, switchGate);
+        doReturn(metrics(5000.0)).when(kafkaTemplate).metrics();
+
+        // when
+        tuner.tune();
+
+        // then
+        final InOrder order = inOrder(kafkaTemplate, producerFactory);
+        order.verify(kafkaTemplate).flush();
+        order.verify(producerFactory).updateConfigs(Map.of(
+                ProducerConfig.LINGER_MS_CONFIG, 20,
+                ProducerConfig.BATCH_SIZE_CONFIG, 262144));
+        order.verify(producerFactory).reset();
+        assertThat(tuner.getCurrentProfile()).isEqualTo(BatchingProfile.THROUGHPUT_FIRST);
+    }
+
+    @Test
+    @DisplayName("Should hold sends back until the producer switch completes")
+    void shouldHoldSendsDuringSwitch() throws InterruptedException {
+        // given
+        final AdaptiveBatchingTuner tuner = new AdaptiveBatchingTuner(properties, producerFactory, kafkaTemplate, switchGate);
+        doReturn(metrics(5000.0)).when(kafkaTemplate).metrics();
+        final AtomicBoolean sent = new AtomicBoolean();
+        final AtomicBoolean sentBeforeReset = new AtomicBoolean();
+        final AtomicReference<Thread> sender = new AtomicReference<>();
+        doAnswer(invocation -> {
+            sender.set(Thread.ofPlatform().start(() -> switchGate.send(() -> sent.set(true))));
+            awaitParked(sender.get());
+            return null;
+        }).when(kafkaTemplate).flush();
+        doAnswer(invocation -> {
+            sentBeforeReset.set(sent.get());
+            return null;
+        }).when(producerFactory).reset();
+
+        // when
+        tuner.tune();
+        sender.get().join(TimeUnit.SECONDS.toMillis(5));
+
+        // then
+        assertThat(sentBeforeReset).isFalse();
+        assertThat(sent).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the producer when the profile does not change")
+    void shouldKeepProducerWhenProfileUnchanged() {
+        // given
+        final AdaptiveBatchingTuner tuner = new AdaptiveBatchingTuner(properties, producerFactory, kafkaTemplate, switchGate);
+        doReturn(metrics(10.0)).when(kafkaTemplate).metrics();
+
+        // when
+        tuner.tune();
+
+        // then
+        verify(kafkaTemplate, never()).flush();
+        verify(producerFactory, never()).reset();
+        assertThat(tuner.getCurrentProfile()).isEqualTo(BatchingProfile.LATENCY_FIRST);
+    }
+
+    private static Map<MetricName, Metric> metrics(final double recordSendRate) {
+        final Metric metric = mock(Metric.class);
+        when(metric.metricValue()).thenReturn(recordSendRate);
+        return Map.of(new MetricName("record-send-rate", "producer-topic-metrics", "", Map.of("topic", TOPIC)), metric);
+    }
+
+    private static void awaitParked(final Thread thread) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && thread.isAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
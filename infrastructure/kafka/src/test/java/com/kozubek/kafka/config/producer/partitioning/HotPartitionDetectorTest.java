@@ -0,0 +1,212 @@
+package com.kozubek.kafka.config.producer.partitioning;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HotPartitionDetector Unit Tests")
+class HotPartitionDetectorTest {
+
+    private static final String TOPIC = "product-created-events";
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should report a topic whose whole traffic lands on a single partition")
+    void shouldReportAllTrafficOnSinglePartition() {
+        // given
+        final HotPartitionDetector detector = detector(topic -> 6);
+        final HotPartitionDetector.TopicWindow window = new HotPartitionDetector.TopicWindow(0);
+        for (int i = 0; i < 60; i++) {
+            window.record(2, "product-" + (i % 3), 100);
+        }
+
+        // when
+        final Optional<HotPartitionDetector.PartitionSkew> skew = detector.report(TOPIC, window);
+
+        // then
+        assertThat(skew).hasValueSatisfying(hot -> {
+            assertThat(hot.partition()).isEqualTo(2);
+            assertThat(hot.records()).isEqualTo(60);
+            assertThat(hot.totalRecords()).isEqualTo(60);
+            assertThat(hot.ratio()).isEqualTo(6.0);
+            assertThat(hot.topKeys()).containsExactlyInAnyOrder("product-0=20", "product-1=20", "product-2=20");
+        });
+    }
+
+    @Test
+    @DisplayName("Should count idle partitions into the average")
+    void shouldCountIdlePartitionsIntoAverage() {
+        // given - 30/20 na dwóch z sześciu partycji: wśród aktywnych to 1.2x średniej, wśród wszystkich 3.6x
+        final HotPartitionDetector detector = detector(topic -> 6);
+        final HotPartitionDetector.TopicWindow window = new HotPartitionDetector.TopicWindow(0);
+        recordMany(window, 0, 30);
+        recordMany(window, 1, 20);
+
+        // when
+        final Optional<HotPartitionDetector.PartitionSkew> skew = detector.report(TOPIC, window);
+
+        // then
+        assertThat(skew).hasValueSatisfying(hot -> {
+            assertThat(hot.partition()).isEqualTo(0);
+            assertThat(hot.ratio()).isCloseTo(3.6, within(1e-9));
+        });
+    }
+
+    @Test
+    @DisplayName("Should not report evenly spread traffic")
+    void shouldNotReportEvenTraffic() {
+        // given
+        final HotPartitionDetector detector = detector(topic -> 3);
+        final HotPartitionDetector.TopicWindow window = new HotPartitionDetector.TopicWindow(0);
+        recordMany(window, 0, 10);
+        recordMany(window, 1, 11);
+        recordMany(window, 2, 9);
+
+        // when
+        final Optional<HotPartitionDetector.PartitionSkew> skew = detector.report(TOPIC, window);
+
+        // then
+        assertThat(skew).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not report a single-partition topic")
+    void shouldNotReportSinglePartitionTopic() {
+        // given
+        final HotPartitionDetector detector = detector(topic -> 1);
+        final HotPartitionDetector.TopicWindow window = new HotPartitionDetector.TopicWindow(0);
+        recordMany(window, 0, 100);
+
+        // when
+        final Optional<HotPartitionDetector.PartitionSkew> skew = detector.report(TOPIC, window);
+
+        // then
+        assertThat(skew).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fall back to partitions seen in the window when partition count lookup fails")
+    void shouldFallBackToSeenPartitionsWhenLookupFails() {
+        // given
+        final HotPartitionDetector detector = detector(topic -> {
+            throw new IllegalStateException("metadata unavailable");
+        });
+        final HotPartitionDetector.TopicWindow window = new HotPartitionDetector.TopicWindow(0);
+        recordMany(window, 0, 90);
+        recordMany(window, 1, 10);
+
+        // when
+        final Optional<HotPartitionDetector.PartitionSkew> skew = detector.report(TOPIC, window);
+
+        // then
+        assertThat(skew).hasValueSatisfying(hot -> assertThat(hot.ratio()).isEqualTo(1.8));
+    }
+
+    @Test
+    @DisplayName("Should not report an empty window")
+    void shouldNotReportEmptyWindow() {
+        // given
+        final HotPartitionDetector detector = detector(topic -> 6);
+
+        // when
+        final Optional<HotPartitionDetector.PartitionSkew> skew = detector.report(TOPIC, new HotPartitionDetector.TopicWindow(0));
+
+        // then
+        assertThat(skew).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should look up the partition count of a topic once and reuse it in later windows")
+    void shouldCachePartitionCount() {
+        // given
+        final AtomicInteger lookups = new AtomicInteger();
+        final HotPartitionDetector detector = detector(topic -> {
+            lookups.incrementAndGet();
+            return 6;
+        });
+        final HotPartitionDetector.TopicWindow window = new HotPartitionDetector.TopicWindow(0);
+        recordMany(window, 0, 10);
+
+        // when
+        detector.report(TOPIC, window);
+        detector.report(TOPIC, window);
+
+        // then
+        assertThat(lookups).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should hand a closed window to the reporter instead of evaluating it on the producer thread")
+    void shouldReportClosedWindowOnReporter() {
+        // given - bez wywołania zadań reportera nic nie pyta o liczbę partycji
+        final List<Runnable> reports = new ArrayList<>();
+        final Executor reporter = reports::add;
+        final AtomicInteger lookups = new AtomicInteger();
+        final MutableClock clock = new MutableClock();
+        final HotPartitionDetector detector = new HotPartitionDetector(Duration.ofSeconds(30), 1.5, 100, topic -> {
+            lookups.incrementAndGet();
+            return 6;
+        }, reporter, clock);
+
+        // when
+        detector.onSuccess(new ProducerRecord<>(TOPIC, "product-1", null), new RecordMetadata(new TopicPartition(TOPIC, 2), 0, 0, 0, 0, 0));
+        clock.advance(Duration.ofSeconds(31));
+        detector.onSuccess(new ProducerRecord<>(TOPIC, "product-1", null), new RecordMetadata(new TopicPartition(TOPIC, 2), 0, 0, 0, 0, 0));
+
+        // then
+        assertThat(reports).hasSize(1);
+        assertThat(lookups).hasValue(0);
+        reports.getFirst().run();
+        assertThat(lookups).hasValue(1);
+    }
+
+    private static HotPartitionDetector detector(final ToIntFunction<String> partitionCount) {
+        return new HotPartitionDetector(Duration.ofSeconds(30), 1.5, 100, partitionCount, Runnable::run, CLOCK);
+    }
+
+    private static void recordMany(final HotPartitionDetector.TopicWindow window, final int partition, final int records) {
+        for (int i = 0; i < records; i++) {
+            window.record(partition, null, 100);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = CLOCK.instant();
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.kozubek.kafka.config.serialization;
+
+import com.kozubek.kafka.model.ProductMessageDto;
+import com.kozubek.kafka.model.events.ProductCreatedEventDtoKafka;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MessageKafkaDtoJsonDeserializer Unit Tests")
+class MessageKafkaDtoJsonDeserializerTest {
+
+    private static final String TOPIC = "product-created-events";
+
+    private final MessageKafkaDtoJsonDeserializer deserializer = new MessageKafkaDtoJsonDeserializer();
+
+    @Test
+    @DisplayName("Should restore the concrete message type written by the serializer")
+    void shouldRestoreConcreteMessageType() {
+        // given
+        final ProductMessageDto product = ProductMessageDto.builder()
+                .productId("0f8fad5b-d9cb-469f-a165-70867728950e")
+                .code("SKU-1")
+                .name("Keyboard")
+                .price(new BigDecimal("199.99"))
+                .quantity(3)
+                .status("ACTIVE")
+                .version(1L)
+                .build();
+        final ProductCreatedEventDtoKafka message = new ProductCreatedEventDtoKafka(product, product.productId(),
+                Instant.parse("2026-01-01T10:00:00Z"), "saga-1");
+        final byte[] json = serialize(message);
+
+        // when
+        final MessageKafkaDto<?> deserialized = deserializer.deserialize(TOPIC, json);
+
+        // then
+        assertThat(deserialized).isInstanceOf(ProductCreatedEventDtoKafka.class);
+        assertThat(deserialized.getDataId()).isEqualTo(product.productId());
+        assertThat(deserialized.getSagaId()).isEqualTo("saga-1");
+        assertThat(deserialized.getCreatedAt()).isEqualTo(Instant.parse("2026-01-01T10:00:00Z"));
+        assertThat(deserialized.getData()).isEqualTo(product);
+    }
+
+    @Test
+    @DisplayName("Should return null for a missing or empty payload")
+    void shouldReturnNullForEmptyPayload() {
+        // when / then
+        assertThat(deserializer.deserialize(TOPIC, null)).isNull();
+        assertThat(deserializer.deserialize(TOPIC, new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a type outside the trusted message package")
+    void shouldRejectUntrustedType() {
+        // given
+        final byte[] json = "{\"type\":\"java.util.HashMap\",\"dataId\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when / then
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Untrusted or missing message type");
+    }
+
+    @Test
+    @DisplayName("Should reject a payload without a type")
+    void shouldRejectMissingType() {
+        // given
+        final byte[] json = "{\"dataId\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when / then
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Untrusted or missing message type");
+    }
+
+    @Test
+    @DisplayName("Should reject a trusted type that is not a message")
+    void shouldRejectTrustedTypeThatIsNotMessage() {
+        // given
+        final byte[] json = "{\"type\":\"com.kozubek.kafka.model.ProductMessageDto\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when / then
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("is not a MessageKafkaDto");
+    }
+
+    @Test
+    @DisplayName("Should wrap malformed JSON and unknown classes in a serialization exception")
+    void shouldWrapMalformedPayload() {
+        // given
+        final byte[] malformed = "{\"type\":".getBytes(StandardCharsets.UTF_8);
+        final byte[] unknownClass = "{\"type\":\"com.kozubek.kafka.model.Missing\"}".getBytes(StandardCharsets.UTF_8);
+
+        // when / then
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, malformed))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining(TOPIC);
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, unknownClass))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining(TOPIC);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static byte[] serialize(final MessageKafkaDto<?> message) {
+        return new MessageKafkaDtoJsonSerializer().serialize(TOPIC, message);
+    }
+}
@@ -0,0 +1,51 @@
+package com.kozubek.loadtests;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * HDR response time distributions per gateway operation, written as {@code .hgrm} files next to the Gatling report
+ * so that two builds can be compared on the same percentile scale.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MILLIS = 60_000;
+
+    private final Map<TrafficMix.Operation, Recorder> recorders = new EnumMap<>(TrafficMix.Operation.class);
+
+    public LatencyRecorder() {
+        for (final TrafficMix.Operation operation : TrafficMix.Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MILLIS, 3));
+        }
+    }
+
+    public void record(final TrafficMix.Operation operation, final long responseTimeMillis) {
+        recorders.get(operation).recordValue(Math.min(responseTimeMillis, HIGHEST_TRACKABLE_MILLIS));
+    }
+
+    public void write(final Path directory, final String label, final PrintStream summary) throws IOException {
+        Files.createDirectories(directory);
+        summary.printf("=== %s%n", label);
+        summary.printf("%-16s %10s %9s %9s %9s %9s %9s%n", "operation", "count", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (final Map.Entry<TrafficMix.Operation, Recorder> entry : recorders.entrySet()) {
+            final Histogram histogram = entry.getValue().getIntervalHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            summary.printf("%-16s %10d %9d %9d %9d %9d %9d%n",
+                    entry.getKey().key(), histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90), histogram.getValueAtPercentile(99),
+                    histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(label + "-" + entry.getKey().key() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kozubek.loadtests;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Usernames accepted by user-service (6-20 characters): {@code lt}, a random base-36 run tag that keeps separate
+ * runs against the same database apart, and a role or a base-36 counter.
+ */
+final class LoadTestUserNames {
+
+    static final int MIN_LENGTH = 6;
+    static final int MAX_LENGTH = 20;
+
+    private static final String PREFIX = "lt";
+    private static final int RUN_TAG_LENGTH = 4;
+
+    private final String runTag;
+    private final AtomicLong sequence;
+
+    LoadTestUserNames() {
+        this(randomRunTag(), 0);
+    }
+
+    LoadTestUserNames(final String runTag, final long lastSequence) {
+        this.runTag = runTag;
+        this.sequence = new AtomicLong(lastSequence);
+    }
+
+    String seed() {
+        return PREFIX + runTag + "seed";
+    }
+
+    // najdłuższy licznik w base-36 ma 13 znaków: 2 + 4 + 1 + 13 = 20
+    String next() {
+        return PREFIX + runTag + "u" + Long.toString(sequence.incrementAndGet(), Character.MAX_RADIX);
+    }
+
+    private static String randomRunTag() {
+        final long bound = (long) Math.pow(Character.MAX_RADIX, RUN_TAG_LENGTH);
+        final long value = ThreadLocalRandom.current().nextLong(bound / Character.MAX_RADIX, bound);
+        return Long.toString(value, Character.MAX_RADIX);
+    }
+}
@@ -0,0 +1,203 @@
+package com.kozubek.loadtests;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.Choice;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.percent;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.responseTimeInMillis;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Production-like traffic mix driven through the gateway. Settings come from system properties, see the
+ * {@code gatlingRun} task in infrastructure/build.gradle:
+ * {@code gatling.baseUrl}, {@code gatling.usersPerSec}, {@code gatling.rampUp}, {@code gatling.duration},
+ * {@code gatling.mix}, {@code gatling.seedProducts}, {@code gatling.label}, {@code gatling.report-dir}.
+ */
+public class SagaTrafficSimulation extends Simulation {
+
+    private static final String BASE_URL = System.getProperty("gatling.baseUrl", "http://localhost:8080");
+    private static final double USERS_PER_SEC = Double.parseDouble(System.getProperty("gatling.usersPerSec", "20"));
+    private static final Duration RAMP_UP = Duration.parse(System.getProperty("gatling.rampUp", "PT30S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("gatling.duration", "PT2M"));
+    private static final TrafficMix MIX = TrafficMix.parse(System.getProperty("gatling.mix", TrafficMix.DEFAULT));
+    private static final int SEED_PRODUCTS = Integer.getInteger("gatling.seedProducts", 50);
+    private static final String LABEL = System.getProperty("gatling.label", "saga-traffic");
+    private static final Path REPORT_DIR = Path.of(System.getProperty("gatling.report-dir", "build/reports/gatling-hdr"));
+
+    private static final String PASSWORD = "LoadTest-123";
+    private static final String RESPONSE_TIME = "responseTime";
+    private static final Pattern PRODUCT_ID = Pattern.compile("\"productId\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"access_token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final LatencyRecorder LATENCY = new LatencyRecorder();
+    private static final List<String> PRODUCT_IDS = new CopyOnWriteArrayList<>();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final LoadTestUserNames USER_NAMES = new LoadTestUserNames();
+    private static final String SEED_USER = USER_NAMES.seed();
+    private static volatile String accessToken;
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .shareConnections();
+
+    private final ScenarioBuilder traffic = scenario("saga traffic mix")
+            .randomSwitch()
+            .on(choices());
+
+    {
+        setUp(traffic.injectOpen(
+                rampUsersPerSec(1).to(USERS_PER_SEC).during(RAMP_UP),
+                constantUsersPerSec(USERS_PER_SEC).during(DURATION)))
+                .protocols(httpProtocol)
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+
+    @Override
+    public void before() {
+        final HttpClient client = HttpClient.newHttpClient();
+        post(client, "/api/user/auth/register", registerBody(SEED_USER), null);
+        accessToken = extract(ACCESS_TOKEN, post(client, "/api/user/auth/login", loginBody(SEED_USER), null));
+        // productGet potrzebuje istniejących produktów od pierwszej sekundy testu
+        if (MIX.includes(TrafficMix.Operation.PRODUCT_GET)) {
+            for (int i = 0; i < SEED_PRODUCTS; i++) {
+                PRODUCT_IDS.add(extract(PRODUCT_ID, post(client, "/api/product", productBody(), accessToken)));
+            }
+        }
+    }
+
+    @Override
+    public void after() {
+        try {
+            LATENCY.write(REPORT_DIR, LABEL, System.out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Choice.WithWeight> choices() {
+        return MIX.percentages().entrySet().stream()
+                .map(entry -> percent(entry.getValue()).then(chain(entry.getKey())))
+                .toList();
+    }
+
+    private static ChainBuilder chain(final TrafficMix.Operation operation) {
+        final ChainBuilder request = switch (operation) {
+            case REGISTER -> exec(http(operation.key())
+                    .post("/api/user/auth/register")
+                    .body(StringBody(session -> registerBody(USER_NAMES.next())))
+                    .check(status().is(200), responseTimeInMillis().saveAs(RESPONSE_TIME)));
+            case LOGIN -> exec(http(operation.key())
+                    .post("/api/user/auth/login")
+                    .body(StringBody(session -> loginBody(SEED_USER)))
+                    .check(status().is(200), jsonPath("$.access_token").exists(), responseTimeInMillis().saveAs(RESPONSE_TIME)));
+            case PRODUCT_CREATE -> exec(http(operation.key())
+                    .post("/api/product")
+                    .header("Authorization", session -> "Bearer " + accessToken)
+                    .body(StringBody(session -> productBody()))
+                    .check(status().is(200), jsonPath("$.productId").saveAs("productId"), responseTimeInMillis().saveAs(RESPONSE_TIME)))
+                    .exec(session -> {
+                        if (session.contains("productId")) {
+                            PRODUCT_IDS.add(session.getString("productId"));
+                        }
+                        return session;
+                    });
+            case PRODUCT_GET -> exec(http(operation.key())
+                    .get(session -> "/api/product/" + randomProductId())
+                    .header("Authorization", session -> "Bearer " + accessToken)
+                    .check(status().is(200), responseTimeInMillis().saveAs(RESPONSE_TIME)));
+            // order-service nie ma jeszcze endpointu tworzenia zamówienia - mieszanka mierzy jedyny istniejący GET /api/order
+            case ORDER_LIST -> exec(http(operation.key())
+                    .get("/api/order")
+                    .header("Authorization", session -> "Bearer " + accessToken)
+                    .check(status().is(200), responseTimeInMillis().saveAs(RESPONSE_TIME)));
+        };
+        return request.exec(session -> record(operation, session));
+    }
+
+    private static Session record(final TrafficMix.Operation operation, final Session session) {
+        if (!session.isFailed() && session.contains(RESPONSE_TIME)) {
+            LATENCY.record(operation, session.getLong(RESPONSE_TIME));
+        }
+        return session.remove(RESPONSE_TIME);
+    }
+
+    private static String randomProductId() {
+        return PRODUCT_IDS.get(ThreadLocalRandom.current().nextInt(PRODUCT_IDS.size()));
+    }
+
+    private static String registerBody(final String userName) {
+        return """
+                {"userName":"%s","password":"%s","email":"%s@load.test"}""".formatted(userName, PASSWORD, userName);
+    }
+
+    private static String loginBody(final String userName) {
+        return """
+                {"username":"%s","password":"%s"}""".formatted(userName, PASSWORD);
+    }
+
+    private static String productBody() {
+        final long sequence = SEQUENCE.incrementAndGet();
+        return """
+                {"userId":"%s","code":"LT-%s-%d","name":"Load test product %d","price":%d.99,"quantity":%d}"""
+                .formatted(UUID.randomUUID(), LABEL, sequence, sequence, 1 + sequence % 500, sequence % 40);
+    }
+
+    private static String post(final HttpClient client, final String path, final String body, final String token) {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        try {
+            final HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("POST " + path + " returned " + response.statusCode() + ": " + response.body());
+            }
+            return response.body();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding " + path, e);
+        }
+    }
+
+    private static String extract(final Pattern pattern, final String body) {
+        final Matcher matcher = pattern.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected response: " + body);
+        }
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,80 @@
+package com.kozubek.loadtests;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Share of each gateway operation in the simulated traffic, parsed from e.g. {@code register=5,login=10,productGet=60}.
+ * Weights are normalised to percentages, operations left out of the spec get no traffic.
+ */
+public record TrafficMix(Map<Operation, Double> percentages) {
+
+    public static final String DEFAULT = "register=5,login=10,productCreate=15,productGet=60,orderList=10";
+
+    public TrafficMix {
+        percentages = Collections.unmodifiableMap(new EnumMap<>(percentages));
+    }
+
+    public static TrafficMix parse(final String spec) {
+        final Map<Operation, Double> weights = new EnumMap<>(Operation.class);
+        Arrays.stream(spec.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    final String[] parts = entry.split("=");
+                    if (parts.length != 2) {
+                        throw new IllegalArgumentException("Invalid traffic mix entry: " + entry);
+                    }
+                    final double weight = Double.parseDouble(parts[1].trim());
+                    if (weight < 0) {
+                        throw new IllegalArgumentException("Negative weight for " + parts[0].trim());
+                    }
+                    weights.merge(Operation.of(parts[0].trim()), weight, Double::sum);
+                });
+
+        final double total = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("Traffic mix has no positive weights: " + spec);
+        }
+
+        final Map<Operation, Double> percentages = new EnumMap<>(Operation.class);
+        weights.forEach((operation, weight) -> {
+            if (weight > 0) {
+                // w dół do 0.01%, żeby suma nigdy nie przekroczyła 100 w randomSwitch Gatlinga
+                percentages.put(operation, Math.floor(weight * 10_000.0 / total) / 100.0);
+            }
+        });
+        return new TrafficMix(percentages);
+    }
+
+    public boolean includes(final Operation operation) {
+        return percentages.containsKey(operation);
+    }
+
+    public enum Operation {
+        REGISTER("register"),
+        LOGIN("login"),
+        PRODUCT_CREATE("productCreate"),
+        PRODUCT_GET("productGet"),
+        ORDER_LIST("orderList");
+
+        private final String key;
+
+        Operation(final String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        static Operation of(final String key) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.key.equalsIgnoreCase(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation in traffic mix: " + key));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.kozubek.loadtests.environment;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * Stands in for the Keycloak endpoints used by user-service and the gateway: token issuing, OIDC discovery, JWKS
+ * and the admin calls made during registration. Tokens are real RS256 JWTs signed with a key generated at startup,
+ * so the gateway validates them exactly like Keycloak tokens.
+ */
+public class KeycloakStub implements AutoCloseable {
+
+    static final String REALM = "Saga-app";
+    static final String CLIENT_ID = "microservice-saga-app";
+    static final List<String> ROLES = List.of("ROLE_USER", "ROLE_WAREHOUSE_MANAGER", "ROLE_ORDER_MANAGER");
+
+    private static final Duration TOKEN_TTL = Duration.ofHours(12);
+    private static final String CLIENT_UUID = "9f3c1a0e-5d43-4a39-9d0b-1b1d6c1f2a10";
+
+    private final WireMockServer server;
+    private final RSAKey signingKey;
+
+    public KeycloakStub(final int port) throws JOSEException {
+        this.signingKey = new RSAKeyGenerator(2048).keyID("load-test").generate();
+        this.server = new WireMockServer(options().port(port).containerThreads(200));
+        server.start();
+        registerStubs();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    public String issuerUri() {
+        return baseUrl() + "/realms/" + REALM;
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+
+    private void registerStubs() throws JOSEException {
+        final String realmPath = "/realms/" + REALM;
+        final String adminPath = "/admin/realms/" + REALM;
+
+        server.stubFor(get(urlPathEqualTo(realmPath + "/.well-known/openid-configuration"))
+                .willReturn(okJson("""
+                        {"issuer":"%1$s","jwks_uri":"%1$s/protocol/openid-connect/certs","token_endpoint":"%1$s/protocol/openid-connect/token",\
+                        "id_token_signing_alg_values_supported":["RS256"],"subject_types_supported":["public"],"response_types_supported":["code"]}"""
+                        .formatted(issuerUri()))));
+        server.stubFor(get(urlPathEqualTo(realmPath + "/protocol/openid-connect/certs"))
+                .willReturn(okJson(new JWKSet(signingKey.toPublicJWK()).toString())));
+
+        // jeden długo ważny token na cały test - logowanie w Keycloak nie jest tu mierzone
+        server.stubFor(post(urlPathMatching("/realms/[^/]+/protocol/openid-connect/token"))
+                .willReturn(okJson(tokenResponse(issueToken()))));
+
+        server.stubFor(get(urlPathEqualTo(adminPath + "/users")).willReturn(okJson("[]")));
+        server.stubFor(post(urlPathEqualTo(adminPath + "/users"))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader("Location", baseUrl() + adminPath + "/users/{{randomValue type='UUID'}}")
+                        .withTransformers("response-template")));
+        server.stubFor(get(urlPathEqualTo(adminPath + "/clients"))
+                .willReturn(okJson("[{\"id\":\"%s\",\"clientId\":\"%s\"}]".formatted(CLIENT_UUID, CLIENT_ID))));
+        server.stubFor(get(urlPathEqualTo(adminPath + "/clients/" + CLIENT_UUID + "/roles"))
+                .willReturn(okJson("[{\"id\":\"%s\",\"name\":\"ROLE_USER\"}]".formatted(UUID.randomUUID()))));
+        server.stubFor(post(urlPathMatching(adminPath + "/users/[^/]+/role-mappings/clients/" + CLIENT_UUID))
+                .willReturn(aResponse().withStatus(204)));
+    }
+
+    private String issueToken() throws JOSEException {
+        final Instant now = Instant.now();
+        final JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuerUri())
+                .subject(UUID.randomUUID().toString())
+                .audience(CLIENT_ID)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(TOKEN_TTL)))
+                .claim("preferred_username", "load-test")
+                .claim("realm_access", Map.of("roles", ROLES))
+                .claim("resource_access", Map.of(CLIENT_ID, Map.of("roles", ROLES)))
+                .build();
+        final SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+
+    private static String tokenResponse(final String accessToken) {
+        return """
+                {"access_token":"%1$s","refresh_token":"%1$s","id_token":"%1$s","token_type":"Bearer",\
+                "expires_in":%2$d,"refresh_token_expires_in":%2$d}""".formatted(accessToken, TOKEN_TTL.toSeconds());
+    }
+}
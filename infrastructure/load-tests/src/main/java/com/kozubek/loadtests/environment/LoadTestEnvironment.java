@@ -0,0 +1,87 @@
+package com.kozubek.loadtests.environment;
+
+import com.kozubek.kafka.testsupport.EmbeddedSagaBroker;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+/**
+ * Starts local stand-ins for the infrastructure the services need under load (stub Keycloak, Postgres, embedded KRaft
+ * broker) and writes the command line overrides for each service to {@code env.file}. Runs until interrupted.
+ */
+public final class LoadTestEnvironment {
+
+    private LoadTestEnvironment() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final int keycloakPort = Integer.getInteger("env.keycloak-port", 19080);
+        final int partitions = Integer.getInteger("env.partitions", 6);
+        final List<String> topics = Arrays.asList(System.getProperty("env.topics", "product-created-events,product-updated-events").split(","));
+        final Path envFile = Path.of(System.getProperty("env.file", "build/load-test-env.properties"));
+
+        final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:17-alpine")
+                .withDatabaseName("postgres")
+                .withUsername("postgres")
+                .withPassword("postgres");
+        postgres.start();
+
+        final EmbeddedSagaBroker broker = new EmbeddedSagaBroker(partitions, topics.stream().map(String::trim).toList());
+        final KeycloakStub keycloak = new KeycloakStub(keycloakPort);
+
+        final CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            keycloak.close();
+            broker.close();
+            postgres.stop();
+            stopped.countDown();
+        }));
+
+        final Map<String, String> overrides = overrides(postgres, broker, keycloak);
+        write(envFile, overrides);
+        print(System.out, overrides);
+        System.out.println("Load test environment is up, env file: " + envFile.toAbsolutePath() + " (Ctrl+C to stop)");
+        stopped.await();
+    }
+
+    // klucz: moduł serwisu, wartość: argumenty wiersza poleceń dla jego jara
+    private static Map<String, String> overrides(final PostgreSQLContainer<?> postgres, final EmbeddedSagaBroker broker, final KeycloakStub keycloak) {
+        final String jdbcBase = "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT) + "/postgres";
+        final String kafka = "--kafka-config.bootstrap-servers=" + broker.bootstrapServers() + " --spring.kafka.bootstrap-servers=" + broker.bootstrapServers();
+
+        final Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put("gateway-api-service", "--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + keycloak.issuerUri());
+        overrides.put("user-service", String.join(" ",
+                "--spring.datasource.url=" + jdbcBase + "?currentSchema=user&binaryTransfer=true&reWriteBatchedInserts=true",
+                "--keycloak.base-url=" + keycloak.baseUrl(),
+                "--keycloak.client-secret=load-test",
+                kafka));
+        overrides.put("product-service", String.join(" ",
+                "--spring.datasource.url=" + jdbcBase + "?currentSchema=product&binaryTransfer=true&reWriteBatchedInserts=true",
+                kafka));
+        overrides.put("order-service", kafka);
+        return overrides;
+    }
+
+    private static void write(final Path envFile, final Map<String, String> overrides) throws IOException {
+        if (envFile.getParent() != null) {
+            Files.createDirectories(envFile.getParent());
+        }
+        Files.writeString(envFile, overrides.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(System.lineSeparator(), "", System.lineSeparator())));
+    }
+
+    private static void print(final PrintStream out, final Map<String, String> overrides) {
+        overrides.forEach((service, arguments) -> out.printf("%-20s %s%n", service, arguments));
+    }
+}
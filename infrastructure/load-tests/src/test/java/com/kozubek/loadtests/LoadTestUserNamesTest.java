@@ -0,0 +1,57 @@
+package com.kozubek.loadtests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoadTestUserNames Unit Tests")
+class LoadTestUserNamesTest {
+
+    @Test
+    @DisplayName("Should generate usernames within the user-service length limits")
+    void shouldStayWithinLengthLimits() {
+        // given
+        final LoadTestUserNames userNames = new LoadTestUserNames();
+
+        // when
+        final String seed = userNames.seed();
+        final String first = userNames.next();
+
+        // then
+        assertThat(seed).hasSizeBetween(LoadTestUserNames.MIN_LENGTH, LoadTestUserNames.MAX_LENGTH);
+        assertThat(first).hasSizeBetween(LoadTestUserNames.MIN_LENGTH, LoadTestUserNames.MAX_LENGTH);
+    }
+
+    @Test
+    @DisplayName("Should stay within the length limit for the largest counter value")
+    void shouldFitLargestCounter() {
+        // given
+        final LoadTestUserNames userNames = new LoadTestUserNames("zzzz", Long.MAX_VALUE - 1);
+
+        // when
+        final String userName = userNames.next();
+
+        // then
+        assertThat(userName).hasSizeLessThanOrEqualTo(LoadTestUserNames.MAX_LENGTH);
+    }
+
+    @Test
+    @DisplayName("Should not repeat usernames within a run")
+    void shouldNotRepeatUsernames() {
+        // given
+        final LoadTestUserNames userNames = new LoadTestUserNames("a1b2", 0);
+        final Set<String> generated = new HashSet<>();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            generated.add(userNames.next());
+        }
+
+        // then
+        assertThat(generated).hasSize(10_000).doesNotContain(userNames.seed());
+    }
+}
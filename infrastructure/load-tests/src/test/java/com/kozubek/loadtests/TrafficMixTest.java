@@ -0,0 +1,57 @@
+package com.kozubek.loadtests;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TrafficMix Unit Tests")
+class TrafficMixTest {
+
+    @Test
+    @DisplayName("Should normalise weights to percentages that never exceed 100 in total")
+    void shouldNormaliseWeightsToPercentages() {
+        // when
+        final TrafficMix mix = TrafficMix.parse("register=1, productGet=1, orderList=1");
+
+        // then
+        assertThat(mix.percentages()).containsOnlyKeys(
+                TrafficMix.Operation.REGISTER, TrafficMix.Operation.PRODUCT_GET, TrafficMix.Operation.ORDER_LIST);
+        assertThat(mix.percentages().get(TrafficMix.Operation.PRODUCT_GET)).isEqualTo(33.33);
+        assertThat(mix.percentages().values().stream().mapToDouble(Double::doubleValue).sum()).isLessThanOrEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("Should keep the default production mix as given")
+    void shouldKeepDefaultMix() {
+        // when
+        final TrafficMix mix = TrafficMix.parse(TrafficMix.DEFAULT);
+
+        // then
+        assertThat(mix.percentages())
+                .containsEntry(TrafficMix.Operation.PRODUCT_GET, 60.0)
+                .containsEntry(TrafficMix.Operation.REGISTER, 5.0)
+                .hasSize(TrafficMix.Operation.values().length);
+    }
+
+    @Test
+    @DisplayName("Should skip operations with zero weight")
+    void shouldSkipOperationsWithZeroWeight() {
+        // when
+        final TrafficMix mix = TrafficMix.parse("login=0,productCreate=3");
+
+        // then
+        assertThat(mix.includes(TrafficMix.Operation.LOGIN)).isFalse();
+        assertThat(mix.percentages()).containsEntry(TrafficMix.Operation.PRODUCT_CREATE, 100.0);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown operations")
+    void shouldRejectUnknownOperations() {
+        // when / then
+        assertThatThrownBy(() -> TrafficMix.parse("checkout=10"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("checkout");
+    }
+}
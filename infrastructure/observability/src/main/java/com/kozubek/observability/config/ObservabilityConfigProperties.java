@@ -0,0 +1,28 @@
+package com.kozubek.observability.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "observability-config")
+@Configuration
+@Data
+public class ObservabilityConfigProperties {
+
+    private VirtualThreads virtualThreads = new VirtualThreads();
+    private Logging logging = new Logging();
+
+    @Data
+    public static class VirtualThreads {
+        private Duration pinningThreshold = Duration.ofMillis(20);
+    }
+
+    @Data
+    public static class Logging {
+        private Integer queueSize = 8192;
+        private Integer sampleRate = 1;
+        private String sampledLoggers = "";
+    }
+}
@@ -0,0 +1,62 @@
+package com.kozubek.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets through one of every {@code sampleRate} INFO/DEBUG events of the configured loggers.
+ * Events are dropped before the message is formatted, WARN and ERROR are never sampled.
+ */
+@Getter
+@Setter
+public class SamplingTurboFilter extends TurboFilter {
+
+    private int sampleRate = 1;
+    private String loggers = "";
+
+    private List<String> loggerPrefixes = List.of();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void start() {
+        loggerPrefixes = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+                              final Object[] params, final Throwable t) {
+        if (!isStarted() || sampleRate <= 1 || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        final String loggerName = logger.getName();
+        if (!isSampled(loggerName)) {
+            return FilterReply.NEUTRAL;
+        }
+        final long count = counters.computeIfAbsent(loggerName, name -> new AtomicLong()).getAndIncrement();
+        return count % sampleRate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(final String loggerName) {
+        for (final String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
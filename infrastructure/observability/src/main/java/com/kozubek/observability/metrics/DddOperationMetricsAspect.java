@@ -0,0 +1,105 @@
+package com.kozubek.observability.metrics;
+
+import com.kozubek.ddd.annotation.architecture.cqrs.CommandOperation;
+import com.kozubek.ddd.annotation.architecture.cqrs.QueryOperation;
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class DddOperationMetricsAspect {
+
+    public static final String OPERATION_TIMER = "saga.operation";
+    public static final String KAFKA_PUBLISH_TIMER = "saga.kafka.publish";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> publishTimers = new ConcurrentHashMap<>();
+
+    @Around("(@within(com.kozubek.ddd.annotation.architecture.cqrs.CommandOperation)"
+            + " || @within(com.kozubek.ddd.annotation.architecture.cqrs.QueryOperation)"
+            + " || @within(com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort)"
+            + " || @within(com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter))"
+            + " && execution(public * *(..))")
+    public Object timeOperation(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        final Class<?> type = joinPoint.getTarget().getClass();
+        final long start = System.nanoTime();
+        try {
+            final Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(method, key -> operationTimer(type, key, SUCCESS, "none"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (final Throwable e) {
+            operationTimer(type, method, ERROR, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    @Around("execution(public * com.kozubek.kafka.config.producer.KafkaPublisher.send(..)) && args(topicName, ..)")
+    public Object timeKafkaPublish(final ProceedingJoinPoint joinPoint, final String topicName) throws Throwable {
+        final long start = System.nanoTime();
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable e) {
+            outcome = ERROR;
+            throw e;
+        } finally {
+            publishTimer(topicName, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer operationTimer(final Class<?> type, final Method method, final String outcome, final String exception) {
+        return Timer.builder(OPERATION_TIMER)
+                .description("Latency of command/query handlers and port adapters")
+                .tag("layer", layerOf(type))
+                .tag("class", type.getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    private Timer publishTimer(final String topicName, final String outcome) {
+        return publishTimers.computeIfAbsent(topicName + '|' + outcome, key -> Timer.builder(KAFKA_PUBLISH_TIMER)
+                .description("Time spent handing a message to the Kafka producer")
+                .tag("topic", topicName)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    static String layerOf(final Class<?> type) {
+        if (type.isAnnotationPresent(CommandOperation.class)) {
+            return "command";
+        }
+        if (type.isAnnotationPresent(QueryOperation.class)) {
+            return "query";
+        }
+        if (type.isAnnotationPresent(DrivingPort.class)) {
+            return "driving-port";
+        }
+        if (type.isAnnotationPresent(DrivenAdapter.class)) {
+            return "driven-adapter";
+        }
+        return "unknown";
+    }
+}
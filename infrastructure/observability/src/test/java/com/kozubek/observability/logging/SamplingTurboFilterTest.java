@@ -0,0 +1,94 @@
+package com.kozubek.observability.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SamplingTurboFilter Unit Tests")
+class SamplingTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final Logger sampledLogger = loggerContext.getLogger("com.kozubek.productadapters.rest.ProductController");
+    private final Logger otherLogger = loggerContext.getLogger("org.hibernate.SQL");
+
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setSampleRate(4);
+        filter.setLoggers(" com.kozubek.productadapters , com.kozubek.kafka,");
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("Should let through one of every sampleRate INFO events of a configured logger")
+    void shouldSampleInfoEvents() {
+        // when
+        final List<FilterReply> replies = decide(sampledLogger, Level.INFO, 8);
+
+        // then
+        assertThat(replies).containsExactly(
+                FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY, FilterReply.DENY,
+                FilterReply.NEUTRAL, FilterReply.DENY, FilterReply.DENY, FilterReply.DENY);
+    }
+
+    @Test
+    @DisplayName("Should count each logger separately")
+    void shouldCountEachLoggerSeparately() {
+        // given
+        final Logger kafkaLogger = loggerContext.getLogger("com.kozubek.kafka.config.producer.KafkaPublisher");
+        decide(sampledLogger, Level.DEBUG, 1);
+
+        // when
+        final FilterReply reply = filter.decide(null, kafkaLogger, Level.DEBUG, "event", null, null);
+
+        // then
+        assertThat(reply).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Should never sample WARN and ERROR events")
+    void shouldPassWarnAndError() {
+        // when / then
+        assertThat(decide(sampledLogger, Level.WARN, 5)).containsOnly(FilterReply.NEUTRAL);
+        assertThat(decide(sampledLogger, Level.ERROR, 5)).containsOnly(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Should pass events of loggers that are not configured")
+    void shouldPassOtherLoggers() {
+        // when / then
+        assertThat(decide(otherLogger, Level.INFO, 5)).containsOnly(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("Should pass everything when sample rate is 1 or the filter is not started")
+    void shouldPassWhenSamplingIsOff() {
+        // given
+        final SamplingTurboFilter notStarted = new SamplingTurboFilter();
+        notStarted.setSampleRate(4);
+        notStarted.setLoggers("com.kozubek");
+        filter.setSampleRate(1);
+
+        // when / then
+        assertThat(decide(sampledLogger, Level.INFO, 5)).containsOnly(FilterReply.NEUTRAL);
+        assertThat(IntStream.range(0, 5).mapToObj(i -> notStarted.decide(null, sampledLogger, Level.INFO, "event", null, null)))
+                .containsOnly(FilterReply.NEUTRAL);
+    }
+
+    private List<FilterReply> decide(final Logger logger, final Level level, final int events) {
+        return IntStream.range(0, events)
+                .mapToObj(i -> filter.decide(null, logger, level, "event {}", new Object[]{i}, null))
+                .toList();
+    }
+}
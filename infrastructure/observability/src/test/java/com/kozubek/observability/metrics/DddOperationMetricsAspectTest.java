@@ -0,0 +1,86 @@
+package com.kozubek.observability.metrics;
+
+import com.kozubek.ddd.annotation.architecture.cqrs.CommandOperation;
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DddOperationMetricsAspect Unit Tests")
+class DddOperationMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleCommandHandler());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new DddOperationMetricsAspect(meterRegistry));
+        handler = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time successful calls of a command handler with layer, class and method tags")
+    void shouldTimeSuccessfulCall() {
+        // when
+        handler.handle("ok");
+        handler.handle("ok");
+
+        // then
+        final Timer timer = meterRegistry.get(DddOperationMetricsAspect.OPERATION_TIMER)
+                .tag("layer", "command")
+                .tag("class", "SampleCommandHandler")
+                .tag("method", "handle")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should time failed calls with the exception type and rethrow the exception")
+    void shouldTimeFailedCallAndRethrow() {
+        // when / then
+        assertThatThrownBy(() -> handler.handle("fail"))
+                .isInstanceOf(IllegalStateException.class);
+
+        final Timer timer = meterRegistry.get(DddOperationMetricsAspect.OPERATION_TIMER)
+                .tag("outcome", "error")
+                .tag("exception", "IllegalStateException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(meterRegistry.find(DddOperationMetricsAspect.OPERATION_TIMER).tag("outcome", "success").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should resolve the layer tag from the DDD annotation of the bean")
+    void shouldResolveLayerFromAnnotation() {
+        // when / then
+        assertThat(DddOperationMetricsAspect.layerOf(SampleCommandHandler.class)).isEqualTo("command");
+        assertThat(DddOperationMetricsAspect.layerOf(SampleRepository.class)).isEqualTo("driven-adapter");
+        assertThat(DddOperationMetricsAspect.layerOf(String.class)).isEqualTo("unknown");
+    }
+
+    @CommandOperation
+    public static class SampleCommandHandler {
+
+        public String handle(final String input) {
+            if ("fail".equals(input)) {
+                throw new IllegalStateException("failed");
+            }
+            return input;
+        }
+    }
+
+    @DrivenAdapter
+    static class SampleRepository {
+    }
+}
@@ -5,7 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 @EnableDiscoveryClient
-@SpringBootApplication(scanBasePackages = "com.kozubek")
+@SpringBootApplication(scanBasePackages = {"com.kozubek.inventoryadapters", "com.kozubek.observability"})
 public class InventoryStarterApplication {
 
     public static void main(String[] args) {
@@ -5,7 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 @EnableDiscoveryClient
-@SpringBootApplication(scanBasePackages = "com.kozubek")
+@SpringBootApplication(scanBasePackages = {"com.kozubek.orderadapters", "com.kozubek.observability"})
 public class OrderStarterApplication {
     public static void main(String[] args) {
         SpringApplication.run(OrderStarterApplication.class, args);
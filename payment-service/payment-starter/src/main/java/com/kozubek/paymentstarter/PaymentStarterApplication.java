@@ -5,7 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 
 @EnableDiscoveryClient
-@SpringBootApplication(scanBasePackages = "com.kozubek")
+@SpringBootApplication(scanBasePackages = {"com.kozubek.paymentadapters", "com.kozubek.observability"})
 public class PaymentStarterApplication {
 
     public static void main(String[] args) {
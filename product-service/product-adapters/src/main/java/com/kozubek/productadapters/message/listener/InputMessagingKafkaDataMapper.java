@@ -0,0 +1,29 @@
+package com.kozubek.productadapters.message.listener;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import com.kozubek.kafka.model.ProductMessageDto;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+class InputMessagingKafkaDataMapper {
+
+    // ProductCreatedEventDtoKafka i ProductUpdatedEventDtoKafka niosą pełny stan produktu w tej samej postaci
+    public ProductProjection productEventDtoKafkaToProductProjection(final MessageKafkaDto<ProductMessageDto> message) {
+        final ProductMessageDto product = message.getData();
+
+        return ProductProjection.builder()
+                .productId(UUID.fromString(product.productId()))
+                .userId(UUID.fromString(product.userId()))
+                .code(product.code())
+                .name(product.name())
+                .price(product.price())
+                .quantity(product.quantity())
+                .status(ProductStatus.valueOf(product.status()))
+                .version(product.version() != null ? product.version() : 0L)
+                .build();
+    }
+}
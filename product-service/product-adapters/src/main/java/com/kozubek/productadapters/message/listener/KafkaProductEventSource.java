@@ -0,0 +1,75 @@
+package com.kozubek.productadapters.message.listener;
+
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import com.kozubek.kafka.model.events.ProductCreatedEventDtoKafka;
+import com.kozubek.kafka.model.events.ProductUpdatedEventDtoKafka;
+import com.kozubek.productapplication.config.ProductServiceConfigProperties;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productapplication.query.readmodel.ProductEventSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replays the product created and updated topics from the earliest retained offset up to the end offsets captured at start.
+ * Partitions are assigned manually, so no consumer group offsets are read or committed.
+ */
+@DrivenAdapter
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KafkaProductEventSource implements ProductEventSource {
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final ConsumerFactory<String, MessageKafkaDto<?>> consumerFactory;
+    private final ProductServiceConfigProperties properties;
+    private final InputMessagingKafkaDataMapper mapper;
+
+    @Override
+    public long replay(final java.util.function.Consumer<ProductProjection> projection) {
+        final List<String> topics = List.of(properties.getProductCreatedTopicName(), properties.getProductUpdatedTopicName());
+        long replayed = 0;
+
+        try (Consumer<String, MessageKafkaDto<?>> consumer = consumerFactory.createConsumer(properties.getReadModelGroupId() + "-rebuild", "rebuild")) {
+            final List<TopicPartition> partitions = topics.stream()
+                    .flatMap(topic -> consumer.partitionsFor(topic).stream()
+                            .map(partition -> new TopicPartition(topic, partition.partition())))
+                    .toList();
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            while (!reachedEnd(consumer, endOffsets)) {
+                for (final ConsumerRecord<String, MessageKafkaDto<?>> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.offset() >= endOffsets.get(new TopicPartition(record.topic(), record.partition()))) {
+                        continue;
+                    }
+                    // null = rekord, którego nie dało się zdeserializować (ErrorHandlingDeserializer)
+                    if (record.value() instanceof final ProductCreatedEventDtoKafka created) {
+                        projection.accept(mapper.productEventDtoKafkaToProductProjection(created));
+                        replayed++;
+                    } else if (record.value() instanceof final ProductUpdatedEventDtoKafka updated) {
+                        projection.accept(mapper.productEventDtoKafkaToProductProjection(updated));
+                        replayed++;
+                    } else {
+                        log.warn("Skipping unreadable product event {}-{}@{}", record.topic(), record.partition(), record.offset());
+                    }
+                }
+            }
+        }
+        return replayed;
+    }
+
+    private static boolean reachedEnd(final Consumer<?, ?> consumer, final Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream().allMatch(end -> consumer.position(end.getKey()) >= end.getValue());
+    }
+}
@@ -0,0 +1,25 @@
+package com.kozubek.productadapters.message.listener;
+
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingAdapter;
+import com.kozubek.kafka.config.serialization.MessageKafkaDto;
+import com.kozubek.kafka.model.ProductMessageDto;
+import com.kozubek.productapplication.query.readmodel.ProductReadModelProjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@DrivingAdapter
+@Component
+@RequiredArgsConstructor
+public class ProductReadModelKafkaListener {
+    private final ProductReadModelProjector projector;
+    private final InputMessagingKafkaDataMapper mapper;
+
+    // wspólna grupa dla wszystkich instancji - każde zdarzenie trafia do modelu odczytu raz;
+    // kolejność między tematami nie ma znaczenia, upsert odrzuca starsze wersje
+    @KafkaListener(topics = {"${product-service.product-created-topic-name}", "${product-service.product-updated-topic-name}"},
+            groupId = "${product-service.read-model-group-id}")
+    public void onProductEvent(final MessageKafkaDto<ProductMessageDto> message) {
+        projector.project(mapper.productEventDtoKafkaToProductProjection(message));
+    }
+}
@@ -0,0 +1,26 @@
+package com.kozubek.productadapters.message.publisher;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers a send until the surrounding transaction commits, so a rolled-back write never reaches the read model.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
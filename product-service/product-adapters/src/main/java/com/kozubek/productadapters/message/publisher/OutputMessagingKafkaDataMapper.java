@@ -2,8 +2,10 @@ package com.kozubek.productadapters.message.publisher;
 
 import com.kozubek.kafka.model.ProductMessageDto;
 import com.kozubek.kafka.model.events.ProductCreatedEventDtoKafka;
+import com.kozubek.kafka.model.events.ProductUpdatedEventDtoKafka;
 import com.kozubek.productdomain.core.Product;
 import com.kozubek.productdomain.event.ProductCreatedEvent;
+import com.kozubek.productdomain.event.ProductUpdatedEvent;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -12,18 +14,28 @@ import java.util.UUID;
 class OutputMessagingKafkaDataMapper {
 
     public ProductCreatedEventDtoKafka productCreatedEventToProductCreatedEventDtoKafka(final ProductCreatedEvent productCreatedEvent) {
-        final Product messagePayload = productCreatedEvent.getProduct();
-
-        final ProductMessageDto productMessageDto = ProductMessageDto.builder()
-                .productId(messagePayload.getId().id().toString())
-                .userId(messagePayload.getUserId().id().toString())
-                .code(messagePayload.getCode())
-                .name(messagePayload.getName())
-                .price(messagePayload.getPrice().amount())
-                .quantity(messagePayload.getQuantity())
-                .status(messagePayload.getStatus().toString())
-                .build();
+        final ProductMessageDto productMessageDto = productToProductMessageDto(productCreatedEvent.getProduct());
 
         return new ProductCreatedEventDtoKafka(productMessageDto, productMessageDto.productId(), productCreatedEvent.getCreatedAt(), UUID.randomUUID().toString());
     }
+
+    public ProductUpdatedEventDtoKafka productUpdatedEventToProductUpdatedEventDtoKafka(final ProductUpdatedEvent productUpdatedEvent) {
+        final Product product = productUpdatedEvent.getProduct();
+        final ProductMessageDto productMessageDto = productToProductMessageDto(product);
+
+        return new ProductUpdatedEventDtoKafka(productMessageDto, productMessageDto.productId(), productUpdatedEvent.getCreatedAt(), UUID.randomUUID().toString());
+    }
+
+    // wersja zapisanego agregatu - read model i ETag muszą zgadzać się z tym, czego oczekuje warunkowy zapis
+    private ProductMessageDto productToProductMessageDto(final Product product) {
+        return new ProductMessageDto(
+                product.getId().id().toString(),
+                product.getUserId().id().toString(),
+                product.getCode(),
+                product.getName(),
+                product.getPrice().amount(),
+                product.getQuantity(),
+                product.getStatus().toString(),
+                product.getVersion());
+    }
 }
@@ -1,5 +1,6 @@
 package com.kozubek.productadapters.message.publisher;
 
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
 import com.kozubek.kafka.config.producer.KafkaPublisher;
 import com.kozubek.kafka.model.events.ProductCreatedEventDtoKafka;
 import com.kozubek.productapplication.config.ProductServiceConfigProperties;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+@DrivenAdapter
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -18,14 +20,24 @@ public class ProductCreatedKafkaEventPublisher implements ProductCreatedEventPub
     private final OutputMessagingKafkaDataMapper mapper;
 
     public void publish(final ProductCreatedEvent event) {
-        final String productId = event.getProduct().getId().id().toString();
-
+        final ProductCreatedEventDtoKafka productCreatedEventDtoKafka;
         try {
-            final ProductCreatedEventDtoKafka productCreatedEventDtoKafka = mapper.productCreatedEventToProductCreatedEventDtoKafka(event);
+            productCreatedEventDtoKafka = mapper.productCreatedEventToProductCreatedEventDtoKafka(event);
+        } catch (final Exception e) {
+            log.error("Error while mapping ProductCreatedEvent message. Product id: {} error: {}", event.getProduct().getId().id(), e.getMessage());
+            return;
+        }
 
-            kafkaPublisher.send(properties.getProductCreatedTopicName(), productCreatedEventDtoKafka.getSagaId(), productCreatedEventDtoKafka);
+        // projektor wstawia produkt do modelu odczytu - wysyłka dopiero po commicie, np. nie po duplikacie kodu
+        AfterCommit.run(() -> send(event, productCreatedEventDtoKafka));
+    }
+
+    private void send(final ProductCreatedEvent event, final ProductCreatedEventDtoKafka productCreatedEventDtoKafka) {
+        try {
+            kafkaPublisher.send(properties.getProductCreatedTopicName(), productCreatedEventDtoKafka);
         } catch (final Exception e) {
-            log.error("Error while sending OrderCreatedEvent message to kafka. Order id: {} and SagaId: {} error: {}", productId, null, e.getMessage());
+            log.error("Error while sending ProductCreatedEvent message to kafka. Product id: {} version: {} error: {}",
+                    event.getProduct().getId().id(), event.getProduct().getVersion(), e.getMessage());
         }
     }
 }
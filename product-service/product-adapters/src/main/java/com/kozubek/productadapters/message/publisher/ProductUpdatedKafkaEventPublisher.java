@@ -0,0 +1,43 @@
+package com.kozubek.productadapters.message.publisher;
+
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
+import com.kozubek.kafka.config.producer.KafkaPublisher;
+import com.kozubek.kafka.model.events.ProductUpdatedEventDtoKafka;
+import com.kozubek.productapplication.config.ProductServiceConfigProperties;
+import com.kozubek.productapplication.message.publisher.ProductUpdatedEventPublisher;
+import com.kozubek.productdomain.event.ProductUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@DrivenAdapter
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProductUpdatedKafkaEventPublisher implements ProductUpdatedEventPublisher {
+    private final ProductServiceConfigProperties properties;
+    private final KafkaPublisher<ProductUpdatedEventDtoKafka> kafkaPublisher;
+    private final OutputMessagingKafkaDataMapper mapper;
+
+    public void publish(final ProductUpdatedEvent event) {
+        final ProductUpdatedEventDtoKafka productUpdatedEventDtoKafka;
+        try {
+            productUpdatedEventDtoKafka = mapper.productUpdatedEventToProductUpdatedEventDtoKafka(event);
+        } catch (final Exception e) {
+            log.error("Error while mapping ProductUpdatedEvent message. Product id: {} error: {}", event.getProduct().getId().id(), e.getMessage());
+            return;
+        }
+
+        // wycofana zmiana nie może trafić do modelu odczytu - wysyłka dopiero po commicie
+        AfterCommit.run(() -> send(event, productUpdatedEventDtoKafka));
+    }
+
+    private void send(final ProductUpdatedEvent event, final ProductUpdatedEventDtoKafka productUpdatedEventDtoKafka) {
+        try {
+            kafkaPublisher.send(properties.getProductUpdatedTopicName(), productUpdatedEventDtoKafka);
+        } catch (final Exception e) {
+            log.error("Error while sending ProductUpdatedEvent message to kafka. Product id: {} version: {} error: {}",
+                    event.getProduct().getId().id(), event.getProduct().getVersion(), e.getMessage());
+        }
+    }
+}
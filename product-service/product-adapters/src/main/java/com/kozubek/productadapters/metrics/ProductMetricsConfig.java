@@ -0,0 +1,30 @@
+package com.kozubek.productadapters.metrics;
+
+import com.kozubek.productapplication.ProductApplicationService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProductMetricsConfig {
+
+    public static final String PRODUCT_LOOKUPS_METRIC = "product.query.lookups";
+
+    private static final String PRODUCT_LOOKUPS_DESCRIPTION =
+            "Product lookups by id, split into executed queries and requests collapsed into one already in flight";
+
+    @Bean
+    public MeterBinder productLookupsMetrics(final ProductApplicationService productApplicationService) {
+        return registry -> {
+            FunctionCounter.builder(PRODUCT_LOOKUPS_METRIC, productApplicationService, ProductApplicationService::productLookupsExecuted)
+                    .description(PRODUCT_LOOKUPS_DESCRIPTION)
+                    .tag("outcome", "executed")
+                    .register(registry);
+            FunctionCounter.builder(PRODUCT_LOOKUPS_METRIC, productApplicationService, ProductApplicationService::productLookupsCollapsed)
+                    .description(PRODUCT_LOOKUPS_DESCRIPTION)
+                    .tag("outcome", "collapsed")
+                    .register(registry);
+        };
+    }
+}
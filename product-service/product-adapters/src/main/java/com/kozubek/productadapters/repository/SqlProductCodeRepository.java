@@ -0,0 +1,34 @@
+package com.kozubek.productadapters.repository;
+
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
+import com.kozubek.productapplication.command.ProductCodeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Codes live in {@code product_codes} in both persistence modes: filled by a trigger on the partitioned {@code products}
+ * table, or claimed by {@link com.kozubek.productadapters.repository.eventsourcing.ProductEventStore#claimCode} for event streams.
+ */
+@DrivenAdapter
+@Repository
+@RequiredArgsConstructor
+public class SqlProductCodeRepository implements ProductCodeRepository {
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public boolean existsByCode(final String code) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+				"SELECT EXISTS (SELECT 1 FROM product_codes WHERE code = ?)", Boolean.class, code));
+	}
+
+	// stronicowanie po kluczu głównym - bez OFFSET i bez długiego kursora przy rozgrzewaniu filtra
+	@Override
+	public List<String> findCodesAfter(final String afterCode, final int limit) {
+		return afterCode == null
+				? jdbcTemplate.queryForList("SELECT code FROM product_codes ORDER BY code LIMIT ?", String.class, limit)
+				: jdbcTemplate.queryForList("SELECT code FROM product_codes WHERE code > ? ORDER BY code LIMIT ?", String.class, afterCode, limit);
+	}
+}
@@ -1,32 +1,98 @@
 package com.kozubek.productadapters.repository;
 
 import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
-import com.kozubek.productapplication.exception.ProductNotFoundException;
 import com.kozubek.productapplication.query.ProductQueryRepository;
 import com.kozubek.productapplication.query.dto.ProductProjection;
-import com.kozubek.productentities.ProductEntity;
 import com.kozubek.productentities.ProductEntityQueryMapper;
+import com.kozubek.productentities.ProductEntityQueryMapperImpl;
+import com.kozubek.productentities.ProductReadModelEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Reads go to the {@code product_read_model} table kept up to date by the projector, never to the write-side {@code products}.
+ */
 @DrivenAdapter
 @Repository
 @RequiredArgsConstructor
 public class SqlProductQueryRepository implements ProductQueryRepository {
 	private final ProductQueryRepositoryJpa repository;
-	private final ProductEntityQueryMapper mapper = new ProductEntityQueryMapper();
+	private final ProductEntityQueryMapper mapper = new ProductEntityQueryMapperImpl();
 
 	@Override
-	public ProductProjection getProductProjection(final UUID productId) {
-		return repository.findById(productId)
+	public Optional<ProductProjection> findProductProjection(final UUID productId) {
+		return repository.findProjectionById(productId);
+	}
+
+	@Override
+	public List<ProductProjection> getProductProjections(final Collection<UUID> productIds) {
+		return repository.findAllByIdIn(productIds.toArray(UUID[]::new)).stream()
 				.map(mapper::productToProductProjection)
-				.orElseThrow(() -> new ProductNotFoundException("Could not find product with id: " + productId));
+				.toList();
+	}
+
+	@Override
+	public List<ProductProjection> searchProducts(final String phrase, final long offset, final int limit) {
+		return repository.search(phrase, "%" + escapeLike(phrase) + "%", offset, limit).stream()
+				.map(mapper::productToProductProjection)
+				.toList();
+	}
+
+	@Override
+	public List<ProductProjection> searchProductsByPrefix(final String phrase, final long offset, final int limit) {
+		return repository.searchByPrefix(phrase, escapeLike(phrase) + "%", offset, limit).stream()
+				.map(mapper::productToProductProjection)
+				.toList();
+	}
+
+	// "%" i "_" z frazy użytkownika mają być dosłowne, a nie wzorcem LIKE
+	static String escapeLike(final String phrase) {
+		return phrase.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
 	}
 }
 
 @Repository
-interface ProductQueryRepositoryJpa extends JpaRepository<ProductEntity, UUID> {
+interface ProductQueryRepositoryJpa extends JpaRepository<ProductReadModelEntity, UUID> {
+
+	// projekcja budowana wprost z wiersza - bez encji w kontekście utrwalania i bez mapowania
+	@Query("""
+			select new com.kozubek.productapplication.query.dto.ProductProjection(
+				p.id, p.userId, p.status, p.code, p.name, p.price, p.quantity, p.version)
+			from ProductReadModelEntity p where p.id = :productId
+			""")
+	Optional<ProductProjection> findProjectionById(@Param("productId") UUID productId);
+
+	@Query(value = "SELECT * FROM product_read_model WHERE id = ANY(:productIds)", nativeQuery = true)
+	List<ProductReadModelEntity> findAllByIdIn(@Param("productIds") UUID[] productIds);
+
+	// LIKE '%...%' na lower(...) korzysta z indeksów GIN gin_trgm_ops; ranking: dokładny kod, potem podobieństwo trigramowe,
+	// id rozstrzyga remisy, żeby stronicowanie było stabilne
+	@Query(value = """
+			SELECT * FROM product_read_model
+			WHERE lower(name) LIKE :pattern OR lower(code) LIKE :pattern
+			ORDER BY lower(code) = :phrase DESC,
+				GREATEST(similarity(lower(name), :phrase), similarity(lower(code), :phrase)) DESC,
+				id
+			OFFSET :offset LIMIT :limit
+			""", nativeQuery = true)
+	List<ProductReadModelEntity> search(@Param("phrase") String phrase, @Param("pattern") String pattern,
+									   @Param("offset") long offset, @Param("limit") int limit);
+
+	// LIKE 'prefiks%' korzysta z indeksów B-tree text_pattern_ops
+	@Query(value = """
+			SELECT * FROM product_read_model
+			WHERE lower(name) LIKE :pattern OR lower(code) LIKE :pattern
+			ORDER BY lower(code) = :phrase DESC, lower(code) LIKE :pattern DESC, lower(name), id
+			OFFSET :offset LIMIT :limit
+			""", nativeQuery = true)
+	List<ProductReadModelEntity> searchByPrefix(@Param("phrase") String phrase, @Param("pattern") String pattern,
+												@Param("offset") long offset, @Param("limit") int limit);
 }
@@ -0,0 +1,52 @@
+package com.kozubek.productadapters.repository;
+
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productapplication.query.readmodel.ProductReadModelRepository;
+import com.kozubek.productentities.ProductReadModelEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@DrivenAdapter
+@Repository
+@RequiredArgsConstructor
+public class SqlProductReadModelRepository implements ProductReadModelRepository {
+	private final ProductReadModelRepositoryJpa repository;
+
+	@Override
+	public void upsert(final ProductProjection projection) {
+		repository.upsert(projection.productId(), projection.userId(), projection.code(), projection.name(), projection.price(),
+				projection.quantity(), projection.status().name(), projection.version() != null ? projection.version() : 0L);
+	}
+}
+
+@Repository
+interface ProductReadModelRepositoryJpa extends JpaRepository<ProductReadModelEntity, UUID> {
+
+	// starsza wersja nie nadpisuje nowszej - projekcja jest idempotentna przy ponownym dostarczeniu i odtwarzaniu
+	@Modifying
+	@Query(value = """
+			INSERT INTO product_read_model (id, user_id, code, name, price, quantity, status, version, updated_at)
+			VALUES (:id, :userId, :code, :name, :price, :quantity, :status, :version, now())
+			ON CONFLICT (id) DO UPDATE SET
+				user_id = EXCLUDED.user_id,
+				code = EXCLUDED.code,
+				name = EXCLUDED.name,
+				price = EXCLUDED.price,
+				quantity = EXCLUDED.quantity,
+				status = EXCLUDED.status,
+				version = EXCLUDED.version,
+				updated_at = EXCLUDED.updated_at
+			WHERE product_read_model.version <= EXCLUDED.version
+			""", nativeQuery = true)
+	void upsert(@Param("id") UUID id, @Param("userId") UUID userId, @Param("code") String code, @Param("name") String name,
+				@Param("price") BigDecimal price, @Param("quantity") Integer quantity, @Param("status") String status,
+				@Param("version") long version);
+}
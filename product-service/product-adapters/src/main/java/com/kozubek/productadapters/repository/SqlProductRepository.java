@@ -1,29 +1,89 @@
 package com.kozubek.productadapters.repository;
 
+import com.kozubek.commondomain.vo.ProductId;
 import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
+import com.kozubek.productapplication.exception.ProductConcurrentModificationException;
 import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.exception.InsufficientStockException;
 import com.kozubek.productdomain.port.ProductRepository;
 import com.kozubek.productentities.ProductEntity;
 import com.kozubek.productentities.ProductEntityCommandMapper;
+import com.kozubek.productentities.ProductEntityCommandMapperImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @DrivenAdapter
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product-service.event-sourcing", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class SqlProductRepository implements ProductRepository {
 	private final ProductRepositoryJpa repository;
-	private final ProductEntityCommandMapper commandMapper = new ProductEntityCommandMapper();
+	private final ProductEntityCommandMapper commandMapper = new ProductEntityCommandMapperImpl();
 
 	@Override
-	public void save(final Product product) {
-		commandMapper.productEntityToProduct(repository.save(commandMapper.productToProductEntity(product)));
+	public Product save(final Product product) {
+		return commandMapper.productEntityToProduct(repository.save(commandMapper.productToProductEntity(product)));
+	}
+
+	@Override
+	public Optional<Product> findById(final ProductId productId) {
+		return repository.findById(productId.id()).map(commandMapper::productEntityToProduct);
+	}
+
+	@Override
+	public Optional<Long> findVersion(final ProductId productId) {
+		return repository.findVersionById(productId.id());
+	}
+
+	@Override
+	public Product update(final Product product) {
+		try {
+			// flush od razu: UPDATE ... WHERE version = ? zwraca konflikt tutaj, a nie przy commicie
+			return commandMapper.productEntityToProduct(repository.saveAndFlush(commandMapper.productToProductEntity(product)));
+		} catch (final OptimisticLockingFailureException e) {
+			throw new ProductConcurrentModificationException("Product " + product.getId().id() + " was modified concurrently", e);
+		}
+	}
+
+	@Override
+	public Optional<Product> adjustStock(final ProductId productId, final int delta) {
+		final Optional<ProductEntity> adjusted = repository.adjustStock(productId.id(), delta, Product.LAST_PIECES_THRESHOLD);
+		if (adjusted.isEmpty() && repository.existsById(productId.id())) {
+			throw new InsufficientStockException("Insufficient stock of product " + productId.id() + " for change " + delta);
+		}
+		return adjusted.map(commandMapper::productEntityToProduct);
 	}
 }
 
 @Repository
 interface ProductRepositoryJpa extends JpaRepository<ProductEntity, UUID> {
+
+	@Query("select p.version from ProductEntity p where p.id = :id")
+	Optional<Long> findVersionById(@Param("id") UUID id);
+
+	// jedno zapytanie zamiast SELECT + UPDATE: równoległe zmiany stanu nie czekają na siebie w aplikacji,
+	// a warunek quantity + delta >= 0 nie pozwala zejść poniżej zera; status jak Product.adjustStock -
+	// ręcznie wycofany produkt (NOT_AVAILABLE przy niezerowym stanie) pozostaje wycofany, pozostałe wg progów
+	@Query(value = """
+			UPDATE products
+			SET quantity = quantity + :delta,
+				status = CASE
+					WHEN quantity + :delta = 0 THEN 'NOT_AVAILABLE'
+					WHEN status = 'NOT_AVAILABLE' AND quantity > 0 THEN 'NOT_AVAILABLE'
+					WHEN quantity + :delta < :lastPiecesThreshold THEN 'LAST_PIECES'
+					ELSE 'AVAILABLE'
+				END,
+				version = version + 1
+			WHERE id = :id AND quantity + :delta >= 0
+			RETURNING *
+			""", nativeQuery = true)
+	Optional<ProductEntity> adjustStock(@Param("id") UUID id, @Param("delta") int delta, @Param("lastPiecesThreshold") int lastPiecesThreshold);
 }
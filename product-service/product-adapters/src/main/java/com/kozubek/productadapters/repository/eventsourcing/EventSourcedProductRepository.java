@@ -0,0 +1,90 @@
+package com.kozubek.productadapters.repository.eventsourcing;
+
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
+import com.kozubek.productapplication.config.ProductServiceConfigProperties;
+import com.kozubek.productapplication.exception.ProductConcurrentModificationException;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.event.ProductChange;
+import com.kozubek.productdomain.port.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link ProductRepository} keeping the product as a stream of {@link ProductChange} events instead of a mutable row.
+ * Enabled with {@code product-service.event-sourcing.enabled=true}, see {@link EventSourcingConfig}.
+ */
+@DrivenAdapter
+@Slf4j
+@RequiredArgsConstructor
+public class EventSourcedProductRepository implements ProductRepository {
+	private final ProductEventStore eventStore;
+	private final ProductServiceConfigProperties properties;
+
+	@Override
+	public Product save(final Product product) {
+		// strumień nowego produktu po pierwszym dopisaniu jest już w wersji >= 1, nie 0 jak encja JPA
+		final long version = append(product, null);
+		return Product.rehydrate(product.toSnapshot(), List.of(), version);
+	}
+
+	@Override
+	public Optional<Product> findById(final ProductId productId) {
+		return findById(productId.id());
+	}
+
+	public Optional<Product> findById(final UUID productId) {
+		final ProductEventStream stream = eventStore.load(productId);
+		return stream.isEmpty() ? Optional.empty() : Optional.of(stream.rehydrate());
+	}
+
+	@Override
+	public Optional<Long> findVersion(final ProductId productId) {
+		return eventStore.lastVersion(productId.id());
+	}
+
+	@Override
+	public Product update(final Product product) {
+		final long version = append(product, product.getVersion());
+		return Product.rehydrate(product.toSnapshot(), List.of(), version);
+	}
+
+	// bez warunkowego UPDATE: odczyt strumienia + dopisanie z oczekiwaną wersją, konflikt kończy się wyjątkiem
+	@Override
+	public Optional<Product> adjustStock(final ProductId productId, final int delta) {
+		return findById(productId).map(product -> {
+			product.adjustStock(delta);
+			return update(product);
+		});
+	}
+
+	private long append(final Product product, final Long expectedVersion) {
+		final UUID productId = product.getId().id();
+		final ProductEventStream stream = eventStore.load(productId);
+		if (expectedVersion != null && expectedVersion != stream.version()) {
+			throw new ProductConcurrentModificationException(
+					"Product " + productId + " is at version " + stream.version() + ", expected " + expectedVersion);
+		}
+
+		final List<ProductChange> changes = product.changesSince(stream.isEmpty() ? null : stream.rehydrate());
+		if (changes.isEmpty()) {
+			return stream.version();
+		}
+		if (stream.isEmpty()) {
+			eventStore.claimCode(productId, product.getCode());
+		}
+
+		final long version = eventStore.append(productId, stream.version(), changes);
+		// snapshot po przekroczeniu każdej wielokrotności snapshot-every - odczyt czyta najwyżej tyle zdarzeń ogona
+		final int snapshotEvery = properties.getEventSourcing().getSnapshotEvery();
+		if (snapshotEvery > 0 && version / snapshotEvery > stream.version() / snapshotEvery) {
+			eventStore.saveSnapshot(productId, version, product.toSnapshot());
+			log.debug("Snapshot of product {} taken at version {}", productId, version);
+		}
+		return version;
+	}
+}
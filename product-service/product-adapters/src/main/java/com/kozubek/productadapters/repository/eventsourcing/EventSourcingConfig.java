@@ -0,0 +1,24 @@
+package com.kozubek.productadapters.repository.eventsourcing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kozubek.productapplication.config.ProductServiceConfigProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product-service.event-sourcing", name = "enabled", havingValue = "true")
+public class EventSourcingConfig {
+
+    @Bean
+    public ProductEventStore productEventStore(final JdbcTemplate jdbcTemplate, final ObjectMapper objectMapper) {
+        return new ProductEventStore(jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    public EventSourcedProductRepository eventSourcedProductRepository(final ProductEventStore productEventStore,
+                                                                       final ProductServiceConfigProperties properties) {
+        return new EventSourcedProductRepository(productEventStore, properties);
+    }
+}
@@ -0,0 +1,122 @@
+package com.kozubek.productadapters.repository.eventsourcing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kozubek.productapplication.exception.ProductCodeAlreadyExistsException;
+import com.kozubek.productapplication.exception.ProductConcurrentModificationException;
+import com.kozubek.productdomain.core.ProductSnapshot;
+import com.kozubek.productdomain.event.ProductChange;
+import com.kozubek.productdomain.event.ProductPriceChanged;
+import com.kozubek.productdomain.event.ProductRegistered;
+import com.kozubek.productdomain.event.ProductStatusChanged;
+import com.kozubek.productdomain.event.ProductStockChanged;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Append-only {@code product_events} stream per product plus the latest {@code product_snapshots} row.
+ * Optimistic concurrency comes from the (product_id, version) primary key: two writers appending at the same
+ * expected version cannot both succeed.
+ */
+@RequiredArgsConstructor
+public class ProductEventStore {
+
+    private static final Map<String, Class<? extends ProductChange>> EVENT_TYPES = Stream.of(
+                    ProductRegistered.class, ProductPriceChanged.class, ProductStockChanged.class, ProductStatusChanged.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, type -> type));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ProductEventStream load(final UUID productId) {
+        final Optional<Snapshot> snapshot = jdbcTemplate.query(
+                        "SELECT version, payload FROM product_snapshots WHERE product_id = ?",
+                        (rs, rowNum) -> new Snapshot(rs.getLong("version"), read(rs.getString("payload"), ProductSnapshot.class)),
+                        productId)
+                .stream()
+                .findFirst();
+        final long snapshotVersion = snapshot.map(Snapshot::version).orElse(0L);
+
+        final List<ProductChange> tail = jdbcTemplate.query(
+                "SELECT event_type, payload FROM product_events WHERE product_id = ? AND version > ? ORDER BY version",
+                (rs, rowNum) -> read(rs.getString("payload"), eventType(rs.getString("event_type"))),
+                productId, snapshotVersion);
+
+        return new ProductEventStream(snapshot.map(Snapshot::state).orElse(null), snapshotVersion, tail);
+    }
+
+    // wersja strumienia bez odtwarzania produktu - ostatni wpis z klucza (product_id, version)
+    public Optional<Long> lastVersion(final UUID productId) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT max(version) FROM product_events WHERE product_id = ?", Long.class, productId));
+    }
+
+    public long append(final UUID productId, final long expectedVersion, final List<ProductChange> changes) {
+        final List<Object[]> rows = new ArrayList<>(changes.size());
+        long version = expectedVersion;
+        for (final ProductChange change : changes) {
+            rows.add(new Object[]{productId, ++version, change.getClass().getSimpleName(), write(change)});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("INSERT INTO product_events (product_id, version, event_type, payload) VALUES (?, ?, ?, ?::jsonb)", rows);
+        } catch (final DuplicateKeyException e) {
+            throw new ProductConcurrentModificationException(
+                    "Product " + productId + " was modified concurrently, expected version " + expectedVersion, e);
+        }
+        return version;
+    }
+
+    // strumień zdarzeń nie ma kolumny code - unikalność kodu pilnuje klucz główny product_codes
+    public void claimCode(final UUID productId, final String code) {
+        try {
+            jdbcTemplate.update("INSERT INTO product_codes (code, product_id) VALUES (?, ?)", code, productId);
+        } catch (final DuplicateKeyException e) {
+            throw new ProductCodeAlreadyExistsException("Product with code " + code + " already exists", e);
+        }
+    }
+
+    public void saveSnapshot(final UUID productId, final long version, final ProductSnapshot snapshot) {
+        jdbcTemplate.update("""
+                INSERT INTO product_snapshots (product_id, version, payload) VALUES (?, ?, ?::jsonb)
+                ON CONFLICT (product_id) DO UPDATE SET version = EXCLUDED.version, payload = EXCLUDED.payload, created_at = now()
+                WHERE product_snapshots.version < EXCLUDED.version
+                """, productId, version, write(snapshot));
+    }
+
+    private static Class<? extends ProductChange> eventType(final String name) {
+        final Class<? extends ProductChange> type = EVENT_TYPES.get(name);
+        if (type == null) {
+            throw new IllegalStateException("Unknown product event type: " + name);
+        }
+        return type;
+    }
+
+    private String write(final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private <T> T read(final String json, final Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException("Could not deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    private record Snapshot(long version, ProductSnapshot state) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.kozubek.productadapters.repository.eventsourcing;
+
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.core.ProductSnapshot;
+import com.kozubek.productdomain.event.ProductChange;
+
+import java.util.List;
+
+/**
+ * Latest snapshot of a product (if any) and the events appended after it.
+ */
+public record ProductEventStream(ProductSnapshot snapshot, long snapshotVersion, List<ProductChange> tail) {
+
+    public long version() {
+        return snapshotVersion + tail.size();
+    }
+
+    public boolean isEmpty() {
+        return snapshot == null && tail.isEmpty();
+    }
+
+    public Product rehydrate() {
+        return Product.rehydrate(snapshot, tail, version());
+    }
+}
@@ -0,0 +1,54 @@
+package com.kozubek.productadapters.repository.replica;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * One replica pool together with the last lag reported by {@link ReplicaLagMonitor}.
+ * A replica is not used until its first successful lag check.
+ */
+final class ReadReplica implements AutoCloseable {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean reachable;
+    private volatile Duration lag = Duration.ZERO;
+
+    ReadReplica(final String name, final DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    String name() {
+        return name;
+    }
+
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    Duration lag() {
+        return lag;
+    }
+
+    boolean isUsable(final Duration maxLag) {
+        return reachable && lag.compareTo(maxLag) <= 0;
+    }
+
+    void reportLag(final Duration lag) {
+        this.lag = lag;
+        this.reachable = true;
+    }
+
+    void markUnreachable() {
+        this.reachable = false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kozubek.productadapters.repository.replica;
+
+import com.kozubek.productapplication.config.ProductServiceConfigProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "product-service.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+                                                             final ProductServiceConfigProperties properties) {
+        final ProductServiceConfigProperties.ReadReplicas settings = properties.getReadReplicas();
+        final List<ReadReplica> replicas = new ArrayList<>();
+        for (int i = 0; i < settings.getReplicas().size(); i++) {
+            final ProductServiceConfigProperties.Replica replica = settings.getReplicas().get(i);
+            final String name = "product-service-replica-" + i;
+            replicas.add(new ReadReplica(name, replicaPool(primaryDataSource, replica, name, settings.getMaximumPoolSize())));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, settings.getMaxLag());
+    }
+
+    // połączenie fizyczne dopiero przy pierwszym zapytaniu - wtedy flaga readOnly transakcji jest już ustawiona
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(final ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               final ProductServiceConfigProperties properties) {
+        final ProductServiceConfigProperties.ReadReplicas settings = properties.getReadReplicas();
+        return new ReplicaLagMonitor(replicaRoutingDataSource, settings.getMaxLag(), settings.getLagCheckInterval());
+    }
+
+    // ustawienia puli (schemat, auto-commit, właściwości sterownika) jak na primary, inny adres i rozmiar
+    private static HikariDataSource replicaPool(final HikariDataSource primary, final ProductServiceConfigProperties.Replica replica,
+                                                final String poolName, final int maximumPoolSize) {
+        final HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(poolName);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        config.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(Math.min(config.getMinimumIdle(), maximumPoolSize));
+        config.setReadOnly(true);
+        // replika, która nie wstała, nie może blokować startu serwisu - zapytania pójdą na primary
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
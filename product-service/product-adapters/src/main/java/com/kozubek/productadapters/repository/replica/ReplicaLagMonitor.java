@@ -0,0 +1,99 @@
+package com.kozubek.productadapters.repository.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    // bez nowych WAL do odtworzenia replika jest aktualna, nawet jeśli ostatnia transakcja była dawno - ale tylko gdy odbiornik
+    // WAL strumieniuje: po rozłączeniu receive LSN stoi w miejscu i równość z replay niczego nie mówi, wtedy NULL (lag nieznany);
+    // instancja poza recovery (np. zastępcza baza w testach) nie ma lagu
+    static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END""";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+    private final Duration interval;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(final ReplicaRoutingDataSource routingDataSource, final Duration maxLag, final Duration interval) {
+        this.routingDataSource = routingDataSource;
+        this.maxLag = maxLag;
+        this.interval = interval;
+    }
+
+    @Override
+    public synchronized void start() {
+        checkAll();
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        final long intervalMs = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Read replica routing started for {} replica(s), max lag {}", routingDataSource.replicas().size(), maxLag);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    void checkAll() {
+        for (final ReadReplica replica : routingDataSource.replicas()) {
+            check(replica);
+        }
+    }
+
+    private void check(final ReadReplica replica) {
+        final boolean wasUsable = replica.isUsable(maxLag);
+        final boolean streaming;
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            final double lagMillis = resultSet.getDouble(1);
+            streaming = !resultSet.wasNull();
+            if (streaming) {
+                replica.reportLag(Duration.ofMillis(Math.round(lagMillis)));
+            }
+        } catch (final Exception e) {
+            replica.markUnreachable();
+            if (wasUsable) {
+                log.warn("Read replica {} is unreachable, reads fall back to the primary: {}", replica.name(), e.getMessage());
+            }
+            return;
+        }
+        if (!streaming) {
+            replica.markUnreachable();
+            if (wasUsable) {
+                log.warn("Read replica {} is not streaming WAL from the primary, reads fall back to the primary", replica.name());
+            }
+            return;
+        }
+        if (wasUsable != replica.isUsable(maxLag)) {
+            log.info("Read replica {} {} (lag {} ms)", replica.name(), wasUsable ? "is lagging, taken out of rotation" : "is back in rotation",
+                    replica.lag().toMillis());
+        }
+    }
+}
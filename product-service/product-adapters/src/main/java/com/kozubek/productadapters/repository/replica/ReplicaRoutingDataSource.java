@@ -0,0 +1,75 @@
+package com.kozubek.productadapters.repository.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out replica connections inside {@code @Transactional(readOnly = true)} and primary connections otherwise.
+ * Replicas are taken round-robin, skipping the ones that lag more than {@code maxLag} or did not answer the last
+ * lag check; when none is usable the read goes to the primary.
+ * <p>
+ * The read-only flag is set only after the transaction manager has begun the transaction, so this data source must sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers the physical
+ * connection to the first statement.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<ReadReplica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    ReplicaRoutingDataSource(final DataSource primary, final List<ReadReplica> replicas, final Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+    }
+
+    List<ReadReplica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        final int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            final ReadReplica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.isUsable(maxLag)) {
+                continue;
+            }
+            try {
+                return replica.dataSource().getConnection();
+            } catch (final SQLException e) {
+                // kolejny odczyt lagu przywróci replikę, gdy znowu odpowie
+                log.warn("Read replica {} refused a connection, skipping it: {}", replica.name(), e.getMessage());
+                replica.markUnreachable();
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (final ReadReplica replica : replicas) {
+            replica.close();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.kozubek.productadapters.rest;
+
+class InvalidIfMatchException extends RuntimeException {
+
+    InvalidIfMatchException(final String ifMatch) {
+        super("Invalid If-Match header: " + ifMatch);
+    }
+
+    InvalidIfMatchException(final String ifMatch, final Throwable cause) {
+        super("Invalid If-Match header: " + ifMatch, cause);
+    }
+}
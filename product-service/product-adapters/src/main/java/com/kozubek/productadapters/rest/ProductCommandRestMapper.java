@@ -1,18 +1,24 @@
 package com.kozubek.productadapters.rest;
 
+import com.kozubek.ddd.annotation.mapping.Mapper;
+import com.kozubek.productadapters.rest.dto.AdjustProductStockRequest;
+import com.kozubek.productadapters.rest.dto.ChangeProductPriceRequest;
+import com.kozubek.productadapters.rest.dto.ChangeProductStatusRequest;
 import com.kozubek.productadapters.rest.dto.CreateProductRequest;
+import com.kozubek.productapplication.command.dto.AdjustProductStockCommand;
+import com.kozubek.productapplication.command.dto.ChangeProductPriceCommand;
+import com.kozubek.productapplication.command.dto.ChangeProductStatusCommand;
 import com.kozubek.productapplication.command.dto.CreateProductCommand;
-import org.springframework.stereotype.Component;
 
-@Component
-public class ProductCommandRestMapper {
-    public CreateProductCommand createProductRequestToCreateProductCommand(final CreateProductRequest createProductRequest) {
-        return CreateProductCommand.builder()
-                .userId(createProductRequest.userId())
-                .code(createProductRequest.code())
-                .name(createProductRequest.name())
-                .price(createProductRequest.price())
-                .quantity(createProductRequest.quantity())
-                .build();
-    }
+import java.util.UUID;
+
+@Mapper(component = true)
+public interface ProductCommandRestMapper {
+    CreateProductCommand createProductRequestToCreateProductCommand(CreateProductRequest createProductRequest);
+
+    ChangeProductPriceCommand changeProductPriceRequestToChangeProductPriceCommand(UUID productId, ChangeProductPriceRequest request, long expectedVersion);
+
+    AdjustProductStockCommand adjustProductStockRequestToAdjustProductStockCommand(UUID productId, AdjustProductStockRequest request);
+
+    ChangeProductStatusCommand changeProductStatusRequestToChangeProductStatusCommand(UUID productId, ChangeProductStatusRequest request, long expectedVersion);
 }
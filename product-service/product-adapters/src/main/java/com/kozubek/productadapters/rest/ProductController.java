@@ -1,19 +1,33 @@
 package com.kozubek.productadapters.rest;
 
 import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingAdapter;
+import com.kozubek.productadapters.rest.dto.AdjustProductStockRequest;
+import com.kozubek.productadapters.rest.dto.ChangeProductPriceRequest;
+import com.kozubek.productadapters.rest.dto.ChangeProductStatusRequest;
 import com.kozubek.productadapters.rest.dto.CreateProductRequest;
 import com.kozubek.productadapters.rest.dto.CreateProductResponse;
-import com.kozubek.productadapters.rest.dto.GetDetailsProductResponse;
+import com.kozubek.productadapters.rest.dto.GetProductsLookupRequest;
+import com.kozubek.productadapters.rest.dto.SearchProductsResponse;
 import com.kozubek.productapplication.ProductApplicationService;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productapplication.query.dto.SearchProductsQuery;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @DrivingAdapter
@@ -36,8 +50,62 @@ public class ProductController {
 		return ResponseEntity.ok(new CreateProductResponse(productApplicationService.createProduct(productCommandRestMapper.createProductRequestToCreateProductCommand(createProductRequest)).id()));
 	}
 
+	// projekcja trafia do odpowiedzi bez mapowania - kształt JSON zapisuje ProductProjectionJsonSerializer
 	@GetMapping("/{productId}")
-	public ResponseEntity<GetDetailsProductResponse> getDetailsProduct(@PathVariable("productId") final UUID productId) {
-		return ResponseEntity.ok(productQueryRestMapper.productToGetDetailsProductResponse(productApplicationService.getProduct(productId)));
+	public ResponseEntity<ProductProjection> getDetailsProduct(@PathVariable("productId") final UUID productId,
+															   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+		if (ifNoneMatch != null) {
+			final Optional<String> currentETag = productApplicationService.getProductVersion(productId).map(ProductETag::of);
+			if (currentETag.isPresent() && ProductETag.matches(ifNoneMatch, currentETag.get())) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag.get()).build();
+			}
+		}
+
+		final ProductProjection product = productApplicationService.getProduct(productId);
+		final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (product.version() != null) {
+			response.eTag(ProductETag.of(product.version()));
+		}
+		return response.body(product);
+	}
+
+	@GetMapping("/search")
+	public ResponseEntity<SearchProductsResponse> searchProducts(@RequestParam("q") final String phrase,
+																 @RequestParam(value = "page", defaultValue = "0") final int page,
+																 @RequestParam(value = "size", defaultValue = "20") final int size) {
+		return ResponseEntity.ok(productQueryRestMapper.productSearchPageToSearchProductsResponse(
+				productApplicationService.searchProducts(new SearchProductsQuery(phrase, page, size))));
+	}
+
+	@PostMapping("/lookup")
+	public ResponseEntity<List<ProductProjection>> lookupProducts(@Valid @RequestBody final GetProductsLookupRequest lookupRequest) {
+		return ResponseEntity.ok(productApplicationService.getProducts(lookupRequest.productIds()));
+	}
+
+	@PutMapping("/{productId}/price")
+	public ResponseEntity<Void> changePrice(@PathVariable("productId") final UUID productId,
+											@RequestHeader(HttpHeaders.IF_MATCH) final String ifMatch,
+											@RequestBody final ChangeProductPriceRequest request) {
+		final long version = productApplicationService.changePrice(
+				productCommandRestMapper.changeProductPriceRequestToChangeProductPriceCommand(productId, request, ProductETag.versionOf(ifMatch)));
+		return ResponseEntity.noContent().eTag(ProductETag.of(version)).build();
+	}
+
+	// zmiana stanu jest przemienna, więc nie wymaga If-Match - konflikt zgłasza tylko brak towaru
+	@PostMapping("/{productId}/stock")
+	public ResponseEntity<Void> adjustStock(@PathVariable("productId") final UUID productId,
+											@RequestBody final AdjustProductStockRequest request) {
+		final long version = productApplicationService.adjustStock(
+				productCommandRestMapper.adjustProductStockRequestToAdjustProductStockCommand(productId, request));
+		return ResponseEntity.noContent().eTag(ProductETag.of(version)).build();
+	}
+
+	@PutMapping("/{productId}/status")
+	public ResponseEntity<Void> changeStatus(@PathVariable("productId") final UUID productId,
+											 @RequestHeader(HttpHeaders.IF_MATCH) final String ifMatch,
+											 @RequestBody final ChangeProductStatusRequest request) {
+		final long version = productApplicationService.changeStatus(
+				productCommandRestMapper.changeProductStatusRequestToChangeProductStatusCommand(productId, request, ProductETag.versionOf(ifMatch)));
+		return ResponseEntity.noContent().eTag(ProductETag.of(version)).build();
 	}
 }
@@ -0,0 +1,41 @@
+package com.kozubek.productadapters.rest;
+
+final class ProductETag {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    private ProductETag() {
+    }
+
+    static String of(final long version) {
+        return "\"" + version + "\"";
+    }
+
+    static boolean matches(final String ifNoneMatch, final String eTag) {
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String trimmed = candidate.trim();
+            if (ANY.equals(trimmed) || eTag.equals(stripWeakPrefix(trimmed))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Match przy zapisie wskazuje dokładnie jedną wersję - "*" ani lista nie mają tu sensu
+    static long versionOf(final String ifMatch) {
+        final String eTag = stripWeakPrefix(ifMatch.trim());
+        if (eTag.length() < 3 || eTag.charAt(0) != '"' || eTag.charAt(eTag.length() - 1) != '"') {
+            throw new InvalidIfMatchException(ifMatch);
+        }
+        try {
+            return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+        } catch (final NumberFormatException e) {
+            throw new InvalidIfMatchException(ifMatch, e);
+        }
+    }
+
+    private static String stripWeakPrefix(final String candidate) {
+        return candidate.startsWith(WEAK_PREFIX) ? candidate.substring(WEAK_PREFIX.length()) : candidate;
+    }
+}
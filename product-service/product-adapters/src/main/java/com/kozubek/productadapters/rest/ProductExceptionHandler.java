@@ -0,0 +1,72 @@
+package com.kozubek.productadapters.rest;
+
+import com.kozubek.commonapplication.exceptions.ErrorResponse;
+import com.kozubek.productapplication.exception.InvalidSearchQueryException;
+import com.kozubek.productapplication.exception.ProductCodeAlreadyExistsException;
+import com.kozubek.productapplication.exception.ProductConcurrentModificationException;
+import com.kozubek.productapplication.exception.ProductNotFoundException;
+import com.kozubek.productdomain.exception.InsufficientStockException;
+import com.kozubek.productdomain.exception.ProductDomainException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.stream.Collectors;
+
+@RestControllerAdvice
+public class ProductExceptionHandler {
+    private static final String PRODUCT_CODE_CONSTRAINT = "product_codes_pk";
+
+    @ResponseBody
+    @ExceptionHandler(value = {ProductNotFoundException.class})
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse handleProductNotFoundException(final ProductNotFoundException ex) {
+        return new ErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), ex.getMessage());
+    }
+
+    // nieaktualne If-Match lub równoległy zapis - klient powinien pobrać produkt ponownie i powtórzyć zmianę
+    @ResponseBody
+    @ExceptionHandler(value = {ProductConcurrentModificationException.class})
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ErrorResponse handleProductConcurrentModificationException(final ProductConcurrentModificationException ex) {
+        return new ErrorResponse(HttpStatus.PRECONDITION_FAILED.getReasonPhrase(), ex.getMessage());
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = {InsufficientStockException.class, ProductCodeAlreadyExistsException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleConflict(final RuntimeException ex) {
+        return new ErrorResponse(HttpStatus.CONFLICT.getReasonPhrase(), ex.getMessage());
+    }
+
+    // filtr kodów nie zna kodów z innych instancji - wtedy duplikat zatrzymuje dopiero klucz product_codes przy commicie
+    @ResponseBody
+    @ExceptionHandler(value = {DataIntegrityViolationException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleDataIntegrityViolationException(final DataIntegrityViolationException ex) {
+        final boolean duplicateCode = ex.getMostSpecificCause().getMessage() != null
+                && ex.getMostSpecificCause().getMessage().contains(PRODUCT_CODE_CONSTRAINT);
+        return new ErrorResponse(HttpStatus.CONFLICT.getReasonPhrase(), duplicateCode ? "Product code already exists" : "Product data conflicts with existing data");
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = {ProductDomainException.class, InvalidIfMatchException.class, InvalidSearchQueryException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleProductDomainException(final RuntimeException ex) {
+        return new ErrorResponse(HttpStatus.BAD_REQUEST.getReasonPhrase(), ex.getMessage());
+    }
+
+    @ResponseBody
+    @ExceptionHandler(value = {MethodArgumentNotValidException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleMethodArgumentNotValidException(final MethodArgumentNotValidException ex) {
+        final String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+        return new ErrorResponse(HttpStatus.BAD_REQUEST.getReasonPhrase(), message);
+    }
+}
@@ -0,0 +1,89 @@
+package com.kozubek.productadapters.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes {@link ProductProjection} straight to the generator in the shape of the product details response
+ * ({@code productId, userId, status, code, name, price, quantity}); the version goes out as the ETag instead.
+ * Field names are pre-encoded once and no intermediate response object or UUID string is created.
+ */
+@JsonComponent
+public class ProductProjectionJsonSerializer extends StdSerializer<ProductProjection> {
+
+    private static final SerializableString PRODUCT_ID = new SerializedString("productId");
+    private static final SerializableString USER_ID = new SerializedString("userId");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CODE = new SerializedString("code");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString PRICE = new SerializedString("price");
+    private static final SerializableString QUANTITY = new SerializedString("quantity");
+
+    private static final int UUID_LENGTH = 36;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public ProductProjectionJsonSerializer() {
+        super(ProductProjection.class);
+    }
+
+    @Override
+    public void serialize(final ProductProjection product, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+        final char[] uuid = new char[UUID_LENGTH];
+        generator.writeStartObject(product);
+        generator.writeFieldName(PRODUCT_ID);
+        writeUuid(generator, product.productId(), uuid);
+        generator.writeFieldName(USER_ID);
+        writeUuid(generator, product.userId(), uuid);
+        generator.writeFieldName(STATUS);
+        generator.writeString(product.status() != null ? product.status().name() : null);
+        generator.writeFieldName(CODE);
+        generator.writeString(product.code());
+        generator.writeFieldName(NAME);
+        generator.writeString(product.name());
+        generator.writeFieldName(PRICE);
+        generator.writeNumber(product.price());
+        generator.writeFieldName(QUANTITY);
+        if (product.quantity() != null) {
+            generator.writeNumber(product.quantity());
+        } else {
+            generator.writeNull();
+        }
+        generator.writeEndObject();
+    }
+
+    // ten sam zapis co UUID.toString(), ale do wspólnego bufora zamiast nowego Stringa
+    private static void writeUuid(final JsonGenerator generator, final UUID value, final char[] buffer) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        final long msb = value.getMostSignificantBits();
+        final long lsb = value.getLeastSignificantBits();
+        hex(msb >>> 32, buffer, 0, 8);
+        buffer[8] = '-';
+        hex(msb >>> 16, buffer, 9, 4);
+        buffer[13] = '-';
+        hex(msb, buffer, 14, 4);
+        buffer[18] = '-';
+        hex(lsb >>> 48, buffer, 19, 4);
+        buffer[23] = '-';
+        hex(lsb, buffer, 24, 12);
+        generator.writeString(buffer, 0, UUID_LENGTH);
+    }
+
+    private static void hex(final long value, final char[] buffer, final int offset, final int digits) {
+        long remaining = value;
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (remaining & 0xF)];
+            remaining >>>= 4;
+        }
+    }
+}
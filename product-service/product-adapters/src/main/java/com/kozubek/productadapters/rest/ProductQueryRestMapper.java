@@ -1,20 +1,18 @@
 package com.kozubek.productadapters.rest;
 
+import com.kozubek.ddd.annotation.mapping.Mapper;
 import com.kozubek.productadapters.rest.dto.GetDetailsProductResponse;
+import com.kozubek.productadapters.rest.dto.SearchProductsResponse;
 import com.kozubek.productapplication.query.dto.ProductProjection;
-import org.springframework.stereotype.Component;
+import com.kozubek.productapplication.query.dto.ProductSearchPage;
 
-@Component
-public class ProductQueryRestMapper {
-    public GetDetailsProductResponse productToGetDetailsProductResponse(final ProductProjection product) {
-        return GetDetailsProductResponse.builder()
-                .productId(product.productId())
-                .userId(product.userId())
-                .code(product.code())
-                .name(product.name())
-                .price(product.price())
-                .quantity(product.quantity())
-                .status(product.status())
-                .build();
-    }
+import java.util.List;
+
+@Mapper(component = true)
+public interface ProductQueryRestMapper {
+    GetDetailsProductResponse productToGetDetailsProductResponse(ProductProjection product);
+
+    List<GetDetailsProductResponse> productsToGetDetailsProductResponses(List<ProductProjection> products);
+
+    SearchProductsResponse productSearchPageToSearchProductsResponse(ProductSearchPage page);
 }
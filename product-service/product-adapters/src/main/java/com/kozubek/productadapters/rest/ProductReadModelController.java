@@ -0,0 +1,25 @@
+package com.kozubek.productadapters.rest;
+
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingAdapter;
+import com.kozubek.productapplication.ProductApplicationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@DrivingAdapter
+@RestController
+@RequestMapping("/api/product/read-model")
+@RequiredArgsConstructor
+public class ProductReadModelController {
+
+	private final ProductApplicationService productApplicationService;
+
+	@PostMapping("/rebuild")
+	public ResponseEntity<Map<String, Long>> rebuild() {
+		return ResponseEntity.ok(Map.of("replayedEvents", productApplicationService.rebuildReadModel()));
+	}
+}
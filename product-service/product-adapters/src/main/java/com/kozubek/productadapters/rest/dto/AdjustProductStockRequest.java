@@ -0,0 +1,4 @@
+package com.kozubek.productadapters.rest.dto;
+
+public record AdjustProductStockRequest(int delta) {
+}
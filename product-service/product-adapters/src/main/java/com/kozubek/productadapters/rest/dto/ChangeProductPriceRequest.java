@@ -0,0 +1,6 @@
+package com.kozubek.productadapters.rest.dto;
+
+import java.math.BigDecimal;
+
+public record ChangeProductPriceRequest(BigDecimal price) {
+}
@@ -0,0 +1,6 @@
+package com.kozubek.productadapters.rest.dto;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+
+public record ChangeProductStatusRequest(ProductStatus status) {
+}
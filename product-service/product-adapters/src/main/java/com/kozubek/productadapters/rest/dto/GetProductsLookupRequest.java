@@ -0,0 +1,16 @@
+package com.kozubek.productadapters.rest.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record GetProductsLookupRequest(
+        @NotNull
+        @Size(max = GetProductsLookupRequest.MAX_PRODUCT_IDS)
+        List<@NotNull UUID> productIds
+) {
+    // jedno zapytanie IN - górna granica chroni bazę przed dowolnie długą listą parametrów
+    public static final int MAX_PRODUCT_IDS = 100;
+}
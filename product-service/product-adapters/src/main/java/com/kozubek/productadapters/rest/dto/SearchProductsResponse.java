@@ -0,0 +1,6 @@
+package com.kozubek.productadapters.rest.dto;
+
+import java.util.List;
+
+public record SearchProductsResponse(List<GetDetailsProductResponse> products, int page, int size, boolean hasNext) {
+}
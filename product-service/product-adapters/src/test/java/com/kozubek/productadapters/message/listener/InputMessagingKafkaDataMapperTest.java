@@ -0,0 +1,75 @@
+package com.kozubek.productadapters.message.listener;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.kafka.model.ProductMessageDto;
+import com.kozubek.kafka.model.events.ProductCreatedEventDtoKafka;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InputMessagingKafkaDataMapper Unit Tests")
+class InputMessagingKafkaDataMapperTest {
+
+    private InputMessagingKafkaDataMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new InputMessagingKafkaDataMapper();
+    }
+
+    @Test
+    @DisplayName("Should map ProductCreatedEventDtoKafka to read model projection")
+    void shouldMapKafkaDtoToProductProjection() {
+        // given
+        final UUID productId = UUID.randomUUID();
+        final UUID userId = UUID.randomUUID();
+        final ProductCreatedEventDtoKafka message = message(productId, userId, 3L);
+
+        // when
+        final ProductProjection projection = mapper.productEventDtoKafkaToProductProjection(message);
+
+        // then
+        assertThat(projection.productId()).isEqualTo(productId);
+        assertThat(projection.userId()).isEqualTo(userId);
+        assertThat(projection.code()).isEqualTo("PROD-001");
+        assertThat(projection.name()).isEqualTo("Test Product");
+        assertThat(projection.price()).isEqualByComparingTo(BigDecimal.valueOf(99.99));
+        assertThat(projection.quantity()).isEqualTo(50);
+        assertThat(projection.status()).isEqualTo(ProductStatus.AVAILABLE);
+        assertThat(projection.version()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should treat events published before versioning as version zero")
+    void shouldTreatMissingVersionAsZero() {
+        // given
+        final ProductCreatedEventDtoKafka message = message(UUID.randomUUID(), UUID.randomUUID(), null);
+
+        // when
+        final ProductProjection projection = mapper.productEventDtoKafkaToProductProjection(message);
+
+        // then
+        assertThat(projection.version()).isZero();
+    }
+
+    private static ProductCreatedEventDtoKafka message(final UUID productId, final UUID userId, final Long version) {
+        final ProductMessageDto product = ProductMessageDto.builder()
+                .productId(productId.toString())
+                .userId(userId.toString())
+                .code("PROD-001")
+                .name("Test Product")
+                .price(BigDecimal.valueOf(99.99))
+                .quantity(50)
+                .status(ProductStatus.AVAILABLE.toString())
+                .version(version)
+                .build();
+        return new ProductCreatedEventDtoKafka(product, product.productId(), Instant.now(), UUID.randomUUID().toString());
+    }
+}
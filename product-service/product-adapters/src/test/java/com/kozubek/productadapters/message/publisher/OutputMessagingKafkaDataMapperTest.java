@@ -366,4 +366,27 @@ class OutputMessagingKafkaDataMapperTest {
         // then
         assertThat(kafkaDto.getData().price()).isEqualByComparingTo(largePrice);
     }
+
+    @Test
+    @DisplayName("Should publish the version the created product was stored at")
+    void shouldPublishStoredVersionOfCreatedProduct() {
+        // given
+        final Product product = Product.builder()
+                .id(new ProductId(UUID.randomUUID()))
+                .userId(new UserId(UUID.randomUUID()))
+                .code("CODE")
+                .name("Name")
+                .price(new Money(BigDecimal.TEN))
+                .quantity(10)
+                .status(ProductStatus.AVAILABLE)
+                .version(1L)
+                .build();
+        final ProductCreatedEvent event = new ProductCreatedEvent(product, Instant.now());
+
+        // when
+        final ProductCreatedEventDtoKafka kafkaDto = mapper.productCreatedEventToProductCreatedEventDtoKafka(event);
+
+        // then
+        assertThat(kafkaDto.getData().version()).isEqualTo(1L);
+    }
 }
@@ -18,6 +18,8 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -48,21 +50,16 @@ class ProductCreatedKafkaEventPublisherTest {
     @Captor
     private ArgumentCaptor<String> topicCaptor;
 
-    @Captor
-    private ArgumentCaptor<String> keyCaptor;
-
     @Captor
     private ArgumentCaptor<ProductCreatedEventDtoKafka> eventCaptor;
 
     private ProductCreatedEvent domainEvent;
     private ProductCreatedEventDtoKafka kafkaEvent;
     private String topicName;
-	private String sagaId;
 
     @BeforeEach
     void setUp() {
 		final UUID productId = UUID.randomUUID();
-        sagaId = UUID.randomUUID().toString();
         topicName = "product.product.created";
 
         final Product product = Product.builder()
@@ -77,7 +74,6 @@ class ProductCreatedKafkaEventPublisherTest {
 
         domainEvent = new ProductCreatedEvent(product, Instant.now());
         kafkaEvent = mock(ProductCreatedEventDtoKafka.class);
-        when(kafkaEvent.getSagaId()).thenReturn(sagaId);
     }
 
     @Test
@@ -91,7 +87,7 @@ class ProductCreatedKafkaEventPublisherTest {
         publisher.publish(domainEvent);
 
         // then
-        verify(kafkaPublisher).send(topicName, sagaId, kafkaEvent);
+        verify(kafkaPublisher).send(topicName, kafkaEvent);
     }
 
     @Test
@@ -123,8 +119,8 @@ class ProductCreatedKafkaEventPublisherTest {
     }
 
     @Test
-    @DisplayName("Should use saga ID as Kafka message key")
-    void shouldUseSagaIdAsKafkaMessageKey() {
+    @DisplayName("Should leave message key to publisher key strategy instead of saga ID")
+    void shouldLeaveMessageKeyToPublisherKeyStrategy() {
         // given
         when(properties.getProductCreatedTopicName()).thenReturn(topicName);
         when(mapper.productCreatedEventToProductCreatedEventDtoKafka(domainEvent)).thenReturn(kafkaEvent);
@@ -133,8 +129,9 @@ class ProductCreatedKafkaEventPublisherTest {
         publisher.publish(domainEvent);
 
         // then
-        verify(kafkaPublisher).send(anyString(), keyCaptor.capture(), any(ProductCreatedEventDtoKafka.class));
-        assertThat(keyCaptor.getValue()).isEqualTo(sagaId);
+        verify(kafkaPublisher).send(topicName, kafkaEvent);
+        verify(kafkaPublisher, never()).send(anyString(), anyString(), any(ProductCreatedEventDtoKafka.class));
+        verify(kafkaEvent, never()).getSagaId();
     }
 
     @Test
@@ -149,7 +146,7 @@ class ProductCreatedKafkaEventPublisherTest {
         publisher.publish(domainEvent);
 
         // then
-        verify(kafkaPublisher).send(topicCaptor.capture(), anyString(), any(ProductCreatedEventDtoKafka.class));
+        verify(kafkaPublisher).send(topicCaptor.capture(), any(ProductCreatedEventDtoKafka.class));
         assertThat(topicCaptor.getValue()).isEqualTo(customTopic);
     }
 
@@ -164,7 +161,7 @@ class ProductCreatedKafkaEventPublisherTest {
         publisher.publish(domainEvent);
 
         // then
-        verify(kafkaPublisher).send(anyString(), anyString(), eventCaptor.capture());
+        verify(kafkaPublisher).send(anyString(), eventCaptor.capture());
         assertThat(eventCaptor.getValue()).isEqualTo(kafkaEvent);
     }
 
@@ -175,7 +172,7 @@ class ProductCreatedKafkaEventPublisherTest {
         when(properties.getProductCreatedTopicName()).thenReturn(topicName);
         when(mapper.productCreatedEventToProductCreatedEventDtoKafka(domainEvent)).thenReturn(kafkaEvent);
         doThrow(new RuntimeException("Kafka connection error"))
-                .when(kafkaPublisher).send(anyString(), anyString(), any(ProductCreatedEventDtoKafka.class));
+                .when(kafkaPublisher).send(anyString(), any(ProductCreatedEventDtoKafka.class));
 
         // when & then
         assertThatNoException().isThrownBy(() -> publisher.publish(domainEvent));
@@ -188,13 +185,13 @@ class ProductCreatedKafkaEventPublisherTest {
         when(properties.getProductCreatedTopicName()).thenReturn(topicName);
         when(mapper.productCreatedEventToProductCreatedEventDtoKafka(domainEvent)).thenReturn(kafkaEvent);
         doThrow(new RuntimeException("Network timeout"))
-                .when(kafkaPublisher).send(anyString(), anyString(), any(ProductCreatedEventDtoKafka.class));
+                .when(kafkaPublisher).send(anyString(), any(ProductCreatedEventDtoKafka.class));
 
         // when
         publisher.publish(domainEvent);
 
         // then
-        verify(kafkaPublisher).send(anyString(), anyString(), any(ProductCreatedEventDtoKafka.class));
+        verify(kafkaPublisher).send(anyString(), any(ProductCreatedEventDtoKafka.class));
         // Note: W realnym projekcie można użyć biblioteki do przechwytywania logów (np. Logback Test Appender)
         // aby zweryfikować czy błąd został zalogowany
     }
@@ -222,7 +219,46 @@ class ProductCreatedKafkaEventPublisherTest {
         publisher.publish(domainEvent2);
 
         // then
-        verify(kafkaPublisher, times(2)).send(topicName, sagaId, kafkaEvent);
+        verify(kafkaPublisher, times(2)).send(topicName, kafkaEvent);
         verify(mapper, times(2)).productCreatedEventToProductCreatedEventDtoKafka(any(ProductCreatedEvent.class));
     }
+
+    @Test
+    @DisplayName("Should send only after the surrounding transaction commits")
+    void shouldSendOnlyAfterCommit() {
+        // given
+        when(properties.getProductCreatedTopicName()).thenReturn(topicName);
+        when(mapper.productCreatedEventToProductCreatedEventDtoKafka(domainEvent)).thenReturn(kafkaEvent);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            publisher.publish(domainEvent);
+            verifyNoInteractions(kafkaPublisher);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(kafkaPublisher).send(topicName, kafkaEvent);
+    }
+
+    @Test
+    @DisplayName("Should not send when the surrounding transaction rolls back")
+    void shouldNotSendWhenTransactionRollsBack() {
+        // given - np. naruszenie unikalności kodu przy commicie
+        when(mapper.productCreatedEventToProductCreatedEventDtoKafka(domainEvent)).thenReturn(kafkaEvent);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            publisher.publish(domainEvent);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verifyNoInteractions(kafkaPublisher);
+    }
 }
@@ -0,0 +1,35 @@
+package com.kozubek.productadapters.metrics;
+
+import com.kozubek.productapplication.ProductApplicationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ProductMetricsConfig Unit Tests")
+class ProductMetricsConfigTest {
+
+    @Test
+    @DisplayName("Should expose executed and collapsed product lookups as counters")
+    void shouldBindProductLookupCounters() {
+        // given
+        final ProductApplicationService productApplicationService = mock(ProductApplicationService.class);
+        when(productApplicationService.productLookupsExecuted()).thenReturn(3L);
+        when(productApplicationService.productLookupsCollapsed()).thenReturn(5L);
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        new ProductMetricsConfig().productLookupsMetrics(productApplicationService).bindTo(registry);
+
+        // then
+        assertThat(lookups(registry, "executed")).isEqualTo(3);
+        assertThat(lookups(registry, "collapsed")).isEqualTo(5);
+    }
+
+    private static double lookups(final SimpleMeterRegistry registry, final String outcome) {
+        return registry.get(ProductMetricsConfig.PRODUCT_LOOKUPS_METRIC).tag("outcome", outcome).functionCounter().count();
+    }
+}
@@ -0,0 +1,31 @@
+package com.kozubek.productadapters.repository;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Points a {@code @DataJpaTest} at a Testcontainers database migrated with the application's Liquibase changelog.
+ */
+final class ProductSchemaMigrations {
+
+    private static final String CHANGE_LOG = "classpath:db/db.changelog.diff.xml";
+    private static final String SCHEMA = "product";
+
+    private ProductSchemaMigrations() {
+    }
+
+    static void register(final DynamicPropertyRegistry registry, final PostgreSQLContainer<?> postgres) {
+        // Liquibase na osobnym połączeniu: schemat product tworzy dopiero migracja, a jej SET search_path nie trafia do puli
+        registry.add("spring.liquibase.change-log", () -> CHANGE_LOG);
+        registry.add("spring.liquibase.url", postgres::getJdbcUrl);
+        registry.add("spring.liquibase.user", postgres::getUsername);
+        registry.add("spring.liquibase.password", postgres::getPassword);
+        registry.add("spring.datasource.url", () -> withCurrentSchema(postgres.getJdbcUrl()));
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    private static String withCurrentSchema(final String jdbcUrl) {
+        return jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA;
+    }
+}
@@ -0,0 +1,122 @@
+package com.kozubek.productadapters.repository;
+
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlProductQueryRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Product search latency on a large catalogue")
+class ProductSearchBenchmarkTest {
+
+    // -Pbenchmark.search.rows=... zmienia rozmiar katalogu, -Pbenchmark.search.max-p95-millis=... budżet p95 jednego wyszukiwania
+    private static final int ROWS = Integer.getInteger("benchmark.search.rows", 1_000_000);
+    private static final long MAX_P95_MILLIS = Long.getLong("benchmark.search.max-p95-millis", 200);
+    private static final int PAGE = 20;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static boolean seeded;
+
+    @DynamicPropertySource
+    static void datasource(final DynamicPropertyRegistry registry) {
+        ProductSchemaMigrations.register(registry, POSTGRES);
+    }
+
+    @Autowired
+    private SqlProductQueryRepository sqlProductQueryRepository;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // osobne połączenie poza transakcją testu - katalog ma zostać między testami; tabela i indeksy z migracji Liquibase
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.update("""
+                INSERT INTO "product".product_read_model (id, user_id, code, name, price, quantity, status)
+                SELECT gen_random_uuid(), gen_random_uuid(), 'WH-' || lpad(i::text, 7, '0'),
+                       (ARRAY['Steel', 'Copper', 'Oak', 'Glass', 'Rubber'])[1 + i % 5] || ' '
+                           || (ARRAY['bolt', 'hinge', 'shelf', 'bracket', 'panel', 'washer'])[1 + i % 6] || ' ' || substr(md5(i::text), 1, 8),
+                       1 + i % 500, i % 40, 'AVAILABLE'
+                FROM generate_series(1, ?) AS i""", ROWS);
+        jdbcTemplate.execute("ANALYZE \"product\".product_read_model");
+        seeded = true;
+    }
+
+    @Test
+    @DisplayName("Should rank the exact code first when searching by a code fragment")
+    void shouldRankExactCodeFirst() {
+        // when
+        final List<ProductProjection> found = sqlProductQueryRepository.searchProducts("wh-0004242", 0, PAGE);
+
+        // then
+        assertThat(found).isNotEmpty();
+        assertThat(found.getFirst().code()).isEqualTo("WH-0004242");
+        assertWithinBudget("code fragment", () -> sqlProductQueryRepository.searchProducts("wh-0004242", 0, PAGE));
+    }
+
+    @Test
+    @DisplayName("Should page through name matches without repeating rows")
+    void shouldPageThroughNameMatches() {
+        // when
+        final List<ProductProjection> first = sqlProductQueryRepository.searchProducts("hinge 3a", 0, PAGE);
+        final List<ProductProjection> second = sqlProductQueryRepository.searchProducts("hinge 3a", PAGE, PAGE);
+
+        // then
+        assertThat(first).allSatisfy(product -> assertThat(product.name().toLowerCase()).contains("hinge 3a"));
+        assertThat(second).extracting(ProductProjection::productId)
+                .doesNotContainAnyElementsOf(first.stream().map(ProductProjection::productId).toList());
+        assertWithinBudget("name substring", () -> sqlProductQueryRepository.searchProducts("hinge 3a", 0, PAGE));
+        assertWithinBudget("short prefix", () -> sqlProductQueryRepository.searchProductsByPrefix("oa", 0, PAGE));
+    }
+
+    @Test
+    @DisplayName("Should match LIKE wildcards in the phrase literally")
+    void shouldMatchWildcardsLiterally() {
+        // when
+        final List<ProductProjection> found = sqlProductQueryRepository.searchProducts("%_%", 0, PAGE);
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    private static void assertWithinBudget(final String label, final Runnable search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.run();
+        }
+        final long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final long start = System.nanoTime();
+            search.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        final double p95Millis = nanos[ITERATIONS * 95 / 100] / 1e6;
+        assertThat(p95Millis).as("p95 of %s search over %d rows, ms", label, ROWS).isLessThan(MAX_P95_MILLIS);
+    }
+}
@@ -0,0 +1,208 @@
+package com.kozubek.productadapters.repository;
+
+import com.kozubek.commondomain.vo.Money;
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.commondomain.vo.UserId;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.exception.InsufficientStockException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlProductRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("SqlProductRepository conditional stock update")
+class SqlProductRepositoryAdjustStockTest {
+
+    private static final int STOCK = 20;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void datasource(final DynamicPropertyRegistry registry) {
+        ProductSchemaMigrations.register(registry, POSTGRES);
+    }
+
+    @Autowired
+    private SqlProductRepository sqlProductRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should apply the delta, derive the status and bump the version in one statement")
+    void shouldApplyDeltaAndBumpVersion() {
+        // given
+        final ProductId productId = stored();
+
+        // when
+        final Optional<Product> adjusted = sqlProductRepository.adjustStock(productId, -5);
+
+        // then
+        assertThat(adjusted).hasValueSatisfying(product -> {
+            assertThat(product.getQuantity()).isEqualTo(STOCK - 5);
+            assertThat(product.getStatus()).isEqualTo(ProductStatus.AVAILABLE);
+            assertThat(product.getVersion()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should use the same status thresholds as the domain model")
+    void shouldUseDomainStatusThresholds() {
+        // given
+        final ProductId productId = stored();
+
+        // when
+        final Product lastPieces = sqlProductRepository.adjustStock(productId, -(STOCK - Product.LAST_PIECES_THRESHOLD + 1)).orElseThrow();
+        entityManager.clear();
+        final Product soldOut = sqlProductRepository.adjustStock(productId, -(Product.LAST_PIECES_THRESHOLD - 1)).orElseThrow();
+
+        // then
+        assertThat(lastPieces.getStatus()).isEqualTo(Product.statusForQuantity(lastPieces.getQuantity())).isEqualTo(ProductStatus.LAST_PIECES);
+        assertThat(soldOut.getQuantity()).isZero();
+        assertThat(soldOut.getStatus()).isEqualTo(ProductStatus.NOT_AVAILABLE);
+        assertThat(soldOut.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should keep a product withdrawn from sale when its stock changes")
+    void shouldKeepWithdrawnProductAfterStockChange() {
+        // given
+        final ProductId productId = stored();
+        final Product withdrawn = sqlProductRepository.findById(productId).orElseThrow();
+        withdrawn.changeStatus(ProductStatus.NOT_AVAILABLE);
+        sqlProductRepository.save(withdrawn);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        final Product restocked = sqlProductRepository.adjustStock(productId, 5).orElseThrow();
+        entityManager.clear();
+        final Product reserved = sqlProductRepository.adjustStock(productId, -(STOCK + 5 - 1)).orElseThrow();
+
+        // then
+        assertThat(restocked.getQuantity()).isEqualTo(STOCK + 5);
+        assertThat(restocked.getStatus()).isEqualTo(ProductStatus.NOT_AVAILABLE);
+        assertThat(reserved.getQuantity()).isEqualTo(1);
+        assertThat(reserved.getStatus()).isEqualTo(ProductStatus.NOT_AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("Should reject a delta that would take the stock below zero and leave the row untouched")
+    void shouldRejectDeltaBelowZero() {
+        // given
+        final ProductId productId = stored();
+
+        // when / then
+        assertThatThrownBy(() -> sqlProductRepository.adjustStock(productId, -(STOCK + 1)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining(productId.id().toString());
+        entityManager.clear();
+        assertThat(sqlProductRepository.findById(productId)).hasValueSatisfying(product -> {
+            assertThat(product.getQuantity()).isEqualTo(STOCK);
+            assertThat(product.getVersion()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Should return empty for an unknown product")
+    void shouldReturnEmptyForUnknownProduct() {
+        // when
+        final Optional<Product> adjusted = sqlProductRepository.adjustStock(new ProductId(UUID.randomUUID()), -1);
+
+        // then
+        assertThat(adjusted).isEmpty();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should never oversell when more reservations arrive concurrently than there is stock")
+    void shouldNeverOversellUnderConcurrentReservations() throws Exception {
+        // given - każda rezerwacja w osobnej, zatwierdzanej transakcji
+        final TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        final ProductId productId = transaction.execute(status -> stored());
+        final int reservations = STOCK + 10;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < reservations; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        transaction.executeWithoutResult(status -> sqlProductRepository.adjustStock(productId, -1));
+                        return true;
+                    } catch (final InsufficientStockException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        // then
+        int reserved = 0;
+        for (final Future<Boolean> result : results) {
+            reserved += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        final Product product = transaction.execute(status -> sqlProductRepository.findById(productId).orElseThrow());
+        assertThat(reserved).isEqualTo(STOCK);
+        assertThat(product.getQuantity()).isZero();
+        assertThat(product.getStatus()).isEqualTo(ProductStatus.NOT_AVAILABLE);
+        assertThat(product.getVersion()).isEqualTo((long) STOCK);
+        transaction.executeWithoutResult(status -> entityManager.createNativeQuery("DELETE FROM products WHERE id = :id")
+                .setParameter("id", productId.id())
+                .executeUpdate());
+    }
+
+    private ProductId stored() {
+        final Product product = Product.builder()
+                .userId(new UserId(UUID.randomUUID()))
+                .code("ST-" + UUID.randomUUID())
+                .name("Stock product")
+                .price(new Money(BigDecimal.TEN))
+                .quantity(STOCK)
+                .build();
+        product.initialize();
+        sqlProductRepository.save(product);
+        entityManager.flush();
+        // RETURNING * nie nadpisuje encji już obecnej w kontekście utrwalania
+        entityManager.clear();
+        return product.getId();
+    }
+}
@@ -0,0 +1,158 @@
+package com.kozubek.productadapters.repository;
+
+import com.kozubek.commondomain.vo.Money;
+import com.kozubek.commondomain.vo.UserId;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productentities.ProductEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlProductRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("SqlProductRepository JDBC round trips")
+class SqlProductRepositoryRoundTripTest {
+
+    private static final int BATCH = 50;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void datasource(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private SqlProductRepository sqlProductRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should insert new product without a SELECT before the INSERT")
+    void shouldInsertNewProductWithoutSelectBeforeInsert() {
+        // when
+        sqlProductRepository.save(newProduct());
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should group many inserts into a single JDBC batch")
+    void shouldGroupManyInsertsIntoSingleJdbcBatch() {
+        // when
+        for (int i = 0; i < BATCH; i++) {
+            sqlProductRepository.save(newProduct());
+        }
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(BATCH);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should need one statement per create where merging an assigned id needed two")
+    void shouldNeedHalfTheStatementsOfMerge() {
+        // given - ścieżka sprzed zmiany: merge encji z przypisanym UUID i bez @Version
+        entityManager.merge(new MergedEntity(UUID.randomUUID(), "merged"));
+        entityManager.flush();
+        final long mergeStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        // when
+        sqlProductRepository.save(newProduct());
+        entityManager.flush();
+        final long persistStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(mergeStatements).isEqualTo(2);
+        assertThat(persistStatements).isEqualTo(1);
+    }
+
+    private static Product newProduct() {
+        final Product product = Product.builder()
+                .userId(new UserId(UUID.randomUUID()))
+                .code("RT-" + UUID.randomUUID())
+                .name("Round trip product")
+                .price(new Money(BigDecimal.TEN))
+                .quantity(20)
+                .build();
+        product.initialize();
+        return product;
+    }
+
+    @Entity
+    @Table(name = "round_trip_merged")
+    static class MergedEntity {
+
+        @Id
+        private UUID id;
+
+        private String name;
+
+        protected MergedEntity() {
+        }
+
+        MergedEntity(final UUID id, final String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @SpringBootApplication
+    @EnableJpaRepositories(basePackageClasses = SqlProductRepository.class)
+    @EntityScan(basePackageClasses = {ProductEntity.class, MergedEntity.class})
+    static class RoundTripTestApplication {
+    }
+}
@@ -0,0 +1,118 @@
+package com.kozubek.productadapters.repository.eventsourcing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.productapplication.config.ProductServiceConfigProperties;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.event.ProductChange;
+import com.kozubek.productdomain.event.ProductPriceChanged;
+import com.kozubek.productdomain.event.ProductRegistered;
+import com.kozubek.productdomain.event.ProductStockChanged;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Event sourced Product rehydration cost")
+class EventSourcedProductRehydrationBenchmarkTest {
+
+    private static final int SNAPSHOT_EVERY = 50;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static ProductEventStore eventStore;
+
+    @BeforeAll
+    static void setUp() {
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.execute("""
+                CREATE TABLE product_events (product_id UUID NOT NULL, version BIGINT NOT NULL, event_type VARCHAR(64) NOT NULL,
+                    payload JSONB NOT NULL, occurred_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(), PRIMARY KEY (product_id, version))""");
+        jdbcTemplate.execute("""
+                CREATE TABLE product_snapshots (product_id UUID PRIMARY KEY, version BIGINT NOT NULL, payload JSONB NOT NULL,
+                    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now())""");
+        eventStore = new ProductEventStore(jdbcTemplate, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @ParameterizedTest(name = "{0} events")
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("Should rehydrate from snapshot plus a bounded tail")
+    void shouldRehydrateFromSnapshotPlusBoundedTail(final int events) {
+        // given
+        final UUID fullReplay = store(stream(UUID.randomUUID(), events), false);
+        final List<ProductChange> stream = stream(UUID.randomUUID(), events);
+        final UUID withSnapshot = store(stream, true);
+        final Product expected = Product.rehydrate(null, stream);
+
+        // when
+        final double fullReplayMicros = averageLoadMicros(repository(0), fullReplay);
+        final double snapshotMicros = averageLoadMicros(repository(SNAPSHOT_EVERY), withSnapshot);
+
+        // then
+        final ProductEventStream snapshotStream = eventStore.load(withSnapshot);
+        assertThat(snapshotStream.tail()).hasSizeLessThan(SNAPSHOT_EVERY);
+        assertThat(snapshotStream.version()).isEqualTo(events);
+        assertThat(repository(SNAPSHOT_EVERY).findById(withSnapshot)).hasValueSatisfying(product ->
+                assertThat(product.toSnapshot()).isEqualTo(expected.toSnapshot()));
+        // przy krótkich strumieniach dominuje round trip do bazy, różnica jest mierzalna dopiero przy długim ogonie
+        if (events >= SNAPSHOT_EVERY * 10) {
+            assertThat(snapshotMicros).isLessThan(fullReplayMicros);
+        }
+    }
+
+    private static double averageLoadMicros(final EventSourcedProductRepository repository, final UUID productId) {
+        for (int i = 0; i < WARMUP; i++) {
+            repository.findById(productId);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            repository.findById(productId);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private static UUID store(final List<ProductChange> stream, final boolean snapshots) {
+        final UUID productId = ((ProductRegistered) stream.getFirst()).productId();
+        eventStore.append(productId, 0, stream);
+        if (snapshots) {
+            final int version = stream.size() / SNAPSHOT_EVERY * SNAPSHOT_EVERY;
+            if (version > 0) {
+                eventStore.saveSnapshot(productId, version, Product.rehydrate(null, stream.subList(0, version)).toSnapshot());
+            }
+        }
+        return productId;
+    }
+
+    private static List<ProductChange> stream(final UUID productId, final int events) {
+        final List<ProductChange> stream = new ArrayList<>(events);
+        stream.add(new ProductRegistered(productId, UUID.randomUUID(), "ES-BENCH", "Rehydration benchmark", BigDecimal.TEN, 500, ProductStatus.AVAILABLE));
+        for (int i = 1; i < events; i++) {
+            stream.add(i % 2 == 0 ? new ProductPriceChanged(BigDecimal.valueOf(10 + i % 7)) : new ProductStockChanged(500 - i % 300));
+        }
+        return stream;
+    }
+
+    private static EventSourcedProductRepository repository(final int snapshotEvery) {
+        final ProductServiceConfigProperties properties = new ProductServiceConfigProperties();
+        properties.getEventSourcing().setSnapshotEvery(snapshotEvery);
+        return new EventSourcedProductRepository(eventStore, properties);
+    }
+}
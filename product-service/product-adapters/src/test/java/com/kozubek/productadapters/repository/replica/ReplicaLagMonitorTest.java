@@ -0,0 +1,71 @@
+package com.kozubek.productadapters.repository.replica;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaLagMonitor Unit Tests")
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(1);
+
+    private ResultSet resultSet;
+    private ReadReplica replica;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        final DataSource dataSource = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        final Statement statement = mock(Statement.class);
+        resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(ReplicaLagMonitor.LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        replica = new ReadReplica("replica-0", dataSource);
+        monitor = new ReplicaLagMonitor(new ReplicaRoutingDataSource(mock(DataSource.class), List.of(replica), MAX_LAG), MAX_LAG, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should put a streaming replica within the allowed lag into rotation")
+    void shouldUseStreamingReplica() throws SQLException {
+        // given
+        when(resultSet.getDouble(1)).thenReturn(250.0);
+        when(resultSet.wasNull()).thenReturn(false);
+
+        // when
+        monitor.checkAll();
+
+        // then
+        assertThat(replica.isUsable(MAX_LAG)).isTrue();
+        assertThat(replica.lag()).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    @DisplayName("Should take a replica whose WAL receiver is not streaming out of rotation")
+    void shouldSkipReplicaNotStreaming() throws SQLException {
+        // given - lag znany z poprzedniej rundy, potem odbiornik WAL rozłączony
+        replica.reportLag(Duration.ZERO);
+        when(resultSet.getDouble(1)).thenReturn(0.0);
+        when(resultSet.wasNull()).thenReturn(true);
+
+        // when
+        monitor.checkAll();
+
+        // then
+        assertThat(replica.isUsable(MAX_LAG)).isFalse();
+    }
+}
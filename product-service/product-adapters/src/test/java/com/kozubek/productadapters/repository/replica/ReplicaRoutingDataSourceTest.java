@@ -0,0 +1,189 @@
+package com.kozubek.productadapters.repository.replica;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(1);
+
+    private DataSource primary;
+    private Connection primaryConnection;
+    private ReadReplica firstReplica;
+    private Connection firstReplicaConnection;
+    private ReadReplica secondReplica;
+    private Connection secondReplicaConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        final DataSource firstDataSource = mock(DataSource.class);
+        firstReplicaConnection = mock(Connection.class);
+        when(firstDataSource.getConnection()).thenReturn(firstReplicaConnection);
+        firstReplica = new ReadReplica("replica-0", firstDataSource);
+
+        final DataSource secondDataSource = mock(DataSource.class);
+        secondReplicaConnection = mock(Connection.class);
+        when(secondDataSource.getConnection()).thenReturn(secondReplicaConnection);
+        secondReplica = new ReadReplica("replica-1", secondDataSource);
+    }
+
+    @Test
+    @DisplayName("Should serve read-only transactions from replicas in turn")
+    void shouldRouteReadOnlyTransactionsToReplicas() {
+        // given
+        firstReplica.reportLag(Duration.ZERO);
+        secondReplica.reportLag(Duration.ofMillis(200));
+        final TransactionTemplate readOnly = transactions(List.of(firstReplica, secondReplica), true);
+
+        // when
+        final Connection first = readOnly.execute(status -> physicalConnection(readOnly));
+        final Connection second = readOnly.execute(status -> physicalConnection(readOnly));
+
+        // then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(firstReplicaConnection, secondReplicaConnection);
+    }
+
+    @Test
+    @DisplayName("Should keep read-write transactions on the primary")
+    void shouldRouteReadWriteTransactionsToPrimary() {
+        // given
+        firstReplica.reportLag(Duration.ZERO);
+        final TransactionTemplate readWrite = transactions(List.of(firstReplica), false);
+
+        // when
+        final Connection connection = readWrite.execute(status -> physicalConnection(readWrite));
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should skip replicas lagging more than the allowed lag")
+    void shouldSkipLaggingReplica() {
+        // given
+        firstReplica.reportLag(Duration.ofSeconds(5));
+        secondReplica.reportLag(Duration.ZERO);
+        final TransactionTemplate readOnly = transactions(List.of(firstReplica, secondReplica), true);
+
+        // when
+        final Connection first = readOnly.execute(status -> physicalConnection(readOnly));
+        final Connection second = readOnly.execute(status -> physicalConnection(readOnly));
+
+        // then
+        assertThat(List.of(first, second)).containsOnly(secondReplicaConnection);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica is usable")
+    void shouldFallBackToPrimary() {
+        // given
+        firstReplica.reportLag(Duration.ofSeconds(5));
+        final TransactionTemplate readOnly = transactions(List.of(firstReplica, secondReplica), true);
+
+        // when
+        final Connection connection = readOnly.execute(status -> physicalConnection(readOnly));
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should take a replica that refuses connections out of rotation")
+    void shouldMarkRefusingReplicaUnreachable() throws SQLException {
+        // given
+        final DataSource refusing = mock(DataSource.class);
+        when(refusing.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+        final ReadReplica replica = new ReadReplica("replica-0", refusing);
+        replica.reportLag(Duration.ZERO);
+        final TransactionTemplate readOnly = transactions(List.of(replica), true);
+
+        // when
+        final Connection connection = readOnly.execute(status -> physicalConnection(readOnly));
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(replica.isUsable(MAX_LAG)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should route JPA transactions by their read-only flag")
+    void shouldRouteJpaTransactionsByReadOnlyFlag() {
+        // given - JpaTransactionManager sięga po połączenie już przy begin, zanim transakcja jest oznaczona jako read-only
+        firstReplica.reportLag(Duration.ZERO);
+        final EntityManagerFactory entityManagerFactory = entityManagerFactory(
+                new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, List.of(firstReplica), MAX_LAG)));
+        final TransactionTemplate readOnly = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        readOnly.setReadOnly(true);
+        final TransactionTemplate readWrite = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        // when
+        final Connection read = readOnly.execute(status -> physicalConnection(entityManagerFactory));
+        final Connection write = readWrite.execute(status -> physicalConnection(entityManagerFactory));
+        entityManagerFactory.close();
+
+        // then
+        assertThat(read).isSameAs(firstReplicaConnection);
+        assertThat(write).isSameAs(primaryConnection);
+    }
+
+    private TransactionTemplate transactions(final List<ReadReplica> replicas, final boolean readOnly) {
+        final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicas, MAX_LAG));
+        final TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    // pierwsze sięgnięcie po fizyczne połączenie - tak jak przy pierwszym zapytaniu w transakcji
+    private static Connection physicalConnection(final TransactionTemplate template) {
+        final DataSource dataSource = ((DataSourceTransactionManager) template.getTransactionManager()).getDataSource();
+        return ((ConnectionProxy) DataSourceUtils.getConnection(dataSource)).getTargetConnection();
+    }
+
+    // bez encji i bez metadanych JDBC przy starcie - połączenia są atrapami
+    private static EntityManagerFactory entityManagerFactory(final DataSource dataSource) {
+        final LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan(ReplicaRoutingDataSourceTest.class.getPackageName());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", PostgreSQLDialect.class.getName(),
+                "hibernate.boot.allow_jdbc_metadata_access", false));
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private static Connection physicalConnection(final EntityManagerFactory entityManagerFactory) {
+        return EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory).unwrap(Session.class)
+                .doReturningWork(connection -> ((ConnectionProxy) connection).getTargetConnection());
+    }
+}
@@ -18,7 +18,7 @@ class ProductCommandRestMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new ProductCommandRestMapper();
+        mapper = new ProductCommandRestMapperImpl();
     }
 
     @Test
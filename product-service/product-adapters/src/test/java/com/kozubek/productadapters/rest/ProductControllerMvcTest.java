@@ -0,0 +1,213 @@
+package com.kozubek.productadapters.rest;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.productadapters.rest.dto.GetProductsLookupRequest;
+import com.kozubek.productapplication.ProductApplicationService;
+import com.kozubek.productapplication.command.dto.AdjustProductStockCommand;
+import com.kozubek.productapplication.command.dto.ChangeProductPriceCommand;
+import com.kozubek.productapplication.command.dto.ChangeProductStatusCommand;
+import com.kozubek.productapplication.exception.ProductConcurrentModificationException;
+import com.kozubek.productdomain.exception.InsufficientStockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductController MockMvc Tests")
+class ProductControllerMvcTest {
+
+    @Mock
+    private ProductApplicationService productApplicationService;
+
+    @Mock
+    private ProductQueryRestMapper productQueryRestMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final ProductController controller = new ProductController(new ProductCommandRestMapperImpl(), productApplicationService, productQueryRestMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new ProductExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return 400 when lookup request has no productIds")
+    void shouldRejectLookupWithoutProductIds() throws Exception {
+        // when / then
+        mockMvc.perform(post("/api/product/lookup").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("productIds must not be null"));
+        mockMvc.perform(post("/api/product/lookup").contentType(MediaType.APPLICATION_JSON).content("{\"productIds\":null}"))
+                .andExpect(status().isBadRequest());
+        verify(productApplicationService, never()).getProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when lookup request has more productIds than allowed")
+    void shouldRejectLookupWithTooManyProductIds() throws Exception {
+        // given
+        final String productIds = IntStream.rangeClosed(0, GetProductsLookupRequest.MAX_PRODUCT_IDS)
+                .mapToObj(i -> "\"" + UUID.randomUUID() + "\"")
+                .collect(Collectors.joining(","));
+
+        // when / then
+        mockMvc.perform(post("/api/product/lookup").contentType(MediaType.APPLICATION_JSON).content("{\"productIds\":[" + productIds + "]}"))
+                .andExpect(status().isBadRequest());
+        verify(productApplicationService, never()).getProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("Should look up products when request is valid")
+    void shouldLookUpProductsWhenRequestIsValid() throws Exception {
+        // given
+        final UUID productId = UUID.randomUUID();
+        when(productApplicationService.getProducts(List.of(productId))).thenReturn(List.of());
+
+        // when / then
+        mockMvc.perform(post("/api/product/lookup").contentType(MediaType.APPLICATION_JSON).content("{\"productIds\":[\"" + productId + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should change price at the version from If-Match and return the new ETag")
+    void shouldChangePriceAtIfMatchVersion() throws Exception {
+        // given
+        final UUID productId = UUID.randomUUID();
+        final ChangeProductPriceCommand command = new ChangeProductPriceCommand(productId, new BigDecimal("12.50"), 3L);
+        when(productApplicationService.changePrice(command)).thenReturn(4L);
+
+        // when / then
+        mockMvc.perform(put("/api/product/{productId}/price", productId)
+                        .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":12.50}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    @DisplayName("Should return 412 when price is changed at a stale version")
+    void shouldReturnPreconditionFailedWhenPriceVersionIsStale() throws Exception {
+        // given
+        final UUID productId = UUID.randomUUID();
+        when(productApplicationService.changePrice(any(ChangeProductPriceCommand.class)))
+                .thenThrow(new ProductConcurrentModificationException("Product " + productId + " is at version 4, not 3"));
+
+        // when / then
+        mockMvc.perform(put("/api/product/{productId}/price", productId)
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":12.50}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when price is changed without a usable If-Match")
+    void shouldRejectPriceChangeWithoutIfMatch() throws Exception {
+        // given
+        final UUID productId = UUID.randomUUID();
+
+        // when / then
+        mockMvc.perform(put("/api/product/{productId}/price", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":12.50}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/product/{productId}/price", productId)
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"price\":12.50}"))
+                .andExpect(status().isBadRequest());
+        verify(productApplicationService, never()).changePrice(any(ChangeProductPriceCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should change status at the version from If-Match and return the new ETag")
+    void shouldChangeStatusAtIfMatchVersion() throws Exception {
+        // given
+        final UUID productId = UUID.randomUUID();
+        final ChangeProductStatusCommand command = new ChangeProductStatusCommand(productId, ProductStatus.NOT_AVAILABLE, 7L);
+        when(productApplicationService.changeStatus(command)).thenReturn(8L);
+
+        // when / then
+        mockMvc.perform(put("/api/product/{productId}/status", productId)
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"NOT_AVAILABLE\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8\""));
+    }
+
+    @Test
+    @DisplayName("Should return 412 when status is changed at a stale version")
+    void shouldReturnPreconditionFailedWhenStatusVersionIsStale() throws Exception {
+        // given
+        final UUID productId = UUID.randomUUID();
+        when(productApplicationService.changeStatus(any(ChangeProductStatusCommand.class)))
+                .thenThrow(new ProductConcurrentModificationException("Product " + productId + " is at version 8, not 7"));
+
+        // when / then
+        mockMvc.perform(put("/api/product/{productId}/status", productId)
+                        .header(HttpHeaders.IF_MATCH, "\"7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"NOT_AVAILABLE\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should adjust stock without If-Match and return the new ETag")
+    void shouldAdjustStockWithoutIfMatch() throws Exception {
+        // given
+        final UUID productId = UUID.randomUUID();
+        when(productApplicationService.adjustStock(new AdjustProductStockCommand(productId, -2))).thenReturn(5L);
+
+        // when / then
+        mockMvc.perform(post("/api/product/{productId}/stock", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"delta\":-2}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+    }
+
+    @Test
+    @DisplayName("Should return 409 when stock adjustment exceeds the available quantity")
+    void shouldReturnConflictWhenStockIsInsufficient() throws Exception {
+        // given
+        final UUID productId = UUID.randomUUID();
+        when(productApplicationService.adjustStock(any(AdjustProductStockCommand.class)))
+                .thenThrow(new InsufficientStockException("Insufficient stock of product " + productId));
+
+        // when / then
+        mockMvc.perform(post("/api/product/{productId}/stock", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"delta\":-10}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Insufficient stock of product " + productId));
+    }
+}
@@ -4,7 +4,7 @@ import com.kozubek.commondomain.vo.ProductId;
 import com.kozubek.commondomain.vo.ProductStatus;
 import com.kozubek.productadapters.rest.dto.CreateProductRequest;
 import com.kozubek.productadapters.rest.dto.CreateProductResponse;
-import com.kozubek.productadapters.rest.dto.GetDetailsProductResponse;
+import com.kozubek.productadapters.rest.dto.GetProductsLookupRequest;
 import com.kozubek.productapplication.ProductApplicationService;
 import com.kozubek.productapplication.command.dto.CreateProductCommand;
 import com.kozubek.productapplication.query.dto.ProductProjection;
@@ -20,6 +20,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,7 +56,6 @@ class ProductControllerTest {
     private UUID productId;
     private ProductId expectedProductId;
     private ProductProjection productProjection;
-    private GetDetailsProductResponse expectedResponse;
 
     @BeforeEach
     void setUp() {
@@ -88,16 +89,6 @@ class ProductControllerTest {
                 .quantity(50)
                 .status(ProductStatus.AVAILABLE)
                 .build();
-
-        expectedResponse = GetDetailsProductResponse.builder()
-                .productId(productId)
-                .userId(userId)
-                .code("PROD-001")
-                .name("Test Product")
-                .price(BigDecimal.valueOf(99.99))
-                .quantity(50)
-                .status(ProductStatus.AVAILABLE)
-                .build();
     }
 
     @Test
@@ -159,11 +150,9 @@ class ProductControllerTest {
         // given
         when(productApplicationService.getProduct(productId))
                 .thenReturn(productProjection);
-        when(productQueryRestMapper.productToGetDetailsProductResponse(productProjection))
-                .thenReturn(expectedResponse);
 
         // when
-        final ResponseEntity<GetDetailsProductResponse> response = controller.getDetailsProduct(productId);
+        final ResponseEntity<ProductProjection> response = controller.getDetailsProduct(productId, null);
 
         // then
         assertThat(response).isNotNull();
@@ -180,11 +169,9 @@ class ProductControllerTest {
         // given
         when(productApplicationService.getProduct(productId))
                 .thenReturn(productProjection);
-        when(productQueryRestMapper.productToGetDetailsProductResponse(any(ProductProjection.class)))
-                .thenReturn(expectedResponse);
 
         // when
-        controller.getDetailsProduct(productId);
+        controller.getDetailsProduct(productId, null);
 
         // then
         verify(productApplicationService).getProduct(productIdCaptor.capture());
@@ -192,19 +179,18 @@ class ProductControllerTest {
     }
 
     @Test
-    @DisplayName("Should use query mapper when getting product details")
-    void shouldUseQueryMapperWhenGettingProductDetails() {
+    @DisplayName("Should return the projection as the body without mapping it to a response DTO")
+    void shouldReturnProjectionWithoutMapping() {
         // given
         when(productApplicationService.getProduct(productId))
                 .thenReturn(productProjection);
-        when(productQueryRestMapper.productToGetDetailsProductResponse(productProjection))
-                .thenReturn(expectedResponse);
 
         // when
-        controller.getDetailsProduct(productId);
+        final ResponseEntity<ProductProjection> response = controller.getDetailsProduct(productId, null);
 
         // then
-        verify(productQueryRestMapper).productToGetDetailsProductResponse(productProjection);
+        assertThat(response.getBody()).isSameAs(productProjection);
+        verifyNoInteractions(productQueryRestMapper);
     }
 
     @Test
@@ -213,11 +199,9 @@ class ProductControllerTest {
         // given
         when(productApplicationService.getProduct(productId))
                 .thenReturn(productProjection);
-        when(productQueryRestMapper.productToGetDetailsProductResponse(productProjection))
-                .thenReturn(expectedResponse);
 
         // when
-        final ResponseEntity<GetDetailsProductResponse> response = controller.getDetailsProduct(productId);
+        final ResponseEntity<ProductProjection> response = controller.getDetailsProduct(productId, null);
 
         // then
         assertThat(response.getBody()).isNotNull();
@@ -244,23 +228,12 @@ class ProductControllerTest {
                 .quantity(25)
                 .status(ProductStatus.AVAILABLE)
                 .build();
-        final GetDetailsProductResponse differentResponse = GetDetailsProductResponse.builder()
-                .productId(differentProductId)
-                .userId(differentProjection.userId())
-                .code(differentProjection.code())
-                .name(differentProjection.name())
-                .price(differentProjection.price())
-                .quantity(differentProjection.quantity())
-                .status(differentProjection.status())
-                .build();
 
         when(productApplicationService.getProduct(differentProductId))
                 .thenReturn(differentProjection);
-        when(productQueryRestMapper.productToGetDetailsProductResponse(differentProjection))
-                .thenReturn(differentResponse);
 
         // when
-        final ResponseEntity<GetDetailsProductResponse> response = controller.getDetailsProduct(differentProductId);
+        final ResponseEntity<ProductProjection> response = controller.getDetailsProduct(differentProductId, null);
 
         // then
         assertThat(response.getBody()).isNotNull();
@@ -293,15 +266,117 @@ class ProductControllerTest {
         // given
         when(productApplicationService.getProduct(productId))
                 .thenReturn(productProjection);
-        when(productQueryRestMapper.productToGetDetailsProductResponse(productProjection))
-                .thenReturn(expectedResponse);
 
         // when
-        controller.getDetailsProduct(productId);
+        controller.getDetailsProduct(productId, null);
 
         // then
         verify(productApplicationService, times(1)).getProduct(productId);
-        verify(productQueryRestMapper, times(1)).productToGetDetailsProductResponse(productProjection);
-        verifyNoMoreInteractions(productApplicationService, productQueryRestMapper);
+        verifyNoMoreInteractions(productApplicationService);
+        verifyNoInteractions(productQueryRestMapper);
+    }
+
+    @Test
+    @DisplayName("Should return ETag header built from product version")
+    void shouldReturnETagHeaderBuiltFromProductVersion() {
+        // given
+        final ProductProjection versionedProjection = ProductProjection.builder()
+                .productId(productId)
+                .userId(productProjection.userId())
+                .code(productProjection.code())
+                .name(productProjection.name())
+                .price(productProjection.price())
+                .quantity(productProjection.quantity())
+                .status(productProjection.status())
+                .version(3L)
+                .build();
+        when(productApplicationService.getProduct(productId))
+                .thenReturn(versionedProjection);
+
+        // when
+        final ResponseEntity<ProductProjection> response = controller.getDetailsProduct(productId, null);
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+    }
+
+    @Test
+    @DisplayName("Should return 304 without loading product when If-None-Match matches current version")
+    void shouldReturnNotModifiedWhenIfNoneMatchMatchesCurrentVersion() {
+        // given
+        when(productApplicationService.getProductVersion(productId))
+                .thenReturn(Optional.of(3L));
+
+        // when
+        final ResponseEntity<ProductProjection> response = controller.getDetailsProduct(productId, "\"3\"");
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(304);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+        assertThat(response.getBody()).isNull();
+        verify(productApplicationService, never()).getProduct(any(UUID.class));
+        verifyNoInteractions(productQueryRestMapper);
+    }
+
+    @Test
+    @DisplayName("Should treat weak and listed validators in If-None-Match as matching")
+    void shouldTreatWeakAndListedValidatorsAsMatching() {
+        // given
+        when(productApplicationService.getProductVersion(productId))
+                .thenReturn(Optional.of(7L));
+
+        // when
+        final ResponseEntity<ProductProjection> response = controller.getDetailsProduct(productId, "\"1\", W/\"7\"");
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(304);
+        verify(productApplicationService, never()).getProduct(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should return full response when If-None-Match is stale")
+    void shouldReturnFullResponseWhenIfNoneMatchIsStale() {
+        // given
+        final ProductProjection versionedProjection = ProductProjection.builder()
+                .productId(productId)
+                .userId(productProjection.userId())
+                .code(productProjection.code())
+                .name(productProjection.name())
+                .price(productProjection.price())
+                .quantity(productProjection.quantity())
+                .status(productProjection.status())
+                .version(4L)
+                .build();
+        when(productApplicationService.getProductVersion(productId))
+                .thenReturn(Optional.of(4L));
+        when(productApplicationService.getProduct(productId))
+                .thenReturn(versionedProjection);
+
+        // when
+        final ResponseEntity<ProductProjection> response = controller.getDetailsProduct(productId, "\"3\"");
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+        assertThat(response.getBody()).isEqualTo(versionedProjection);
+    }
+
+    @Test
+    @DisplayName("Should look up many products with one application service call")
+    void shouldLookUpManyProductsWithOneApplicationServiceCall() {
+        // given
+        final List<UUID> productIds = List.of(productId, UUID.randomUUID());
+        when(productApplicationService.getProducts(productIds))
+                .thenReturn(List.of(productProjection));
+
+        // when
+        final ResponseEntity<List<ProductProjection>> response = controller.lookupProducts(new GetProductsLookupRequest(productIds));
+
+        // then
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).containsExactly(productProjection);
+        verify(productApplicationService, times(1)).getProducts(productIds);
+        verifyNoMoreInteractions(productApplicationService);
     }
 }
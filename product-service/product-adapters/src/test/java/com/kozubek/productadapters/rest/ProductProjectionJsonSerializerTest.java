@@ -0,0 +1,74 @@
+package com.kozubek.productadapters.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductProjectionJsonSerializer Unit Tests")
+class ProductProjectionJsonSerializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(new ProductProjectionJsonSerializer()));
+    private final ObjectMapper reflectiveMapper = new ObjectMapper();
+    private final ProductQueryRestMapper productQueryRestMapper = new ProductQueryRestMapperImpl();
+
+    @Test
+    @DisplayName("Should write the same JSON as the mapped details response")
+    void shouldWriteSameJsonAsMappedResponse() throws Exception {
+        // given
+        final ProductProjection product = ProductProjection.builder()
+                .productId(UUID.fromString("0a1b2c3d-4e5f-6071-8293-a4b5c6d7e8f9"))
+                .userId(UUID.randomUUID())
+                .status(ProductStatus.LAST_PIECES)
+                .code("PROD-\"001\"")
+                .name("Zawias ósemkowy \\ 5mm")
+                .price(new BigDecimal("1299.90"))
+                .quantity(7)
+                .version(12L)
+                .build();
+
+        // when
+        final String json = objectMapper.writeValueAsString(product);
+
+        // then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(productQueryRestMapper.productToGetDetailsProductResponse(product)));
+        assertThat(json).doesNotContain("version");
+    }
+
+    @Test
+    @DisplayName("Should write missing fields as nulls")
+    void shouldWriteMissingFieldsAsNulls() throws Exception {
+        // given
+        final ProductProjection product = ProductProjection.builder().build();
+
+        // when
+        final String json = objectMapper.writeValueAsString(product);
+
+        // then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(productQueryRestMapper.productToGetDetailsProductResponse(product)));
+    }
+
+    @Test
+    @DisplayName("Should write UUIDs exactly like UUID.toString")
+    void shouldWriteUuidsLikeToString() throws Exception {
+        // given
+        final List<UUID> ids = List.of(new UUID(0, 0), new UUID(-1, -1), UUID.randomUUID(), UUID.randomUUID());
+
+        for (final UUID id : ids) {
+            // when
+            final String json = objectMapper.writeValueAsString(ProductProjection.builder().productId(id).build());
+
+            // then
+            assertThat(json).startsWith("{\"productId\":\"" + id + "\",");
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.kozubek.productadapters.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.productadapters.rest.dto.GetDetailsProductResponse;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@DisplayName("Product details serialization cost")
+class ProductProjectionSerializationBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+    // -Pbenchmark.serialization.iterations=... zmienia liczbę mierzonych odpowiedzi
+    private static final int ITERATIONS = Integer.getInteger("benchmark.serialization.iterations", 500_000);
+
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    // jak strumień odpowiedzi serwletu: bajty idą dalej, zamknięcie przez Jacksona nic nie robi
+    private final OutputStream response = new OutputStream() {
+        @Override
+        public void write(final int b) {
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+        }
+    };
+
+    @Test
+    @DisplayName("Should allocate less per request when the projection is written directly")
+    void shouldAllocateLessWhenProjectionIsWrittenDirectly() {
+        // given
+        final ProductProjection product = ProductProjection.builder()
+                .productId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .status(ProductStatus.AVAILABLE)
+                .code("BENCH-0001")
+                .name("Serialization benchmark product")
+                .price(new BigDecimal("149.99"))
+                .quantity(42)
+                .version(3L)
+                .build();
+        final ProductQueryRestMapper mapper = new ProductQueryRestMapperImpl();
+        final ObjectWriter mapped = new ObjectMapper().writerFor(GetDetailsProductResponse.class);
+        final ObjectWriter direct = new ObjectMapper()
+                .registerModule(new SimpleModule().addSerializer(new ProductProjectionJsonSerializer()))
+                .writerFor(ProductProjection.class);
+
+        // when
+        final Cost mappedCost = measure(() -> write(mapped, mapper.productToGetDetailsProductResponse(product)));
+        final Cost directCost = measure(() -> write(direct, product));
+
+        // then
+        assertThat(directCost.bytesPerOp())
+                .as("B/op of the direct projection (%s) vs mapped+reflective (%s)", directCost, mappedCost)
+                .isLessThan(mappedCost.bytesPerOp());
+    }
+
+    private Cost measure(final Runnable request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+        final long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        final long cpuBefore = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.run();
+        }
+        return new Cost((threads.getCurrentThreadAllocatedBytes() - bytesBefore) / (double) ITERATIONS,
+                (threads.getCurrentThreadCpuTime() - cpuBefore) / (double) ITERATIONS);
+    }
+
+    private void write(final ObjectWriter writer, final Object body) {
+        try {
+            writer.writeValue(response, body);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Cost(double bytesPerOp, double cpuNanosPerOp) {
+    }
+}
@@ -2,12 +2,15 @@ package com.kozubek.productadapters.rest;
 
 import com.kozubek.commondomain.vo.ProductStatus;
 import com.kozubek.productadapters.rest.dto.GetDetailsProductResponse;
+import com.kozubek.productadapters.rest.dto.SearchProductsResponse;
 import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productapplication.query.dto.ProductSearchPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,7 +22,7 @@ class ProductQueryRestMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new ProductQueryRestMapper();
+        mapper = new ProductQueryRestMapperImpl();
     }
 
     @Test
@@ -274,4 +277,38 @@ class ProductQueryRestMapperTest {
         // then
         assertThat(response.quantity()).isEqualTo(largeQuantity);
     }
+
+    @Test
+    @DisplayName("Should map every product of a search page and keep paging information")
+    void shouldMapSearchPage() {
+        // given
+        final ProductProjection first = ProductProjection.builder()
+                .productId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .code("CODE-1")
+                .name("First")
+                .price(BigDecimal.ONE)
+                .quantity(10)
+                .status(ProductStatus.AVAILABLE)
+                .build();
+        final ProductProjection second = ProductProjection.builder()
+                .productId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .code("CODE-2")
+                .name("Second")
+                .price(BigDecimal.TEN)
+                .quantity(3)
+                .status(ProductStatus.LAST_PIECES)
+                .build();
+
+        // when
+        final SearchProductsResponse response = mapper.productSearchPageToSearchProductsResponse(new ProductSearchPage(List.of(first, second), 2, 20, true));
+
+        // then
+        assertThat(response.products()).extracting(GetDetailsProductResponse::code).containsExactly("CODE-1", "CODE-2");
+        assertThat(response.products().get(1).productId()).isEqualTo(second.productId());
+        assertThat(response.page()).isEqualTo(2);
+        assertThat(response.size()).isEqualTo(20);
+        assertThat(response.hasNext()).isTrue();
+    }
 }
@@ -1,15 +1,28 @@
 package com.kozubek.productapplication;
 
+import com.kozubek.commonapplication.concurrency.SingleFlight;
 import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.productapplication.command.AdjustProductStockCommandHandler;
+import com.kozubek.productapplication.command.ChangeProductPriceCommandHandler;
+import com.kozubek.productapplication.command.ChangeProductStatusCommandHandler;
 import com.kozubek.productapplication.command.ProductCreateCommandHandler;
+import com.kozubek.productapplication.command.RebuildProductReadModelCommandHandler;
+import com.kozubek.productapplication.command.dto.AdjustProductStockCommand;
+import com.kozubek.productapplication.command.dto.ChangeProductPriceCommand;
+import com.kozubek.productapplication.command.dto.ChangeProductStatusCommand;
 import com.kozubek.productapplication.command.dto.CreateProductCommand;
 import com.kozubek.productapplication.query.GetProductQueryHandler;
+import com.kozubek.productapplication.query.SearchProductsQueryHandler;
 import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productapplication.query.dto.ProductSearchPage;
+import com.kozubek.productapplication.query.dto.SearchProductsQuery;
 import com.kozubek.ddd.annotation.domaindrivendesign.ApplicationLayer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @ApplicationLayer
@@ -19,13 +32,56 @@ public class ProductApplicationService {
 
     private final ProductCreateCommandHandler productCreateCommandHandler;
     private final GetProductQueryHandler getProductQueryHandler;
+    private final SearchProductsQueryHandler searchProductsQueryHandler;
+    private final RebuildProductReadModelCommandHandler rebuildProductReadModelCommandHandler;
+    private final ChangeProductPriceCommandHandler changeProductPriceCommandHandler;
+    private final AdjustProductStockCommandHandler adjustProductStockCommandHandler;
+    private final ChangeProductStatusCommandHandler changeProductStatusCommandHandler;
+    // równoległe GET tego samego produktu czekają na jedno zapytanie, zanim którekolwiek otworzy transakcję
+    private final SingleFlight<UUID, ProductProjection> productLookups = new SingleFlight<>();
 
     @Transactional
     public ProductId createProduct(final CreateProductCommand command) {
         return productCreateCommandHandler.createProduct(command);
     }
 
+    public long changePrice(final ChangeProductPriceCommand command) {
+        return changeProductPriceCommandHandler.changePrice(command);
+    }
+
+    public long adjustStock(final AdjustProductStockCommand command) {
+        return adjustProductStockCommandHandler.adjustStock(command);
+    }
+
+    public long changeStatus(final ChangeProductStatusCommand command) {
+        return changeProductStatusCommandHandler.changeStatus(command);
+    }
+
+    public long rebuildReadModel() {
+        return rebuildProductReadModelCommandHandler.rebuildReadModel();
+    }
+
     public ProductProjection getProduct(final UUID productId) {
-        return getProductQueryHandler.getProductById(productId);
+        return productLookups.execute(productId, () -> getProductQueryHandler.getProductById(productId));
+    }
+
+    public List<ProductProjection> getProducts(final List<UUID> productIds) {
+        return getProductQueryHandler.getProductsByIds(productIds);
+    }
+
+    public ProductSearchPage searchProducts(final SearchProductsQuery query) {
+        return searchProductsQueryHandler.searchProducts(query);
+    }
+
+    public Optional<Long> getProductVersion(final UUID productId) {
+        return getProductQueryHandler.getProductVersion(productId);
+    }
+
+    public long productLookupsExecuted() {
+        return productLookups.executed();
+    }
+
+    public long productLookupsCollapsed() {
+        return productLookups.collapsed();
     }
 }
@@ -0,0 +1,44 @@
+package com.kozubek.productapplication.command;
+
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.ddd.annotation.architecture.cqrs.CommandOperation;
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort;
+import com.kozubek.ddd.annotation.domaindrivendesign.ApplicationLayer;
+import com.kozubek.productapplication.command.dto.AdjustProductStockCommand;
+import com.kozubek.productapplication.exception.ProductNotFoundException;
+import com.kozubek.productapplication.message.publisher.ProductUpdatedEventPublisher;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.event.ProductUpdatedEvent;
+import com.kozubek.productdomain.port.ProductRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Stock changes are commutative, so instead of read-check-write with an expected version the delta is applied
+ * atomically by the repository; concurrent reservations never conflict unless the stock would go negative.
+ */
+@ApplicationLayer
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@CommandOperation
+@DrivingPort
+public class AdjustProductStockCommandHandler {
+	private final ProductRepository productRepository;
+	private final ProductUpdatedEventPublisher publisher;
+
+	@Transactional
+	public long adjustStock(final AdjustProductStockCommand command) {
+		final Product updated = productRepository.adjustStock(new ProductId(command.productId()), command.delta())
+				.orElseThrow(() -> new ProductNotFoundException("Could not find product with id: " + command.productId()));
+		publisher.publish(new ProductUpdatedEvent(updated, Instant.now()));
+
+		log.info("Stock of product {} adjusted by {} to {}, version {}",
+				command.productId(), command.delta(), updated.getQuantity(), updated.getVersion());
+		return updated.getVersion();
+	}
+}
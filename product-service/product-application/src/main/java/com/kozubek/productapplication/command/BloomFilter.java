@@ -0,0 +1,95 @@
+package com.kozubek.productapplication.command;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free bloom filter over strings: {@link #mightContain} never answers {@code false} for an added value,
+ * and answers {@code true} for a value that was never added with roughly the configured probability.
+ */
+final class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    BloomFilter(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        final long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        final int words = Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(words);
+        this.bits = (long) words * Long.SIZE;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * LN2));
+    }
+
+    void put(final String value) {
+        final long hash = hash(value);
+        final long h1 = mix(hash);
+        final long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashes; i++) {
+            set(Math.floorMod(h1 + i * h2, bits));
+        }
+    }
+
+    boolean mightContain(final String value) {
+        final long hash = hash(value);
+        final long h1 = mix(hash);
+        final long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashes; i++) {
+            if (!isSet(Math.floorMod(h1 + i * h2, bits))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bits;
+    }
+
+    int hashFunctions() {
+        return hashes;
+    }
+
+    private void set(final long bit) {
+        final int word = (int) (bit >>> 6);
+        final long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean isSet(final long bit) {
+        return (words.get((int) (bit >>> 6)) & (1L << bit)) != 0;
+    }
+
+    // FNV-1a po bajtach UTF-8, rozproszone finalizerem z MurmurHash3 (fmix64)
+    private static long hash(final String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93FE1A85EC5L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
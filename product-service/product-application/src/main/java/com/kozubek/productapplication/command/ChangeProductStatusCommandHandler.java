@@ -0,0 +1,41 @@
+package com.kozubek.productapplication.command;
+
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.ddd.annotation.architecture.cqrs.CommandOperation;
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort;
+import com.kozubek.ddd.annotation.domaindrivendesign.ApplicationLayer;
+import com.kozubek.productapplication.command.dto.ChangeProductStatusCommand;
+import com.kozubek.productapplication.message.publisher.ProductUpdatedEventPublisher;
+import com.kozubek.productdomain.ProductDomainService;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.event.ProductUpdatedEvent;
+import com.kozubek.productdomain.port.ProductRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@ApplicationLayer
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@CommandOperation
+@DrivingPort
+public class ChangeProductStatusCommandHandler {
+	private final ProductDomainService productDomainService;
+	private final ProductRepository productRepository;
+	private final ProductUpdatedEventPublisher publisher;
+	private final ProductVersionGuard productVersionGuard;
+
+	@Transactional
+	public long changeStatus(final ChangeProductStatusCommand command) {
+		final Product product = productVersionGuard.load(new ProductId(command.productId()), command.expectedVersion());
+
+		final ProductUpdatedEvent productUpdatedEvent = productDomainService.changeStatus(product, command.status());
+		final Product updated = productRepository.update(productUpdatedEvent.getProduct());
+		publisher.publish(new ProductUpdatedEvent(updated, productUpdatedEvent.getCreatedAt()));
+
+		log.info("Status of product {} changed to {}, version {}", command.productId(), command.status(), updated.getVersion());
+		return updated.getVersion();
+	}
+}
@@ -0,0 +1,65 @@
+package com.kozubek.productapplication.command;
+
+import com.kozubek.productapplication.config.ProductServiceConfigProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * In-memory bloom filter of existing product codes. A "no" skips the existence query entirely; a "maybe" is
+ * confirmed against the database. Codes created by other instances are not added here, so the unique index
+ * remains the final authority.
+ */
+@Component
+@Slf4j
+public class ProductCodeFilter {
+    private final ProductCodeRepository productCodeRepository;
+    private final int warmUpBatchSize;
+    private final BloomFilter filter;
+    // do końca rozgrzewania filtr nie zna wszystkich kodów - każdy kod trzeba sprawdzić w bazie
+    private volatile boolean warm;
+
+    public ProductCodeFilter(final ProductCodeRepository productCodeRepository, final ProductServiceConfigProperties properties) {
+        final ProductServiceConfigProperties.CodeFilter config = properties.getCodeFilter();
+        this.productCodeRepository = productCodeRepository;
+        this.warmUpBatchSize = config.getWarmUpBatchSize();
+        this.filter = new BloomFilter(config.getExpectedCodes(), config.getFalsePositiveRate());
+    }
+
+    // po starcie: serwis przyjmuje już ruch, a do czasu rozgrzania kody są sprawdzane w bazie
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        final long start = System.nanoTime();
+        long loaded = 0;
+        String last = null;
+        List<String> codes;
+        do {
+            codes = productCodeRepository.findCodesAfter(last, warmUpBatchSize);
+            codes.forEach(filter::put);
+            loaded += codes.size();
+            last = codes.isEmpty() ? last : codes.getLast();
+        } while (codes.size() == warmUpBatchSize);
+        warm = true;
+        log.info("Product code filter warmed with {} codes in {} ms ({} bits, {} hash functions)",
+                loaded, (System.nanoTime() - start) / 1_000_000, filter.bitSize(), filter.hashFunctions());
+    }
+
+    public boolean exists(final String code) {
+        if (code == null) {
+            return false;
+        }
+        if (warm && !filter.mightContain(code)) {
+            return false;
+        }
+        return productCodeRepository.existsByCode(code);
+    }
+
+    public void add(final String code) {
+        if (code != null) {
+            filter.put(code);
+        }
+    }
+}
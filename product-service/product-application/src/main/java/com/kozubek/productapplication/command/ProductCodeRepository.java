@@ -0,0 +1,12 @@
+package com.kozubek.productapplication.command;
+
+import java.util.List;
+
+public interface ProductCodeRepository {
+    boolean existsByCode(String code);
+
+    /**
+     * Next page of existing codes in ascending order, strictly after {@code afterCode} ({@code null} for the first page).
+     */
+    List<String> findCodesAfter(String afterCode, int limit);
+}
@@ -5,6 +5,7 @@ import com.kozubek.ddd.annotation.architecture.cqrs.CommandOperation;
 import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort;
 import com.kozubek.ddd.annotation.domaindrivendesign.ApplicationLayer;
 import com.kozubek.productapplication.command.dto.CreateProductCommand;
+import com.kozubek.productapplication.exception.ProductCodeAlreadyExistsException;
 import com.kozubek.productapplication.message.publisher.ProductCreatedEventPublisher;
 import com.kozubek.productdomain.ProductDomainService;
 import com.kozubek.productdomain.core.Product;
@@ -25,17 +26,24 @@ public class ProductCreateCommandHandler {
 	private final ProductDomainService productDomainService;
 	private final ProductRepository productRepository;
 	private final ProductCreatedEventPublisher publisher;
-	private final ProductCommandMapper productCommandMapper = new ProductCommandMapper();
+	private final ProductCodeFilter productCodeFilter;
+	private final ProductCommandMapper productCommandMapper = new ProductCommandMapperImpl();
 
 	@Transactional
 	public ProductId createProduct(final CreateProductCommand command) {
+		// duplikat odrzucony przed INSERT-em, bez nieudanego zapytania i wycofanej transakcji
+		if (productCodeFilter.exists(command.code())) {
+			throw new ProductCodeAlreadyExistsException("Product with code " + command.code() + " already exists");
+		}
 		final Product product = productCommandMapper.createProductCommandToProduct(command);
 
 		final ProductCreatedEvent productCreatedEvent = productDomainService.create(product);
 		final ProductId productId = productCreatedEvent.getProduct().getId();
 
-		productRepository.save(product);
-		publisher.publish(productCreatedEvent); //TODO jk - change to outbox pattern
+		final Product saved = productRepository.save(product);
+		productCodeFilter.add(product.getCode());
+		// zdarzenie niesie wersję faktycznie zapisaną (JPA: 0, event sourcing: długość strumienia) - od niej liczy się ETag
+		publisher.publish(new ProductCreatedEvent(saved, productCreatedEvent.getCreatedAt())); //TODO jk - change to outbox pattern
 		//save to outbox database
 
 		log.info("Product created with id {}", productId);
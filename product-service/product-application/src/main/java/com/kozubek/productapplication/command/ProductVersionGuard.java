@@ -0,0 +1,28 @@
+package com.kozubek.productapplication.command;
+
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.productapplication.exception.ProductConcurrentModificationException;
+import com.kozubek.productapplication.exception.ProductNotFoundException;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.port.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+class ProductVersionGuard {
+	private final ProductRepository productRepository;
+
+	// wczesne odrzucenie nieaktualnego If-Match; ostateczną ochronę daje i tak wersja sprawdzana przy zapisie
+	Product load(final ProductId productId, final long expectedVersion) {
+		final Product product = productRepository.findById(productId)
+				.orElseThrow(() -> new ProductNotFoundException("Could not find product with id: " + productId.id()));
+		if (!Objects.equals(product.getVersion(), expectedVersion)) {
+			throw new ProductConcurrentModificationException(
+					"Product " + productId.id() + " is at version " + product.getVersion() + ", expected " + expectedVersion);
+		}
+		return product;
+	}
+}
@@ -0,0 +1,30 @@
+package com.kozubek.productapplication.command;
+
+import com.kozubek.ddd.annotation.architecture.cqrs.CommandOperation;
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort;
+import com.kozubek.ddd.annotation.domaindrivendesign.ApplicationLayer;
+import com.kozubek.productapplication.query.readmodel.ProductEventSource;
+import com.kozubek.productapplication.query.readmodel.ProductReadModelProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@ApplicationLayer
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@CommandOperation
+@DrivingPort
+public class RebuildProductReadModelCommandHandler {
+	private final ProductReadModelProjector productReadModelProjector;
+	private final ProductEventSource productEventSource;
+
+	// bez czyszczenia tabeli: wiersze z backfillu, których zdarzeń już nie ma w temacie, zostają;
+	// każde zdarzenie to krótka transakcja upsertu z warunkiem na wersję, więc listener nie czeka na koniec przebudowy
+	public long rebuildReadModel() {
+		final long replayed = productEventSource.replay(productReadModelProjector::project);
+
+		log.info("Product read model rebuilt from {} events", replayed);
+		return replayed;
+	}
+}
@@ -0,0 +1,12 @@
+package com.kozubek.productapplication.command.dto;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record AdjustProductStockCommand(
+        UUID productId,
+        int delta
+) {
+}
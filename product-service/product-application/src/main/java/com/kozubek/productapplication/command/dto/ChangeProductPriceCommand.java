@@ -0,0 +1,14 @@
+package com.kozubek.productapplication.command.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Builder
+public record ChangeProductPriceCommand(
+        UUID productId,
+        BigDecimal price,
+        long expectedVersion
+) {
+}
@@ -0,0 +1,14 @@
+package com.kozubek.productapplication.command.dto;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+import lombok.Builder;
+
+import java.util.UUID;
+
+@Builder
+public record ChangeProductStatusCommand(
+        UUID productId,
+        ProductStatus status,
+        long expectedVersion
+) {
+}
@@ -4,9 +4,48 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "product-service")
 public class ProductServiceConfigProperties {
     private String productCreatedTopicName;
+    private String productUpdatedTopicName;
+    private String readModelGroupId = "product-service-read-model";
+    private EventSourcing eventSourcing = new EventSourcing();
+    private CodeFilter codeFilter = new CodeFilter();
+    private ReadReplicas readReplicas = new ReadReplicas();
+
+    @Data
+    public static class EventSourcing {
+        private boolean enabled = false;
+        private int snapshotEvery = 50;
+    }
+
+    @Data
+    public static class CodeFilter {
+        private long expectedCodes = 1_000_000;
+        private double falsePositiveRate = 0.01;
+        private int warmUpBatchSize = 10_000;
+    }
+
+    @Data
+    public static class ReadReplicas {
+        private boolean enabled = false;
+        // replika opóźniona bardziej niż max-lag nie dostaje zapytań, dopóki nie nadrobi
+        private Duration maxLag = Duration.ofSeconds(1);
+        private Duration lagCheckInterval = Duration.ofSeconds(1);
+        private int maximumPoolSize = 10;
+        private List<Replica> replicas = new ArrayList<>();
+    }
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
 }
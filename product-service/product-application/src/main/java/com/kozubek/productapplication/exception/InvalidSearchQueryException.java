@@ -0,0 +1,8 @@
+package com.kozubek.productapplication.exception;
+
+public class InvalidSearchQueryException extends RuntimeException {
+
+    public InvalidSearchQueryException(final String message) {
+        super(message);
+    }
+}
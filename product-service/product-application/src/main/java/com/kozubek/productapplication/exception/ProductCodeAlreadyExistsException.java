@@ -0,0 +1,12 @@
+package com.kozubek.productapplication.exception;
+
+public class ProductCodeAlreadyExistsException extends RuntimeException {
+
+    public ProductCodeAlreadyExistsException(final String message) {
+        super(message);
+    }
+
+    public ProductCodeAlreadyExistsException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
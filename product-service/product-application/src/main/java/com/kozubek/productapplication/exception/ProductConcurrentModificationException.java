@@ -0,0 +1,12 @@
+package com.kozubek.productapplication.exception;
+
+public class ProductConcurrentModificationException extends RuntimeException {
+
+    public ProductConcurrentModificationException(final String message) {
+        super(message);
+    }
+
+    public ProductConcurrentModificationException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.kozubek.productapplication.message.publisher;
+
+import com.kozubek.commonapplication.saga.PublisherMeesage;
+import com.kozubek.productdomain.event.ProductUpdatedEvent;
+
+public interface ProductUpdatedEventPublisher extends PublisherMeesage<ProductUpdatedEvent> {
+}
@@ -1,15 +1,26 @@
 package com.kozubek.productapplication.query;
 
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.productapplication.exception.ProductNotFoundException;
 import com.kozubek.productapplication.query.dto.ProductProjection;
 import com.kozubek.ddd.annotation.architecture.cqrs.QueryOperation;
 import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort;
 import com.kozubek.ddd.annotation.domaindrivendesign.ApplicationLayer;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.port.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @ApplicationLayer
 @Slf4j
@@ -20,9 +31,55 @@ import java.util.UUID;
 public class GetProductQueryHandler {
 
     private final ProductQueryRepository productQueryRepository;
+    private final ProductRepository productRepository;
 
+    // wersja ze strony zapisu to ta, której oczekuje warunkowy zapis (If-Match); model odczytu dogania ją asynchronicznie,
+    // więc brakujący albo starszy wiersz projekcji zastępuje produkt odczytany ze strony zapisu
     @Transactional(readOnly = true)
     public ProductProjection getProductById(final UUID productId) {
-        return productQueryRepository.getProductProjection(productId);
+        final long version = getProductVersion(productId)
+                .orElseThrow(() -> new ProductNotFoundException("Could not find product with id: " + productId));
+        final Optional<ProductProjection> projected = productQueryRepository.findProductProjection(productId);
+        if (projected.isPresent() && projected.get().version() != null && projected.get().version() == version) {
+            return projected.get();
+        }
+
+        log.debug("Read model of product {} is behind version {}, reading the write side", productId, version);
+        return productRepository.findById(new ProductId(productId))
+                .map(GetProductQueryHandler::productToProductProjection)
+                .orElseThrow(() -> new ProductNotFoundException("Could not find product with id: " + productId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductProjection> getProductsByIds(final List<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<UUID, ProductProjection> productsById = productQueryRepository.getProductProjections(new LinkedHashSet<>(productIds)).stream()
+                .collect(Collectors.toMap(ProductProjection::productId, Function.identity()));
+
+        return productIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> getProductVersion(final UUID productId) {
+        return productRepository.findVersion(new ProductId(productId));
+    }
+
+    private static ProductProjection productToProductProjection(final Product product) {
+        return ProductProjection.builder()
+                .productId(product.getId().id())
+                .userId(product.getUserId().id())
+                .status(product.getStatus())
+                .code(product.getCode())
+                .name(product.getName())
+                .price(product.getPrice().amount())
+                .quantity(product.getQuantity())
+                .version(product.getVersion())
+                .build();
     }
 }
@@ -2,8 +2,18 @@ package com.kozubek.productapplication.query;
 
 import com.kozubek.productapplication.query.dto.ProductProjection;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ProductQueryRepository {
-    ProductProjection getProductProjection(UUID productId);
+    Optional<ProductProjection> findProductProjection(UUID productId);
+
+    List<ProductProjection> getProductProjections(Collection<UUID> productIds);
+
+    // phrase: już przycięta i małymi literami; wyniki posortowane od najlepiej dopasowanych
+    List<ProductProjection> searchProducts(String phrase, long offset, int limit);
+
+    List<ProductProjection> searchProductsByPrefix(String phrase, long offset, int limit);
 }
@@ -0,0 +1,64 @@
+package com.kozubek.productapplication.query;
+
+import com.kozubek.ddd.annotation.architecture.cqrs.QueryOperation;
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort;
+import com.kozubek.ddd.annotation.domaindrivendesign.ApplicationLayer;
+import com.kozubek.productapplication.exception.InvalidSearchQueryException;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productapplication.query.dto.ProductSearchPage;
+import com.kozubek.productapplication.query.dto.SearchProductsQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+@ApplicationLayer
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@QueryOperation
+@DrivingPort
+public class SearchProductsQueryHandler {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_PHRASE_LENGTH = 100;
+    // indeks trigramowy pomaga dopiero od 3 znaków, krótsze frazy szukamy po prefiksie
+    static final int MIN_SUBSTRING_PHRASE_LENGTH = 3;
+
+    private final ProductQueryRepository productQueryRepository;
+
+    @Transactional(readOnly = true)
+    public ProductSearchPage searchProducts(final SearchProductsQuery query) {
+        final String phrase = normalize(query.phrase());
+        if (query.page() < 0) {
+            throw new InvalidSearchQueryException("Page must not be negative: " + query.page());
+        }
+        if (query.size() < 1 || query.size() > MAX_PAGE_SIZE) {
+            throw new InvalidSearchQueryException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + query.size());
+        }
+
+        final long offset = (long) query.page() * query.size();
+        // jeden wiersz więcej niż strona mówi, czy istnieje następna - bez COUNT(*) po wszystkich trafieniach
+        final int limit = query.size() + 1;
+        final List<ProductProjection> found = phrase.length() < MIN_SUBSTRING_PHRASE_LENGTH
+                ? productQueryRepository.searchProductsByPrefix(phrase, offset, limit)
+                : productQueryRepository.searchProducts(phrase, offset, limit);
+
+        final boolean hasNext = found.size() > query.size();
+        return new ProductSearchPage(hasNext ? found.subList(0, query.size()) : found, query.page(), query.size(), hasNext);
+    }
+
+    private static String normalize(final String phrase) {
+        final String normalized = phrase == null ? "" : phrase.strip().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            throw new InvalidSearchQueryException("Search phrase must not be blank");
+        }
+        if (normalized.length() > MAX_PHRASE_LENGTH) {
+            throw new InvalidSearchQueryException("Search phrase must not be longer than " + MAX_PHRASE_LENGTH + " characters");
+        }
+        return normalized;
+    }
+}
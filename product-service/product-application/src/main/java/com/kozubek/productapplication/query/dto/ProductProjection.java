@@ -14,6 +14,7 @@ public record ProductProjection(
         String code,
         String name,
         BigDecimal price,
-        Integer quantity
+        Integer quantity,
+        Long version
 ) {
 }
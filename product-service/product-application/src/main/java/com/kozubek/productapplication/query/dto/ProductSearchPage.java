@@ -0,0 +1,15 @@
+package com.kozubek.productapplication.query.dto;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results. There is no total count on purpose - counting every match of a short phrase
+ * in a large catalogue costs more than the page itself, so the client only learns whether a next page exists.
+ */
+public record ProductSearchPage(
+        List<ProductProjection> products,
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,11 @@
+package com.kozubek.productapplication.query.dto;
+
+import lombok.Builder;
+
+@Builder
+public record SearchProductsQuery(
+        String phrase,
+        int page,
+        int size
+) {
+}
@@ -0,0 +1,14 @@
+package com.kozubek.productapplication.query.readmodel;
+
+import com.kozubek.productapplication.query.dto.ProductProjection;
+
+import java.util.function.Consumer;
+
+public interface ProductEventSource {
+    /**
+     * Reads every retained product event from the beginning of the log up to the current end.
+     *
+     * @return number of events passed to {@code projection}
+     */
+    long replay(Consumer<ProductProjection> projection);
+}
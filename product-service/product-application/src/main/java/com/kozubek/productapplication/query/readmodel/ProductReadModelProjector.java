@@ -0,0 +1,26 @@
+package com.kozubek.productapplication.query.readmodel;
+
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivingPort;
+import com.kozubek.ddd.annotation.domaindrivendesign.ApplicationLayer;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@ApplicationLayer
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DrivingPort
+public class ProductReadModelProjector {
+
+    private final ProductReadModelRepository productReadModelRepository;
+
+    @Transactional
+    public void project(final ProductProjection projection) {
+        // upsert z warunkiem na wersję - powtórzone lub spóźnione zdarzenie nie cofa nowszego stanu
+        productReadModelRepository.upsert(projection);
+        log.debug("Product {} projected to read model at version {}", projection.productId(), projection.version());
+    }
+}
@@ -0,0 +1,7 @@
+package com.kozubek.productapplication.query.readmodel;
+
+import com.kozubek.productapplication.query.dto.ProductProjection;
+
+public interface ProductReadModelRepository {
+    void upsert(ProductProjection projection);
+}
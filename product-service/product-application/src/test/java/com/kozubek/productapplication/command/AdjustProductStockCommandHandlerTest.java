@@ -0,0 +1,102 @@
+package com.kozubek.productapplication.command;
+
+import com.kozubek.commondomain.vo.Money;
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.commondomain.vo.UserId;
+import com.kozubek.productapplication.command.dto.AdjustProductStockCommand;
+import com.kozubek.productapplication.exception.ProductNotFoundException;
+import com.kozubek.productapplication.message.publisher.ProductUpdatedEventPublisher;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.event.ProductUpdatedEvent;
+import com.kozubek.productdomain.exception.InsufficientStockException;
+import com.kozubek.productdomain.port.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdjustProductStockCommandHandler Tests")
+class AdjustProductStockCommandHandlerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductUpdatedEventPublisher publisher;
+
+    @InjectMocks
+    private AdjustProductStockCommandHandler commandHandler;
+
+    @Captor
+    private ArgumentCaptor<ProductUpdatedEvent> eventCaptor;
+
+    @Test
+    @DisplayName("Should apply the delta atomically in the repository and publish the adjusted product")
+    void shouldAdjustStock() {
+        // given
+        final UUID productId = UUID.randomUUID();
+        final Product adjusted = Product.builder()
+                .id(new ProductId(productId))
+                .userId(new UserId(UUID.randomUUID()))
+                .code("P-300")
+                .name("Reserved product")
+                .price(new Money(BigDecimal.TEN))
+                .quantity(7)
+                .status(ProductStatus.LAST_PIECES)
+                .version(12L)
+                .build();
+        when(productRepository.adjustStock(new ProductId(productId), -3)).thenReturn(Optional.of(adjusted));
+
+        // when
+        final long version = commandHandler.adjustStock(new AdjustProductStockCommand(productId, -3));
+
+        // then
+        assertThat(version).isEqualTo(12L);
+        verify(publisher).publish(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getProduct()).isSameAs(adjusted);
+    }
+
+    @Test
+    @DisplayName("Should throw ProductNotFoundException when product does not exist")
+    void shouldThrowWhenProductMissing() {
+        // given
+        final UUID productId = UUID.randomUUID();
+        when(productRepository.adjustStock(new ProductId(productId), 5)).thenReturn(Optional.empty());
+
+        // when / then
+        assertThatThrownBy(() -> commandHandler.adjustStock(new AdjustProductStockCommand(productId, 5)))
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining(productId.toString());
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("Should not publish anything when stock is insufficient")
+    void shouldNotPublishWhenStockInsufficient() {
+        // given
+        final UUID productId = UUID.randomUUID();
+        when(productRepository.adjustStock(new ProductId(productId), -100))
+                .thenThrow(new InsufficientStockException("Insufficient stock of product " + productId));
+
+        // when / then
+        assertThatThrownBy(() -> commandHandler.adjustStock(new AdjustProductStockCommand(productId, -100)))
+                .isInstanceOf(InsufficientStockException.class);
+        verifyNoInteractions(publisher);
+    }
+}
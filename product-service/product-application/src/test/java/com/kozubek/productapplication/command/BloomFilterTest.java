@@ -0,0 +1,51 @@
+package com.kozubek.productapplication.command;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter Unit Tests")
+class BloomFilterTest {
+
+    private static final int CODES = 100_000;
+
+    @Test
+    @DisplayName("Should never report an added code as absent")
+    void shouldHaveNoFalseNegatives() {
+        // given
+        final BloomFilter filter = new BloomFilter(CODES, 0.01);
+
+        // when
+        IntStream.range(0, CODES).forEach(i -> filter.put("WH-" + i));
+
+        // then
+        assertThat(IntStream.range(0, CODES).allMatch(i -> filter.mightContain("WH-" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured one at full capacity")
+    void shouldKeepFalsePositiveRateNearConfigured() {
+        // given
+        final BloomFilter filter = new BloomFilter(CODES, 0.01);
+        IntStream.range(0, CODES).forEach(i -> filter.put("WH-" + i));
+
+        // when
+        final long falsePositives = IntStream.range(0, CODES).filter(i -> filter.mightContain("NEW-" + i)).count();
+
+        // then
+        assertThat((double) falsePositives / CODES).isLessThan(0.015);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should reject a false positive rate outside (0, 1)")
+    void shouldRejectInvalidFalsePositiveRate() {
+        // when / then
+        assertThatThrownBy(() -> new BloomFilter(CODES, 1.0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(CODES, 0.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
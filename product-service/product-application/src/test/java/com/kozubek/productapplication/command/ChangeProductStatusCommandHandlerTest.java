@@ -0,0 +1,134 @@
+package com.kozubek.productapplication.command;
+
+import com.kozubek.commondomain.vo.Money;
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.commondomain.vo.UserId;
+import com.kozubek.productapplication.command.dto.ChangeProductStatusCommand;
+import com.kozubek.productapplication.exception.ProductConcurrentModificationException;
+import com.kozubek.productapplication.exception.ProductNotFoundException;
+import com.kozubek.productapplication.message.publisher.ProductUpdatedEventPublisher;
+import com.kozubek.productdomain.ProductDomainService;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.event.ProductUpdatedEvent;
+import com.kozubek.productdomain.exception.ProductDomainException;
+import com.kozubek.productdomain.port.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeProductStatusCommandHandler Tests")
+class ChangeProductStatusCommandHandlerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductUpdatedEventPublisher publisher;
+
+    @Captor
+    private ArgumentCaptor<ProductUpdatedEvent> eventCaptor;
+
+    private ChangeProductStatusCommandHandler commandHandler;
+
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        commandHandler = new ChangeProductStatusCommandHandler(
+                new ProductDomainService(), productRepository, publisher, new ProductVersionGuard(productRepository));
+        productId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should withdraw the product from sale and publish it with its new version")
+    void shouldChangeStatus() {
+        // given
+        when(productRepository.findById(new ProductId(productId))).thenReturn(Optional.of(product(3L)));
+        when(productRepository.update(any(Product.class))).thenAnswer(invocation -> {
+            final Product saved = invocation.getArgument(0);
+            return Product.rehydrate(saved.toSnapshot(), List.of(), saved.getVersion() + 1);
+        });
+
+        // when
+        final long version = commandHandler.changeStatus(new ChangeProductStatusCommand(productId, ProductStatus.NOT_AVAILABLE, 3L));
+
+        // then
+        assertThat(version).isEqualTo(4L);
+        verify(publisher).publish(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getProduct().getStatus()).isEqualTo(ProductStatus.NOT_AVAILABLE);
+        assertThat(eventCaptor.getValue().getProduct().getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Should reject a status that does not match the stock without writing or publishing")
+    void shouldRejectStatusNotMatchingStock() {
+        // given
+        when(productRepository.findById(new ProductId(productId))).thenReturn(Optional.of(product(3L)));
+
+        // when / then
+        assertThatThrownBy(() -> commandHandler.changeStatus(new ChangeProductStatusCommand(productId, ProductStatus.LAST_PIECES, 3L)))
+                .isInstanceOf(ProductDomainException.class)
+                .hasMessageContaining("LAST_PIECES");
+        verify(productRepository, never()).update(any(Product.class));
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("Should reject a stale expected version without writing or publishing")
+    void shouldRejectStaleVersion() {
+        // given
+        when(productRepository.findById(new ProductId(productId))).thenReturn(Optional.of(product(5L)));
+
+        // when / then
+        assertThatThrownBy(() -> commandHandler.changeStatus(new ChangeProductStatusCommand(productId, ProductStatus.NOT_AVAILABLE, 3L)))
+                .isInstanceOf(ProductConcurrentModificationException.class)
+                .hasMessageContaining("version 5, expected 3");
+        verify(productRepository, never()).update(any(Product.class));
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("Should throw ProductNotFoundException when product does not exist")
+    void shouldThrowWhenProductMissing() {
+        // given
+        when(productRepository.findById(new ProductId(productId))).thenReturn(Optional.empty());
+
+        // when / then
+        assertThatThrownBy(() -> commandHandler.changeStatus(new ChangeProductStatusCommand(productId, ProductStatus.NOT_AVAILABLE, 0L)))
+                .isInstanceOf(ProductNotFoundException.class);
+        verifyNoInteractions(publisher);
+    }
+
+    private Product product(final long version) {
+        return Product.builder()
+                .id(new ProductId(productId))
+                .userId(new UserId(UUID.randomUUID()))
+                .code("P-300")
+                .name("Status product")
+                .price(new Money(BigDecimal.valueOf(19.90)))
+                .quantity(30)
+                .status(ProductStatus.AVAILABLE)
+                .version(version)
+                .build();
+    }
+}
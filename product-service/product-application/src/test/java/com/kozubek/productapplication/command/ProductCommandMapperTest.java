@@ -20,7 +20,7 @@ class ProductCommandMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new ProductCommandMapper();
+        mapper = new ProductCommandMapperImpl();
     }
 
     @Test
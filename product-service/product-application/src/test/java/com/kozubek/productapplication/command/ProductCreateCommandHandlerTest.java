@@ -4,6 +4,7 @@ import com.kozubek.commondomain.vo.Money;
 import com.kozubek.commondomain.vo.ProductId;
 import com.kozubek.commondomain.vo.UserId;
 import com.kozubek.productapplication.command.dto.CreateProductCommand;
+import com.kozubek.productapplication.exception.ProductCodeAlreadyExistsException;
 import com.kozubek.productapplication.message.publisher.ProductCreatedEventPublisher;
 import com.kozubek.productdomain.ProductDomainService;
 import com.kozubek.productdomain.core.Product;
@@ -42,6 +43,9 @@ class ProductCreateCommandHandlerTest {
     @Mock
     private ProductCreatedEventPublisher publisher;
 
+    @Mock
+    private ProductCodeFilter productCodeFilter;
+
     @InjectMocks
     private ProductCreateCommandHandler commandHandler;
 
@@ -64,6 +68,7 @@ class ProductCreateCommandHandlerTest {
                 .price(BigDecimal.valueOf(100.00))
                 .quantity(20)
                 .build();
+        lenient().when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Test
@@ -100,7 +105,40 @@ class ProductCreateCommandHandlerTest {
         // Verify output operations
         verify(productRepository, times(1)).save(capturedProduct);
         verify(publisher, times(1)).publish(eventCaptor.capture());
-        assertThat(eventCaptor.getValue()).isEqualTo(event);
+        assertThat(eventCaptor.getValue().getProduct()).isSameAs(capturedProduct);
+        assertThat(eventCaptor.getValue().getCreatedAt()).isEqualTo(event.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should publish the product with the version returned by the repository")
+    void shouldPublishStoredVersion() {
+        // given
+        final Product product = Product.builder()
+                .id(expectedProductId)
+                .userId(new UserId(validCommand.userId()))
+                .code(validCommand.code())
+                .name(validCommand.name())
+                .price(new Money(validCommand.price()))
+                .quantity(validCommand.quantity())
+                .build();
+        final Product stored = Product.builder()
+                .id(expectedProductId)
+                .userId(new UserId(validCommand.userId()))
+                .code(validCommand.code())
+                .name(validCommand.name())
+                .price(new Money(validCommand.price()))
+                .quantity(validCommand.quantity())
+                .version(1L)
+                .build();
+        when(productDomainService.create(any(Product.class))).thenReturn(new ProductCreatedEvent(product, Instant.now()));
+        when(productRepository.save(any(Product.class))).thenReturn(stored);
+
+        // when
+        commandHandler.createProduct(validCommand);
+
+        // then
+        verify(publisher).publish(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getProduct().getVersion()).isEqualTo(1L);
     }
 
     @Test
@@ -277,4 +315,44 @@ class ProductCreateCommandHandlerTest {
         verify(productRepository).save(any(Product.class));
         verify(publisher).publish(any(ProductCreatedEvent.class));
     }
+
+    @Test
+    @DisplayName("Should reject a duplicate code before the domain service and the repository are called")
+    void shouldRejectDuplicateCode() {
+        // given
+        when(productCodeFilter.exists("PROD-001")).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> commandHandler.createProduct(validCommand))
+                .isInstanceOf(ProductCodeAlreadyExistsException.class)
+                .hasMessageContaining("PROD-001");
+
+        verify(productDomainService, never()).create(any(Product.class));
+        verify(productRepository, never()).save(any(Product.class));
+        verify(productCodeFilter, never()).add(any());
+    }
+
+    @Test
+    @DisplayName("Should add the code to the filter once the product is saved")
+    void shouldAddCodeToFilterAfterSave() {
+        // given
+        final Product product = Product.builder()
+                .id(expectedProductId)
+                .userId(new UserId(validCommand.userId()))
+                .code(validCommand.code())
+                .name(validCommand.name())
+                .price(new Money(validCommand.price()))
+                .quantity(validCommand.quantity())
+                .build();
+        when(productDomainService.create(any(Product.class))).thenReturn(new ProductCreatedEvent(product, Instant.now()));
+
+        // when
+        commandHandler.createProduct(validCommand);
+
+        // then
+        final var inOrder = inOrder(productCodeFilter, productRepository);
+        inOrder.verify(productCodeFilter).exists("PROD-001");
+        inOrder.verify(productRepository).save(any(Product.class));
+        inOrder.verify(productCodeFilter).add("PROD-001");
+    }
 }
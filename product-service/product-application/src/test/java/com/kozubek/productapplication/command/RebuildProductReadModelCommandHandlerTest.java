@@ -0,0 +1,74 @@
+package com.kozubek.productapplication.command;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productapplication.query.readmodel.ProductEventSource;
+import com.kozubek.productapplication.query.readmodel.ProductReadModelProjector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RebuildProductReadModelCommandHandler Tests")
+class RebuildProductReadModelCommandHandlerTest {
+
+    @Mock
+    private ProductReadModelProjector productReadModelProjector;
+
+    @Mock
+    private ProductEventSource productEventSource;
+
+    @InjectMocks
+    private RebuildProductReadModelCommandHandler commandHandler;
+
+    @Test
+    @DisplayName("Should project every replayed event without clearing the read model")
+    void shouldProjectEveryReplayedEventWithoutClearingReadModel() {
+        // given
+        final ProductProjection first = projection(0L);
+        final ProductProjection second = projection(0L);
+        when(productEventSource.replay(any())).thenAnswer(invocation -> {
+            final Consumer<ProductProjection> projection = invocation.getArgument(0);
+            projection.accept(first);
+            projection.accept(second);
+            return 2L;
+        });
+
+        // when
+        final long replayed = commandHandler.rebuildReadModel();
+
+        // then
+        assertThat(replayed).isEqualTo(2L);
+        final InOrder order = inOrder(productReadModelProjector);
+        order.verify(productReadModelProjector).project(first);
+        order.verify(productReadModelProjector).project(second);
+        verifyNoMoreInteractions(productReadModelProjector);
+    }
+
+    private static ProductProjection projection(final Long version) {
+        return ProductProjection.builder()
+                .productId(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .status(ProductStatus.AVAILABLE)
+                .code("PROD-001")
+                .name("Test Product")
+                .price(BigDecimal.valueOf(100.00))
+                .quantity(20)
+                .version(version)
+                .build();
+    }
+}
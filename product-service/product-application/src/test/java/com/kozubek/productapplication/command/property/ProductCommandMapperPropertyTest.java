@@ -3,6 +3,7 @@ package com.kozubek.productapplication.command.property;
 import com.kozubek.commondomain.vo.Money;
 import com.kozubek.commondomain.vo.UserId;
 import com.kozubek.productapplication.command.ProductCommandMapper;
+import com.kozubek.productapplication.command.ProductCommandMapperImpl;
 import com.kozubek.productapplication.command.dto.CreateProductCommand;
 import com.kozubek.productdomain.core.Product;
 import net.jqwik.api.*;
@@ -18,7 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @PropertyDefaults(tries = 100)
 class ProductCommandMapperPropertyTest {
 
-    private final ProductCommandMapper mapper = new ProductCommandMapper();
+    private final ProductCommandMapper mapper = new ProductCommandMapperImpl();
 
     @Property
     @Label("Mapper always preserves userId from command")
@@ -1,7 +1,13 @@
 package com.kozubek.productapplication.query;
 
+import com.kozubek.commondomain.vo.Money;
+import com.kozubek.commondomain.vo.ProductId;
 import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.commondomain.vo.UserId;
+import com.kozubek.productapplication.exception.ProductNotFoundException;
 import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productdomain.core.Product;
+import com.kozubek.productdomain.port.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +17,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +34,9 @@ class GetProductQueryHandlerTest {
     @Mock
     private ProductQueryRepository productQueryRepository;
 
+    @Mock
+    private ProductRepository productRepository;
+
     @InjectMocks
     private GetProductQueryHandler queryHandler;
 
@@ -42,6 +54,7 @@ class GetProductQueryHandlerTest {
                 .name("Test Product")
                 .price(BigDecimal.valueOf(100.00))
                 .quantity(20)
+                .version(1L)
                 .build();
     }
 
@@ -49,7 +62,7 @@ class GetProductQueryHandlerTest {
     @DisplayName("Should get product projection by ID successfully")
     void shouldGetProductProjectionByIdSuccessfully() {
         // given
-        when(productQueryRepository.getProductProjection(productId)).thenReturn(expectedProjection);
+        givenProjected(productId, expectedProjection);
 
         // when
         final ProductProjection result = queryHandler.getProductById(productId);
@@ -64,20 +77,20 @@ class GetProductQueryHandlerTest {
         assertThat(result.quantity()).isEqualTo(20);
         assertThat(result.status()).isEqualTo(ProductStatus.AVAILABLE);
 
-        verify(productQueryRepository, times(1)).getProductProjection(productId);
+        verify(productQueryRepository, times(1)).findProductProjection(productId);
     }
 
     @Test
     @DisplayName("Should delegate to repository for data retrieval")
     void shouldDelegateToRepositoryForDataRetrieval() {
         // given
-        when(productQueryRepository.getProductProjection(productId)).thenReturn(expectedProjection);
+        givenProjected(productId, expectedProjection);
 
         // when
         queryHandler.getProductById(productId);
 
         // then
-        verify(productQueryRepository, times(1)).getProductProjection(productId);
+        verify(productQueryRepository, times(1)).findProductProjection(productId);
         verifyNoMoreInteractions(productQueryRepository);
     }
 
@@ -93,9 +106,10 @@ class GetProductQueryHandlerTest {
                 .name("Out of Stock Product")
                 .price(BigDecimal.valueOf(50.00))
                 .quantity(0)
+                .version(1L)
                 .build();
 
-        when(productQueryRepository.getProductProjection(productId)).thenReturn(outOfStockProjection);
+        givenProjected(productId, outOfStockProjection);
 
         // when
         final ProductProjection result = queryHandler.getProductById(productId);
@@ -106,18 +120,57 @@ class GetProductQueryHandlerTest {
     }
 
     @Test
-    @DisplayName("Should propagate exception when repository throws exception")
-    void shouldPropagateExceptionWhenRepositoryThrowsException() {
-        // given
-        when(productQueryRepository.getProductProjection(any(UUID.class)))
-                .thenThrow(new RuntimeException("Product not found"));
+    @DisplayName("Should throw not found when the write side has no such product")
+    void shouldThrowNotFoundWhenWriteSideHasNoProduct() {
+        // given - wiersz modelu odczytu bez produktu po stronie zapisu nie jest zwracany
+        when(productRepository.findVersion(new ProductId(productId))).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> queryHandler.getProductById(productId))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Product not found");
+                .isInstanceOf(ProductNotFoundException.class)
+                .hasMessageContaining(productId.toString());
+
+        verifyNoInteractions(productQueryRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the write side when the read model has no row yet")
+    void shouldReadWriteSideWhenReadModelHasNoRow() {
+        // given
+        final Product product = product(productId, 1L);
+        when(productRepository.findVersion(new ProductId(productId))).thenReturn(Optional.of(1L));
+        when(productQueryRepository.findProductProjection(productId)).thenReturn(Optional.empty());
+        when(productRepository.findById(new ProductId(productId))).thenReturn(Optional.of(product));
+
+        // when
+        final ProductProjection result = queryHandler.getProductById(productId);
+
+        // then
+        assertThat(result).isEqualTo(ProductProjection.builder()
+                .productId(productId)
+                .userId(product.getUserId().id())
+                .status(ProductStatus.AVAILABLE)
+                .code("PROD-001")
+                .name("Test Product")
+                .price(BigDecimal.valueOf(100.00))
+                .quantity(20)
+                .version(1L)
+                .build());
+    }
 
-        verify(productQueryRepository, times(1)).getProductProjection(productId);
+    @Test
+    @DisplayName("Should read the write side when the read model is behind")
+    void shouldReadWriteSideWhenReadModelIsBehind() {
+        // given - PUT zwrócił ETag wersji 2, projekcja jest jeszcze w wersji 1
+        when(productRepository.findVersion(new ProductId(productId))).thenReturn(Optional.of(2L));
+        when(productQueryRepository.findProductProjection(productId)).thenReturn(Optional.of(expectedProjection));
+        when(productRepository.findById(new ProductId(productId))).thenReturn(Optional.of(product(productId, 2L)));
+
+        // when
+        final ProductProjection result = queryHandler.getProductById(productId);
+
+        // then
+        assertThat(result.version()).isEqualTo(2L);
     }
 
     @Test
@@ -135,6 +188,7 @@ class GetProductQueryHandlerTest {
                 .name("Product 1")
                 .price(BigDecimal.valueOf(100.00))
                 .quantity(20)
+                .version(1L)
                 .build();
 
         final ProductProjection projection2 = ProductProjection.builder()
@@ -145,10 +199,11 @@ class GetProductQueryHandlerTest {
                 .name("Product 2")
                 .price(BigDecimal.valueOf(200.00))
                 .quantity(30)
+                .version(1L)
                 .build();
 
-        when(productQueryRepository.getProductProjection(productId1)).thenReturn(projection1);
-        when(productQueryRepository.getProductProjection(productId2)).thenReturn(projection2);
+        givenProjected(productId1, projection1);
+        givenProjected(productId2, projection2);
 
         // when
         final ProductProjection result1 = queryHandler.getProductById(productId1);
@@ -157,8 +212,8 @@ class GetProductQueryHandlerTest {
         // then
         assertThat(result1).isEqualTo(projection1);
         assertThat(result2).isEqualTo(projection2);
-        verify(productQueryRepository, times(1)).getProductProjection(productId1);
-        verify(productQueryRepository, times(1)).getProductProjection(productId2);
+        verify(productQueryRepository, times(1)).findProductProjection(productId1);
+        verify(productQueryRepository, times(1)).findProductProjection(productId2);
     }
 
     @Test
@@ -174,9 +229,10 @@ class GetProductQueryHandlerTest {
                 .name("Complete Product")
                 .price(BigDecimal.valueOf(999.99))
                 .quantity(100)
+                .version(1L)
                 .build();
 
-        when(productQueryRepository.getProductProjection(productId)).thenReturn(completeProjection);
+        givenProjected(productId, completeProjection);
 
         // when
         final ProductProjection result = queryHandler.getProductById(productId);
@@ -203,9 +259,10 @@ class GetProductQueryHandlerTest {
                 .name("Cheap Product")
                 .price(BigDecimal.valueOf(0.01))
                 .quantity(15)
+                .version(1L)
                 .build();
 
-        when(productQueryRepository.getProductProjection(productId)).thenReturn(cheapProjection);
+        givenProjected(productId, cheapProjection);
 
         // when
         final ProductProjection result = queryHandler.getProductById(productId);
@@ -226,9 +283,10 @@ class GetProductQueryHandlerTest {
                 .name("Bulk Product")
                 .price(BigDecimal.valueOf(10.00))
                 .quantity(10000)
+                .version(1L)
                 .build();
 
-        when(productQueryRepository.getProductProjection(productId)).thenReturn(bulkProjection);
+        givenProjected(productId, bulkProjection);
 
         // when
         final ProductProjection result = queryHandler.getProductById(productId);
@@ -236,4 +294,90 @@ class GetProductQueryHandlerTest {
         // then
         assertThat(result.quantity()).isEqualTo(10000);
     }
+
+    @Test
+    @DisplayName("Should return product version without loading projection")
+    void shouldReturnProductVersionWithoutLoadingProjection() {
+        // given
+        when(productRepository.findVersion(new ProductId(productId))).thenReturn(Optional.of(5L));
+
+        // when
+        final Optional<Long> result = queryHandler.getProductVersion(productId);
+
+        // then
+        assertThat(result).contains(5L);
+        verify(productRepository, times(1)).findVersion(new ProductId(productId));
+        verifyNoInteractions(productQueryRepository);
+    }
+
+    @Test
+    @DisplayName("Should return empty version for unknown product")
+    void shouldReturnEmptyVersionForUnknownProduct() {
+        // given
+        when(productRepository.findVersion(new ProductId(productId))).thenReturn(Optional.empty());
+
+        // when
+        final Optional<Long> result = queryHandler.getProductVersion(productId);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve many products with a single repository call in request order")
+    void shouldResolveManyProductsWithSingleRepositoryCallInRequestOrder() {
+        // given
+        final UUID secondProductId = UUID.randomUUID();
+        final UUID missingProductId = UUID.randomUUID();
+        final ProductProjection secondProjection = ProductProjection.builder()
+                .productId(secondProductId)
+                .userId(UUID.randomUUID())
+                .status(ProductStatus.LAST_PIECES)
+                .code("PROD-002")
+                .name("Second Product")
+                .price(BigDecimal.valueOf(10.00))
+                .quantity(3)
+                .version(1L)
+                .build();
+
+        when(productQueryRepository.getProductProjections(Set.of(secondProductId, missingProductId, productId)))
+                .thenReturn(List.of(expectedProjection, secondProjection));
+
+        // when
+        final List<ProductProjection> result = queryHandler.getProductsByIds(List.of(secondProductId, missingProductId, productId, secondProductId));
+
+        // then
+        assertThat(result).containsExactly(secondProjection, expectedProjection, secondProjection);
+        verify(productQueryRepository, times(1)).getProductProjections(any());
+        verifyNoMoreInteractions(productQueryRepository);
+    }
+
+    @Test
+    @DisplayName("Should not query repository for empty lookup")
+    void shouldNotQueryRepositoryForEmptyLookup() {
+        // when
+        final List<ProductProjection> result = queryHandler.getProductsByIds(List.of());
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(productQueryRepository);
+    }
+
+    private void givenProjected(final UUID id, final ProductProjection projection) {
+        when(productRepository.findVersion(new ProductId(id))).thenReturn(Optional.of(projection.version()));
+        when(productQueryRepository.findProductProjection(id)).thenReturn(Optional.of(projection));
+    }
+
+    private static Product product(final UUID id, final long version) {
+        return Product.builder()
+                .id(new ProductId(id))
+                .userId(new UserId(UUID.randomUUID()))
+                .code("PROD-001")
+                .name("Test Product")
+                .price(new Money(BigDecimal.valueOf(100.00)))
+                .quantity(20)
+                .status(ProductStatus.AVAILABLE)
+                .version(version)
+                .build();
+    }
 }
@@ -0,0 +1,94 @@
+package com.kozubek.productapplication.query;
+
+import com.kozubek.productapplication.exception.InvalidSearchQueryException;
+import com.kozubek.productapplication.query.dto.ProductProjection;
+import com.kozubek.productapplication.query.dto.ProductSearchPage;
+import com.kozubek.productapplication.query.dto.SearchProductsQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchProductsQueryHandler Tests")
+class SearchProductsQueryHandlerTest {
+
+    @Mock
+    private ProductQueryRepository productQueryRepository;
+
+    @InjectMocks
+    private SearchProductsQueryHandler queryHandler;
+
+    @Test
+    @DisplayName("Should normalise the phrase and ask for one row more than the page to detect the next page")
+    void shouldRequestOneExtraRow() {
+        // given
+        when(productQueryRepository.searchProducts("steel bolt", 40, 21)).thenReturn(products(21));
+
+        // when
+        final ProductSearchPage page = queryHandler.searchProducts(new SearchProductsQuery("  Steel BOLT ", 2, 20));
+
+        // then
+        assertThat(page.products()).hasSize(20);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.page()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report the last page when fewer rows than requested come back")
+    void shouldReportLastPage() {
+        // given
+        when(productQueryRepository.searchProducts("hinge", 0, 11)).thenReturn(products(4));
+
+        // when
+        final ProductSearchPage page = queryHandler.searchProducts(new SearchProductsQuery("hinge", 0, 10));
+
+        // then
+        assertThat(page.products()).hasSize(4);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fall back to prefix search for phrases shorter than a trigram")
+    void shouldUsePrefixSearchForShortPhrases() {
+        // given
+        when(productQueryRepository.searchProductsByPrefix("wh", 0, 21)).thenReturn(List.of());
+
+        // when
+        queryHandler.searchProducts(new SearchProductsQuery("WH", 0, 20));
+
+        // then
+        verify(productQueryRepository).searchProductsByPrefix("wh", 0, 21);
+    }
+
+    @Test
+    @DisplayName("Should reject blank phrases and oversized pages before querying")
+    void shouldRejectInvalidQueries() {
+        // when / then
+        assertThatThrownBy(() -> queryHandler.searchProducts(new SearchProductsQuery("   ", 0, 20)))
+                .isInstanceOf(InvalidSearchQueryException.class);
+        assertThatThrownBy(() -> queryHandler.searchProducts(new SearchProductsQuery("bolt", 0, SearchProductsQueryHandler.MAX_PAGE_SIZE + 1)))
+                .isInstanceOf(InvalidSearchQueryException.class);
+        assertThatThrownBy(() -> queryHandler.searchProducts(new SearchProductsQuery("bolt", -1, 20)))
+                .isInstanceOf(InvalidSearchQueryException.class);
+        verifyNoInteractions(productQueryRepository);
+    }
+
+    private static List<ProductProjection> products(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ProductProjection.builder().productId(UUID.randomUUID()).code("WH-" + i).name("Product " + i).build())
+                .toList();
+    }
+}
@@ -1,8 +1,11 @@
 package com.kozubek.productdomain;
 
+import com.kozubek.commondomain.vo.Money;
+import com.kozubek.commondomain.vo.ProductStatus;
 import com.kozubek.ddd.annotation.domaindrivendesign.DomainService;
 import com.kozubek.productdomain.core.Product;
 import com.kozubek.productdomain.event.ProductCreatedEvent;
+import com.kozubek.productdomain.event.ProductUpdatedEvent;
 
 import java.time.Instant;
 
@@ -13,4 +16,14 @@ public class ProductDomainService {
 		product.validate();
 		return new ProductCreatedEvent(product, Instant.now());
 	}
+
+	public ProductUpdatedEvent changePrice(final Product product, final Money newPrice) {
+		product.changePrice(newPrice);
+		return new ProductUpdatedEvent(product, Instant.now());
+	}
+
+	public ProductUpdatedEvent changeStatus(final Product product, final ProductStatus newStatus) {
+		product.changeStatus(newStatus);
+		return new ProductUpdatedEvent(product, Instant.now());
+	}
 }
@@ -5,11 +5,20 @@ import com.kozubek.commondomain.vo.ProductId;
 import com.kozubek.commondomain.vo.ProductStatus;
 import com.kozubek.commondomain.vo.UserId;
 import com.kozubek.ddd.annotation.domaindrivendesign.AggregateRoot;
+import com.kozubek.productdomain.event.ProductChange;
+import com.kozubek.productdomain.event.ProductPriceChanged;
+import com.kozubek.productdomain.event.ProductRegistered;
+import com.kozubek.productdomain.event.ProductStatusChanged;
+import com.kozubek.productdomain.event.ProductStockChanged;
+import com.kozubek.productdomain.exception.InsufficientStockException;
 import com.kozubek.productdomain.exception.ProductDomainException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @AggregateRoot
@@ -18,6 +27,8 @@ import java.util.UUID;
 @Getter
 public class Product {
 
+    public static final int LAST_PIECES_THRESHOLD = 10;
+
     private ProductId id;
     private UserId userId;
     private String code;
@@ -25,6 +36,14 @@ public class Product {
     private Money price;
     private int quantity;
     private ProductStatus status;
+    private Long version;
+
+    public static ProductStatus statusForQuantity(final int quantity) {
+        if (quantity == 0) {
+            return ProductStatus.NOT_AVAILABLE;
+        }
+        return quantity < LAST_PIECES_THRESHOLD ? ProductStatus.LAST_PIECES : ProductStatus.AVAILABLE;
+    }
 
     public void initialize() {
         id = new ProductId(UUID.randomUUID());
@@ -55,4 +74,91 @@ public class Product {
             throw new ProductDomainException("Product quantity: " + quantity + " must be greater than 10");
         }
     }
+
+    public void changePrice(final Money newPrice) {
+        price = newPrice;
+        validatePrice();
+    }
+
+    public void adjustStock(final int delta) {
+        final int newQuantity = quantity + delta;
+        if (newQuantity < 0) {
+            throw new InsufficientStockException("Insufficient stock of product " + id.id() + ": " + quantity + " left, " + -delta + " requested");
+        }
+        // produkt ręcznie wycofany ze sprzedaży (NOT_AVAILABLE przy niezerowym stanie) pozostaje wycofany
+        final boolean withdrawn = status == ProductStatus.NOT_AVAILABLE && quantity > 0;
+        quantity = newQuantity;
+        status = withdrawn ? ProductStatus.NOT_AVAILABLE : statusForQuantity(newQuantity);
+    }
+
+    public void changeStatus(final ProductStatus newStatus) {
+        // wycofanie ze sprzedaży zawsze dozwolone, pozostałe statusy muszą wynikać ze stanu magazynu
+        if (newStatus != ProductStatus.NOT_AVAILABLE && newStatus != statusForQuantity(quantity)) {
+            throw new ProductDomainException("Product status " + newStatus + " does not match stock quantity " + quantity);
+        }
+        status = newStatus;
+    }
+
+    public static Product rehydrate(final ProductSnapshot snapshot, final List<? extends ProductChange> changes) {
+        final Product product = snapshot != null ? fromSnapshot(snapshot) : Product.builder().build();
+        changes.forEach(product::apply);
+        return product;
+    }
+
+    public static Product rehydrate(final ProductSnapshot snapshot, final List<? extends ProductChange> changes, final long version) {
+        final Product product = rehydrate(snapshot, changes);
+        product.version = version;
+        return product;
+    }
+
+    public void apply(final ProductChange change) {
+        switch (change) {
+            case ProductRegistered registered -> {
+                id = new ProductId(registered.productId());
+                userId = new UserId(registered.userId());
+                code = registered.code();
+                name = registered.name();
+                price = new Money(registered.price());
+                quantity = registered.quantity();
+                status = registered.status();
+            }
+            case ProductPriceChanged priceChanged -> price = new Money(priceChanged.price());
+            case ProductStockChanged stockChanged -> quantity = stockChanged.quantity();
+            case ProductStatusChanged statusChanged -> status = statusChanged.status();
+        }
+    }
+
+    public List<ProductChange> changesSince(final Product previous) {
+        if (previous == null) {
+            return List.of(new ProductRegistered(id.id(), userId.id(), code, name, price.amount(), quantity, status));
+        }
+
+        final List<ProductChange> changes = new ArrayList<>();
+        if (!Objects.equals(price, previous.price)) {
+            changes.add(new ProductPriceChanged(price.amount()));
+        }
+        if (quantity != previous.quantity) {
+            changes.add(new ProductStockChanged(quantity));
+        }
+        if (status != previous.status) {
+            changes.add(new ProductStatusChanged(status));
+        }
+        return changes;
+    }
+
+    public ProductSnapshot toSnapshot() {
+        return new ProductSnapshot(id.id(), userId.id(), code, name, price.amount(), quantity, status);
+    }
+
+    private static Product fromSnapshot(final ProductSnapshot snapshot) {
+        return Product.builder()
+                .id(new ProductId(snapshot.productId()))
+                .userId(new UserId(snapshot.userId()))
+                .code(snapshot.code())
+                .name(snapshot.name())
+                .price(new Money(snapshot.price()))
+                .quantity(snapshot.quantity())
+                .status(snapshot.status())
+                .build();
+    }
 }
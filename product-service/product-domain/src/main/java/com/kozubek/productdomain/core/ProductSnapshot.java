@@ -0,0 +1,10 @@
+package com.kozubek.productdomain.core;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ProductSnapshot(UUID productId, UUID userId, String code, String name, BigDecimal price, int quantity,
+                              ProductStatus status) {
+}
@@ -0,0 +1,8 @@
+package com.kozubek.productdomain.event;
+
+/**
+ * State transition of the {@code Product} aggregate as stored in the event store; replaying all changes of a product
+ * in version order rebuilds its current state.
+ */
+public sealed interface ProductChange permits ProductRegistered, ProductPriceChanged, ProductStockChanged, ProductStatusChanged {
+}
@@ -0,0 +1,9 @@
+package com.kozubek.productdomain.event;
+
+import com.kozubek.ddd.annotation.domaindrivendesign.DomainEvent;
+
+import java.math.BigDecimal;
+
+@DomainEvent
+public record ProductPriceChanged(BigDecimal price) implements ProductChange {
+}
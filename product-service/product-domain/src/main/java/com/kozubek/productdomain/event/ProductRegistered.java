@@ -0,0 +1,12 @@
+package com.kozubek.productdomain.event;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.ddd.annotation.domaindrivendesign.DomainEvent;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@DomainEvent
+public record ProductRegistered(UUID productId, UUID userId, String code, String name, BigDecimal price, int quantity,
+                                ProductStatus status) implements ProductChange {
+}
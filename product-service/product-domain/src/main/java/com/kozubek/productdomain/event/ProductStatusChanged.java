@@ -0,0 +1,8 @@
+package com.kozubek.productdomain.event;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.ddd.annotation.domaindrivendesign.DomainEvent;
+
+@DomainEvent
+public record ProductStatusChanged(ProductStatus status) implements ProductChange {
+}
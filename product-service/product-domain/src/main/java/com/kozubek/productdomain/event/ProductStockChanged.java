@@ -0,0 +1,7 @@
+package com.kozubek.productdomain.event;
+
+import com.kozubek.ddd.annotation.domaindrivendesign.DomainEvent;
+
+@DomainEvent
+public record ProductStockChanged(int quantity) implements ProductChange {
+}
@@ -0,0 +1,13 @@
+package com.kozubek.productdomain.event;
+
+import com.kozubek.ddd.annotation.domaindrivendesign.DomainEvent;
+import com.kozubek.productdomain.core.Product;
+
+import java.time.Instant;
+
+@DomainEvent
+public class ProductUpdatedEvent extends ProductEvent {
+	public ProductUpdatedEvent(final Product product, final Instant createdAt) {
+		super(product, createdAt);
+	}
+}
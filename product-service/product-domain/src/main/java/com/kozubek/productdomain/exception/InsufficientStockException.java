@@ -0,0 +1,7 @@
+package com.kozubek.productdomain.exception;
+
+public class InsufficientStockException extends ProductDomainException {
+    public InsufficientStockException(final String message) {
+        super(message);
+    }
+}
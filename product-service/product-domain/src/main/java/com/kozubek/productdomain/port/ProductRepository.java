@@ -1,9 +1,39 @@
 package com.kozubek.productdomain.port;
 
+import com.kozubek.commondomain.vo.ProductId;
 import com.kozubek.ddd.annotation.domaindrivendesign.DomainRepository;
 import com.kozubek.productdomain.core.Product;
 
+import java.util.Optional;
+
 @DomainRepository
 public interface ProductRepository {
-    void save(Product product);
+    /**
+     * Stores a new product.
+     *
+     * @return the product with the version it was stored at
+     */
+    Product save(Product product);
+
+    Optional<Product> findById(ProductId productId);
+
+    /**
+     * Reads only the current version of a product, the one a conditional update expects.
+     */
+    Optional<Long> findVersion(ProductId productId);
+
+    /**
+     * Persists changes of a loaded product, failing when it was modified since it was read.
+     *
+     * @return the product with its new version
+     */
+    Product update(Product product);
+
+    /**
+     * Atomically adds {@code delta} to the stock and recalculates the status, without reading the product first.
+     *
+     * @return the product after the change, empty when it does not exist
+     * @throws com.kozubek.productdomain.exception.InsufficientStockException when the stock would drop below zero
+     */
+    Optional<Product> adjustStock(ProductId productId, int delta);
 }
@@ -0,0 +1,90 @@
+package com.kozubek.productdomain.core;
+
+import com.kozubek.commondomain.vo.Money;
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.commondomain.vo.UserId;
+import com.kozubek.productdomain.event.ProductChange;
+import com.kozubek.productdomain.event.ProductPriceChanged;
+import com.kozubek.productdomain.event.ProductRegistered;
+import com.kozubek.productdomain.event.ProductStatusChanged;
+import com.kozubek.productdomain.event.ProductStockChanged;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Product Event Sourcing Tests")
+class ProductRehydrationTest {
+
+    @Test
+    @DisplayName("Should describe a new product with a single registration event")
+    void shouldDescribeNewProductWithRegistrationEvent() {
+        // given
+        final Product product = newProduct();
+
+        // when
+        final List<ProductChange> changes = product.changesSince(null);
+
+        // then
+        assertThat(changes).singleElement().isInstanceOfSatisfying(ProductRegistered.class, registered -> {
+            assertThat(registered.productId()).isEqualTo(product.getId().id());
+            assertThat(registered.price()).isEqualByComparingTo("25.00");
+            assertThat(registered.quantity()).isEqualTo(20);
+            assertThat(registered.status()).isEqualTo(ProductStatus.AVAILABLE);
+        });
+    }
+
+    @Test
+    @DisplayName("Should emit only the fields that differ from the previous state")
+    void shouldEmitOnlyChangedFields() {
+        // given
+        final Product previous = newProduct();
+        final Product current = Product.rehydrate(previous.toSnapshot(), List.of(new ProductStockChanged(5), new ProductStatusChanged(ProductStatus.LAST_PIECES)));
+
+        // when
+        final List<ProductChange> changes = current.changesSince(previous);
+
+        // then
+        assertThat(changes).containsExactly(new ProductStockChanged(5), new ProductStatusChanged(ProductStatus.LAST_PIECES));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the same state from a snapshot and its tail as from the full stream")
+    void shouldRebuildSameStateFromSnapshotAndTail() {
+        // given
+        final Product product = newProduct();
+        final List<ProductChange> stream = List.of(
+                product.changesSince(null).getFirst(),
+                new ProductPriceChanged(new BigDecimal("30.00")),
+                new ProductStockChanged(8),
+                new ProductStatusChanged(ProductStatus.LAST_PIECES),
+                new ProductPriceChanged(new BigDecimal("27.50")));
+        final ProductSnapshot snapshotAtVersion3 = Product.rehydrate(null, stream.subList(0, 3)).toSnapshot();
+
+        // when
+        final Product fromEvents = Product.rehydrate(null, stream);
+        final Product fromSnapshot = Product.rehydrate(snapshotAtVersion3, stream.subList(3, stream.size()));
+
+        // then
+        assertThat(fromSnapshot.toSnapshot()).isEqualTo(fromEvents.toSnapshot());
+        assertThat(fromEvents.getPrice()).isEqualTo(new Money(new BigDecimal("27.50")));
+        assertThat(fromEvents.getQuantity()).isEqualTo(8);
+        assertThat(fromEvents.getStatus()).isEqualTo(ProductStatus.LAST_PIECES);
+    }
+
+    private static Product newProduct() {
+        final Product product = Product.builder()
+                .userId(new UserId(UUID.randomUUID()))
+                .code("ES-001")
+                .name("Event sourced product")
+                .price(new Money(new BigDecimal("25.00")))
+                .quantity(20)
+                .build();
+        product.initialize();
+        return product;
+    }
+}
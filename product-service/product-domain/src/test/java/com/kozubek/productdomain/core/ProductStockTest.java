@@ -0,0 +1,126 @@
+package com.kozubek.productdomain.core;
+
+import com.kozubek.commondomain.vo.Money;
+import com.kozubek.commondomain.vo.ProductId;
+import com.kozubek.commondomain.vo.ProductStatus;
+import com.kozubek.commondomain.vo.UserId;
+import com.kozubek.productdomain.exception.InsufficientStockException;
+import com.kozubek.productdomain.exception.ProductDomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Product price, stock and status changes")
+class ProductStockTest {
+
+    @ParameterizedTest
+    @DisplayName("Should recalculate status from the quantity left after a stock change")
+    @CsvSource({
+            "20, -20, 0, NOT_AVAILABLE",
+            "20, -11, 9, LAST_PIECES",
+            "20, -10, 10, AVAILABLE",
+            "0, 5, 5, LAST_PIECES",
+            "5, 30, 35, AVAILABLE"
+    })
+    void shouldRecalculateStatusAfterStockChange(final int quantity, final int delta, final int expectedQuantity, final ProductStatus expectedStatus) {
+        // given
+        final Product product = product(quantity);
+
+        // when
+        product.adjustStock(delta);
+
+        // then
+        assertThat(product.getQuantity()).isEqualTo(expectedQuantity);
+        assertThat(product.getStatus()).isEqualTo(expectedStatus);
+    }
+
+    @Test
+    @DisplayName("Should reject a stock change that would go below zero and keep the product unchanged")
+    void shouldRejectNegativeStock() {
+        // given
+        final Product product = product(3);
+
+        // when / then
+        assertThatThrownBy(() -> product.adjustStock(-4))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("3 left, 4 requested");
+        assertThat(product.getQuantity()).isEqualTo(3);
+        assertThat(product.getStatus()).isEqualTo(ProductStatus.LAST_PIECES);
+    }
+
+    @Test
+    @DisplayName("Should always allow withdrawing a product from sale")
+    void shouldAllowWithdrawingProduct() {
+        // given
+        final Product product = product(50);
+
+        // when
+        product.changeStatus(ProductStatus.NOT_AVAILABLE);
+
+        // then
+        assertThat(product.getStatus()).isEqualTo(ProductStatus.NOT_AVAILABLE);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should keep a product withdrawn from sale when its stock changes")
+    @CsvSource({
+            "50, -45",
+            "50, 20",
+            "5, 30"
+    })
+    void shouldKeepWithdrawnProductAfterStockChange(final int quantity, final int delta) {
+        // given
+        final Product product = product(quantity);
+        product.changeStatus(ProductStatus.NOT_AVAILABLE);
+
+        // when
+        product.adjustStock(delta);
+
+        // then
+        assertThat(product.getQuantity()).isEqualTo(quantity + delta);
+        assertThat(product.getStatus()).isEqualTo(ProductStatus.NOT_AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("Should reject a status that does not match the stock quantity")
+    void shouldRejectStatusNotMatchingQuantity() {
+        // given
+        final Product product = product(50);
+
+        // when / then
+        assertThatThrownBy(() -> product.changeStatus(ProductStatus.LAST_PIECES))
+                .isInstanceOf(ProductDomainException.class)
+                .hasMessageContaining("LAST_PIECES");
+    }
+
+    @Test
+    @DisplayName("Should reject a price that is not greater than zero")
+    void shouldRejectNonPositivePrice() {
+        // given
+        final Product product = product(50);
+
+        // when / then
+        assertThatThrownBy(() -> product.changePrice(new Money(BigDecimal.ZERO)))
+                .isInstanceOf(ProductDomainException.class);
+    }
+
+    private static Product product(final int quantity) {
+        return Product.builder()
+                .id(new ProductId(UUID.randomUUID()))
+                .userId(new UserId(UUID.randomUUID()))
+                .code("P-100")
+                .name("Stocked product")
+                .price(new Money(BigDecimal.valueOf(25)))
+                .quantity(quantity)
+                .status(Product.statusForQuantity(quantity))
+                .version(0L)
+                .build();
+    }
+}
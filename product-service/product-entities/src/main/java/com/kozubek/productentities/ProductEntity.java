@@ -35,4 +35,6 @@ public class ProductEntity implements Serializable {
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private ProductStatus status;
+    @Version
+    private Long version;
 }
@@ -1,17 +1,11 @@
 package com.kozubek.productentities;
 
+import com.kozubek.ddd.annotation.mapping.Mapper;
+import com.kozubek.ddd.annotation.mapping.Mapping;
 import com.kozubek.productapplication.query.dto.ProductProjection;
 
-public class ProductEntityQueryMapper {
-    public ProductProjection productToProductProjection(final ProductEntity product) {
-        return ProductProjection.builder()
-                .productId(product.getId())
-                .userId(product.getUserId())
-                .code(product.getCode())
-                .name(product.getName())
-                .price(product.getPrice())
-                .quantity(product.getQuantity())
-                .status(product.getStatus())
-                .build();
-    }
+@Mapper
+public interface ProductEntityQueryMapper {
+    @Mapping(target = "productId", source = "id")
+    ProductProjection productToProductProjection(ProductReadModelEntity product);
 }
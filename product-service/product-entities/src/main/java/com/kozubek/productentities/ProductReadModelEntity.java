@@ -0,0 +1,54 @@
+package com.kozubek.productentities;
+
+import com.kozubek.commondomain.vo.ProductStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Denormalised product view maintained by the read model projector, never written through JPA.
+ */
+@Entity
+@Immutable
+@AllArgsConstructor
+@Builder
+@NoArgsConstructor
+@Getter
+@Setter
+@Table(name = "product_read_model")
+public class ProductReadModelEntity implements Serializable {
+
+    @Id
+    private UUID id;
+    @Column(nullable = false)
+    private UUID userId;
+    @Column(nullable = false)
+    private String code;
+    @Column(nullable = false)
+    private String name;
+    @Column(nullable = false)
+    private BigDecimal price;
+    @Column(nullable = false)
+    private Integer quantity;
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ProductStatus status;
+    @Column(nullable = false)
+    private Long version;
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
@@ -9,7 +9,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EnableDiscoveryClient
 @EnableJpaRepositories(basePackages = {"com.kozubek.productadapters.repository"})
 @EntityScan(basePackages = {"com.kozubek.productentities"})
-@SpringBootApplication(scanBasePackages = "com.kozubek")
+@SpringBootApplication(scanBasePackages = {"com.kozubek.productadapters", "com.kozubek.productapplication", "com.kozubek.kafka", "com.kozubek.observability", "com.kozubek.commonentity"})
 public class ProductStarterApplication {
 
 	public static void main(final String[] args) {
@@ -0,0 +1,5 @@
+SET
+search_path TO "product";
+
+ALTER TABLE "product".products
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
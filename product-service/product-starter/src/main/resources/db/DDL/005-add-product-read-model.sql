@@ -0,0 +1,22 @@
+SET
+search_path TO "product";
+
+CREATE TABLE IF NOT EXISTS "product".product_read_model
+(
+    id         UUID                     NOT NULL,
+    user_id    UUID                     NOT NULL,
+    code       VARCHAR(255)             NOT NULL,
+    name       VARCHAR(255)             NOT NULL,
+    price      NUMERIC                  NOT NULL,
+    quantity   INTEGER                  NOT NULL,
+    status     VARCHAR(255)             NOT NULL,
+    version    BIGINT                   NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT product_read_model_pk PRIMARY KEY (id)
+);
+
+-- produkty utworzone przed wprowadzeniem modelu odczytu
+INSERT INTO "product".product_read_model (id, user_id, code, name, price, quantity, status, version)
+SELECT id, user_id, code, name, price, quantity::INTEGER, status, version
+FROM "product".products
+ON CONFLICT (id) DO NOTHING;
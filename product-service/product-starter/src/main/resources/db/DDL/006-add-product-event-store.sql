@@ -0,0 +1,25 @@
+SET
+search_path TO "product";
+
+CREATE TABLE IF NOT EXISTS "product".product_events
+(
+    product_id  UUID                     NOT NULL,
+    version     BIGINT                   NOT NULL,
+    event_type  VARCHAR(64)              NOT NULL,
+    payload     JSONB                    NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT product_events_pk PRIMARY KEY (product_id, version)
+);
+
+-- dziennik zdarzeń jest tylko do dopisywania
+CREATE OR REPLACE RULE product_events_no_update AS ON UPDATE TO "product".product_events DO INSTEAD NOTHING;
+CREATE OR REPLACE RULE product_events_no_delete AS ON DELETE TO "product".product_events DO INSTEAD NOTHING;
+
+CREATE TABLE IF NOT EXISTS "product".product_snapshots
+(
+    product_id UUID                     NOT NULL,
+    version    BIGINT                   NOT NULL,
+    payload    JSONB                    NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT product_snapshots_pk PRIMARY KEY (product_id)
+);
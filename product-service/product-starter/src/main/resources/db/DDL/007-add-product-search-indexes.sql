@@ -0,0 +1,18 @@
+SET
+search_path TO "product";
+
+-- trigramy: LIKE '%fraza%' po nazwie i kodzie bez pełnego skanu tabeli (działa dla fraz od 3 znaków)
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA "product";
+
+CREATE INDEX IF NOT EXISTS product_read_model_name_trgm_idx
+    ON "product".product_read_model USING GIN (lower(name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS product_read_model_code_trgm_idx
+    ON "product".product_read_model USING GIN (lower(code) gin_trgm_ops);
+
+-- krótsze frazy szukane są tylko po prefiksie - wystarczy B-tree z text_pattern_ops (niezależny od collation)
+CREATE INDEX IF NOT EXISTS product_read_model_name_prefix_idx
+    ON "product".product_read_model (lower(name) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS product_read_model_code_prefix_idx
+    ON "product".product_read_model (lower(code) text_pattern_ops);
@@ -0,0 +1,44 @@
+--liquibase formatted sql
+
+--changeset product-service:008-add-product-code-unique-index splitStatements:false
+SET search_path TO "product";
+
+-- istniejące duplikaty kodu trzeba rozstrzygnąć ręcznie - migracja przerywa się z listą kodów i id produktów,
+-- zamiast samodzielnie zmieniać kody, które mogą być już używane poza serwisem
+DO
+$$
+DECLARE
+    duplicates TEXT;
+BEGIN
+    SELECT string_agg(code || ': ' || ids, '; ' ORDER BY code)
+    INTO duplicates
+    FROM (SELECT code, string_agg(id::TEXT, ', ' ORDER BY id) AS ids
+          FROM (SELECT code, id
+                FROM "product".products
+                UNION
+                SELECT payload ->> 'code', product_id
+                FROM "product".product_events
+                WHERE event_type = 'ProductRegistered') claimed
+          GROUP BY code
+          HAVING count(*) > 1) duplicated;
+
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Duplicate product codes must be resolved before adding the unique index: %', duplicates;
+    END IF;
+END;
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS products_code_uidx ON "product".products (code);
+
+-- tryb event sourcing: kod zajmowany przy rozpoczęciu strumienia produktu
+CREATE TABLE IF NOT EXISTS "product".product_codes
+(
+    code       VARCHAR(255) NOT NULL,
+    product_id UUID         NOT NULL,
+    CONSTRAINT product_codes_pk PRIMARY KEY (code)
+);
+
+INSERT INTO "product".product_codes (code, product_id)
+SELECT payload ->> 'code', product_id
+FROM "product".product_events
+WHERE event_type = 'ProductRegistered';
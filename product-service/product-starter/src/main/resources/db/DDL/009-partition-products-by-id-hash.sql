@@ -0,0 +1,73 @@
+--liquibase formatted sql
+
+--changeset product-service:009-partition-products-by-id-hash splitStatements:false
+-- products dzielone hashem id na 8 partycji: mniejsze indeksy i VACUUM per partycja.
+-- Indeks unikalny na partycjonowanej tabeli musi zawierać klucz partycji, więc unikalność kodu
+-- przejmuje product_codes (jak w trybie event sourcing), wypełniana wyzwalaczem.
+SET search_path TO "product";
+
+ALTER TABLE "product".products RENAME TO products_unpartitioned;
+ALTER TABLE "product".products_unpartitioned RENAME CONSTRAINT products_pk TO products_unpartitioned_pk;
+DROP INDEX IF EXISTS "product".products_code_uidx;
+
+CREATE TABLE "product".products
+(
+    id       UUID         NOT NULL,
+    user_id  UUID         NOT NULL,
+    code     VARCHAR(255) NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    price    NUMERIC      NOT NULL,
+    quantity NUMERIC      NOT NULL,
+    status   VARCHAR(255) NOT NULL,
+    version  BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT products_pk PRIMARY KEY (id)
+) PARTITION BY HASH (id);
+
+CREATE TABLE "product".products_p0 PARTITION OF "product".products FOR VALUES WITH (MODULUS 8, REMAINDER 0);
+CREATE TABLE "product".products_p1 PARTITION OF "product".products FOR VALUES WITH (MODULUS 8, REMAINDER 1);
+CREATE TABLE "product".products_p2 PARTITION OF "product".products FOR VALUES WITH (MODULUS 8, REMAINDER 2);
+CREATE TABLE "product".products_p3 PARTITION OF "product".products FOR VALUES WITH (MODULUS 8, REMAINDER 3);
+CREATE TABLE "product".products_p4 PARTITION OF "product".products FOR VALUES WITH (MODULUS 8, REMAINDER 4);
+CREATE TABLE "product".products_p5 PARTITION OF "product".products FOR VALUES WITH (MODULUS 8, REMAINDER 5);
+CREATE TABLE "product".products_p6 PARTITION OF "product".products FOR VALUES WITH (MODULUS 8, REMAINDER 6);
+CREATE TABLE "product".products_p7 PARTITION OF "product".products FOR VALUES WITH (MODULUS 8, REMAINDER 7);
+
+INSERT INTO "product".products (id, user_id, code, name, price, quantity, status, version)
+SELECT id, user_id, code, name, price, quantity, status, version
+FROM "product".products_unpartitioned;
+
+DROP TABLE "product".products_unpartitioned;
+
+INSERT INTO "product".product_codes (code, product_id)
+SELECT code, id
+FROM "product".products
+ON CONFLICT (code) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION "product".products_claim_code() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        DELETE FROM "product".product_codes WHERE code = OLD.code AND product_id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        -- duplikat kończy się naruszeniem product_codes_pk w tej samej transakcji co zapis produktu
+        INSERT INTO "product".product_codes (code, product_id) VALUES (NEW.code, NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER products_claim_code
+    AFTER INSERT OR DELETE
+    ON "product".products
+    FOR EACH ROW
+EXECUTE FUNCTION "product".products_claim_code();
+
+-- Hibernate w UPDATE ustawia wszystkie kolumny, więc warunek zamiast samego "UPDATE OF code"
+CREATE TRIGGER products_reclaim_code
+    AFTER UPDATE OF code
+    ON "product".products
+    FOR EACH ROW
+    WHEN (OLD.code IS DISTINCT FROM NEW.code)
+EXECUTE FUNCTION "product".products_claim_code();
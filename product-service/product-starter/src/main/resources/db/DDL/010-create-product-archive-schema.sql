@@ -0,0 +1,2 @@
+-- odłączone, zimne partycje tabel partycjonowanych miesięcznie (PartitionArchiver)
+CREATE SCHEMA IF NOT EXISTS "product_archive";
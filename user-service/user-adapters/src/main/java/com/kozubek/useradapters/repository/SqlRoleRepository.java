@@ -1,5 +1,6 @@
 package com.kozubek.useradapters.repository;
 
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
 import com.kozubek.userdomain.core.Role;
 import com.kozubek.userdomain.port.RoleRepository;
 import com.kozubek.userentities.RoleEntity;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Set;
 import java.util.UUID;
 
+@DrivenAdapter
 @Repository
 @RequiredArgsConstructor
 public class SqlRoleRepository implements RoleRepository {
@@ -1,5 +1,6 @@
 package com.kozubek.useradapters.repository;
 
+import com.kozubek.ddd.annotation.architecture.portsandadapters.DrivenAdapter;
 import com.kozubek.userdomain.core.User;
 import com.kozubek.userdomain.port.UserRepository;
 import com.kozubek.userentities.UserEntity;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.UUID;
 
+@DrivenAdapter
 @Repository
 @RequiredArgsConstructor
 public class SqlUserRepository implements UserRepository {
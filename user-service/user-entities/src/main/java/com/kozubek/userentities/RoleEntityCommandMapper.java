@@ -1,39 +1,19 @@
 package com.kozubek.userentities;
 
+import com.kozubek.ddd.annotation.mapping.Mapper;
 import com.kozubek.userdomain.core.Role;
-import org.springframework.stereotype.Component;
 
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 
-@Component
-public class RoleEntityCommandMapper {
+@Mapper(component = true)
+public interface RoleEntityCommandMapper {
 
-    public Set<Role> roleEntitiesToRoles(Collection<RoleEntity> roleEntities) {
-        Set<Role> roles = new HashSet<>();
-        for (RoleEntity roleEntity : roleEntities) {
-            roles.add(roleEntityToRole(roleEntity));
-        }
-        return roles;
-    }
+    Set<Role> roleEntitiesToRoles(Collection<RoleEntity> roleEntities);
 
-    private Role roleEntityToRole(RoleEntity roleEntity) {
-        return new Role(roleEntity.getId(), roleEntity.getName());
-    }
+    Role roleEntityToRole(RoleEntity roleEntity);
 
-    public Set<RoleEntity> rolesToRoleEntities(Set<Role> roles) {
-        Set<RoleEntity> roleEntities = new HashSet<>();
-        for (Role role : roles) {
-            roleEntities.add(roleToRoleEntity(role));
-        }
-        return roleEntities;
-    }
+    Set<RoleEntity> rolesToRoleEntities(Set<Role> roles);
 
-    private RoleEntity roleToRoleEntity(Role role) {
-        return RoleEntity.builder()
-                .id(role.getId().id())
-                .name(role.getName())
-                .build();
-    }
+    RoleEntity roleToRoleEntity(Role role);
 }
@@ -1,5 +1,6 @@
 package com.kozubek.userentities;
 
+import com.kozubek.commonentity.AssignedIdentifierEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,7 @@ import java.util.UUID;
 @Setter
 @Entity
 @Table(name = "users")
-public class UserEntity {
+public class UserEntity extends AssignedIdentifierEntity {
     @Id
     private UUID id;
     @Column(unique = true, nullable = false)
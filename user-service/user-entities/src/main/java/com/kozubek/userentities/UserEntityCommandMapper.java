@@ -11,6 +11,7 @@ public class UserEntityCommandMapper {
 
     private final RoleEntityCommandMapper roleEntityCommandMapper;
 
+    // User ma tylko builder - konstruktor z @Builder nie jest widoczny poza pakietem domeny
     public User userEntityToUser(UserEntity userEntity) {
         return User.builder()
                 .id(new UserId(userEntity.getId()))
@@ -22,12 +23,11 @@ public class UserEntityCommandMapper {
     }
 
     public UserEntity userToUserEntity(User user) {
-        return UserEntity.builder()
-                .id(user.getId().id())
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .email(user.getEmail())
-                .roleEntities(roleEntityCommandMapper.rolesToRoleEntities(user.getRoles()))
-                .build();
+        return new UserEntity(
+                user.getId().id(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getEmail(),
+                roleEntityCommandMapper.rolesToRoleEntities(user.getRoles()));
     }
 }
@@ -9,7 +9,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EnableDiscoveryClient
 @EnableJpaRepositories(basePackages = {"com.kozubek.useradapters.repository"})
 @EntityScan(basePackages = {"com.kozubek.userentities"})
-@SpringBootApplication(scanBasePackages = "com.kozubek")
+@SpringBootApplication(scanBasePackages = {"com.kozubek.useradapters", "com.kozubek.userapplication", "com.kozubek.userdomain", "com.kozubek.userentities", "com.kozubek.observability"})
 public class UserStarterApplication {
     public static void main(String[] args) {
         SpringApplication.run(UserStarterApplication.class, args);